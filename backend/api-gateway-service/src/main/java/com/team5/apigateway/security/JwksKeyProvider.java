@@ -0,0 +1,116 @@
+package com.team5.apigateway.security;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.web.reactive.function.client.WebClient;
+import reactor.core.publisher.Mono;
+
+import java.math.BigInteger;
+import java.security.GeneralSecurityException;
+import java.security.KeyFactory;
+import java.security.PublicKey;
+import java.security.spec.RSAPublicKeySpec;
+import java.time.Duration;
+import java.util.Base64;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Local copy of auth-service's token signing keys, fetched from its JWKS endpoint without
+ * blocking the event loop. Refreshed in the background, and on demand (at most once per
+ * {@code jwt.jwks.min-refresh-ms}) when a token names a kid we have not seen.
+ */
+@Component
+public class JwksKeyProvider {
+
+    private static final Logger logger = LoggerFactory.getLogger(JwksKeyProvider.class);
+    private static final Duration FETCH_TIMEOUT = Duration.ofSeconds(2);
+
+    private final WebClient webClient;
+    private final String jwksUri;
+    private final long minRefreshMillis;
+    private final AtomicLong lastRefresh = new AtomicLong();
+
+    private volatile Map<String, PublicKey> keys = Map.of();
+
+    public JwksKeyProvider(WebClient.Builder webClientBuilder,
+                           @Value("${jwt.jwks.uri:http://localhost:8081/api/auth/.well-known/jwks.json}") String jwksUri,
+                           @Value("${jwt.jwks.min-refresh-ms:30000}") long minRefreshMillis) {
+        this.webClient = webClientBuilder.build();
+        this.jwksUri = jwksUri;
+        this.minRefreshMillis = minRefreshMillis;
+    }
+
+    /**
+     * Public key for the kid from the current key set, without fetching
+     */
+    public PublicKey cached(String kid) {
+        return keys.get(kid);
+    }
+
+    /**
+     * Completes once the kid is known or an early refresh has been attempted
+     */
+    public Mono<Void> ensure(String kid) {
+        if (keys.containsKey(kid)) {
+            return Mono.empty();
+        }
+        long last = lastRefresh.get();
+        long now = System.currentTimeMillis();
+        if (now - last < minRefreshMillis || !lastRefresh.compareAndSet(last, now)) {
+            return Mono.empty();
+        }
+        return fetch();
+    }
+
+    @Scheduled(fixedDelayString = "${jwt.jwks.refresh-ms:300000}", initialDelay = 0)
+    public void refresh() {
+        lastRefresh.set(System.currentTimeMillis());
+        fetch().subscribe();
+    }
+
+    private Mono<Void> fetch() {
+        return webClient.get()
+                .uri(jwksUri)
+                .retrieve()
+                .bodyToMono(JsonNode.class)
+                .timeout(FETCH_TIMEOUT)
+                .doOnNext(jwks -> {
+                    Map<String, PublicKey> fetched = parse(jwks);
+                    if (!fetched.isEmpty()) {
+                        keys = Map.copyOf(fetched);
+                        logger.debug("Loaded {} token signing keys from {}", fetched.size(), jwksUri);
+                    }
+                })
+                // Keep the keys we have; tokens signed with them still validate
+                .doOnError(e -> logger.warn("Could not refresh token signing keys from {}: {}", jwksUri, e.getMessage()))
+                .onErrorResume(e -> Mono.empty())
+                .then();
+    }
+
+    static Map<String, PublicKey> parse(JsonNode jwks) {
+        Map<String, PublicKey> parsed = new HashMap<>();
+        if (jwks == null || !jwks.path("keys").isArray()) {
+            return parsed;
+        }
+        for (JsonNode jwk : jwks.path("keys")) {
+            if (!"RSA".equals(jwk.path("kty").asText()) || !jwk.hasNonNull("kid")) {
+                continue;
+            }
+            try {
+                BigInteger modulus = new BigInteger(1, Base64.getUrlDecoder().decode(jwk.path("n").asText()));
+                BigInteger exponent = new BigInteger(1, Base64.getUrlDecoder().decode(jwk.path("e").asText()));
+                parsed.put(jwk.get("kid").asText(),
+                        KeyFactory.getInstance("RSA").generatePublic(new RSAPublicKeySpec(modulus, exponent)));
+            } catch (GeneralSecurityException | IllegalArgumentException e) {
+                logger.warn("Skipping invalid JWK {}: {}", jwk.path("kid").asText(), e.getMessage());
+            }
+        }
+        return parsed;
+    }
+}
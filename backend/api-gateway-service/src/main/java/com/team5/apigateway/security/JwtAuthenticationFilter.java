@@ -0,0 +1,128 @@
+package com.team5.apigateway.security;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwsHeader;
+import io.jsonwebtoken.JwtException;
+import io.jsonwebtoken.JwtParser;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.SigningKeyResolverAdapter;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cloud.gateway.filter.GatewayFilterChain;
+import org.springframework.cloud.gateway.filter.GlobalFilter;
+import org.springframework.core.Ordered;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.server.reactive.ServerHttpResponse;
+import org.springframework.stereotype.Component;
+import org.springframework.web.server.ServerWebExchange;
+import reactor.core.publisher.Mono;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.security.Key;
+import java.util.Base64;
+
+/**
+ * Validates bearer tokens once at the edge against auth-service's published keys,
+ * selecting the key by the token's kid, and rejects invalid or expired tokens before
+ * they are routed. Requests without a token pass through; downstream services decide
+ * which endpoints are public. While jwt.accept-legacy-hmac is on, tokens signed with
+ * the old shared secret are forwarded unchecked, since the gateway never held it.
+ */
+@Component
+public class JwtAuthenticationFilter implements GlobalFilter, Ordered {
+
+    private static final Logger logger = LoggerFactory.getLogger(JwtAuthenticationFilter.class);
+    private static final String BEARER = "Bearer ";
+
+    private final JwksKeyProvider keyProvider;
+    private final boolean acceptLegacyHmac;
+    private final ObjectMapper objectMapper;
+    private final JwtParser parser;
+
+    public JwtAuthenticationFilter(JwksKeyProvider keyProvider,
+                                   ObjectMapper objectMapper,
+                                   @Value("${jwt.accept-legacy-hmac:false}") boolean acceptLegacyHmac) {
+        this.keyProvider = keyProvider;
+        this.objectMapper = objectMapper;
+        this.acceptLegacyHmac = acceptLegacyHmac;
+        // The resolver only reads the local key set; fetching happens before parsing, off the parser
+        this.parser = Jwts.parserBuilder()
+                .setSigningKeyResolver(new SigningKeyResolverAdapter() {
+                    @Override
+                    public Key resolveSigningKey(JwsHeader header, Claims claims) {
+                        Key key = header.getKeyId() != null ? keyProvider.cached(header.getKeyId()) : null;
+                        if (key == null) {
+                            throw new JwtException("Unknown signing key: " + header.getKeyId());
+                        }
+                        return key;
+                    }
+                })
+                .build();
+    }
+
+    @Override
+    public Mono<Void> filter(ServerWebExchange exchange, GatewayFilterChain chain) {
+        String authHeader = exchange.getRequest().getHeaders().getFirst(HttpHeaders.AUTHORIZATION);
+        if (authHeader == null || !authHeader.startsWith(BEARER)) {
+            return chain.filter(exchange);
+        }
+        String token = authHeader.substring(BEARER.length());
+
+        JsonNode header = readHeader(token);
+        if (header == null) {
+            return reject(exchange.getResponse(), "Malformed token");
+        }
+        String algorithm = header.path("alg").asText();
+        if (algorithm.startsWith("HS")) {
+            return acceptLegacyHmac ? chain.filter(exchange) : reject(exchange.getResponse(), "Unsupported token algorithm");
+        }
+        if (!"RS256".equals(algorithm) || !header.hasNonNull("kid")) {
+            return reject(exchange.getResponse(), "Unsupported token algorithm");
+        }
+
+        return keyProvider.ensure(header.get("kid").asText())
+                .then(Mono.fromCallable(() -> {
+                    Claims claims = parser.parseClaimsJws(token).getBody();
+                    // Refresh tokens are only good for /auth/refresh, which takes them in the body
+                    return !"refresh".equals(claims.get("typ"));
+                }))
+                .onErrorResume(JwtException.class, e -> {
+                    logger.debug("Rejecting invalid bearer token: {}", e.getMessage());
+                    return Mono.just(false);
+                })
+                .flatMap(valid -> valid ? chain.filter(exchange) : reject(exchange.getResponse(), "Invalid or expired token"));
+    }
+
+    @Override
+    public int getOrder() {
+        // Before routing, so that invalid tokens never reach a downstream service
+        return Ordered.HIGHEST_PRECEDENCE + 10;
+    }
+
+    private JsonNode readHeader(String token) {
+        int dot = token.indexOf('.');
+        if (dot <= 0) {
+            return null;
+        }
+        try {
+            return objectMapper.readTree(Base64.getUrlDecoder().decode(token.substring(0, dot)));
+        } catch (IOException | IllegalArgumentException e) {
+            return null;
+        }
+    }
+
+    private static Mono<Void> reject(ServerHttpResponse response, String message) {
+        response.setStatusCode(HttpStatus.UNAUTHORIZED);
+        response.getHeaders().setContentType(MediaType.APPLICATION_JSON);
+        DataBuffer body = response.bufferFactory()
+                .wrap(("{\"success\":false,\"message\":\"" + message + "\"}").getBytes(StandardCharsets.UTF_8));
+        return response.writeWith(Mono.just(body));
+    }
+}
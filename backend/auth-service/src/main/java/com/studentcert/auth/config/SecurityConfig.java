@@ -2,6 +2,7 @@ package com.studentcert.auth.config;
 
 import com.studentcert.auth.security.JwtAuthenticationFilter;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.context.annotation.Lazy;
@@ -31,9 +32,12 @@ public class SecurityConfig {
         this.jwtAuthenticationFilter = jwtAuthenticationFilter;
     }
 
+    /**
+     * Raising the strength upgrades existing hashes transparently on each user's next login
+     */
     @Bean
-    public PasswordEncoder passwordEncoder() {
-        return new BCryptPasswordEncoder(12);
+    public PasswordEncoder passwordEncoder(@Value("${app.password.bcrypt-strength:12}") int strength) {
+        return new BCryptPasswordEncoder(strength);
     }
 
     @Bean
@@ -45,12 +49,15 @@ public class SecurityConfig {
             .authorizeHttpRequests(authz -> authz
                 .requestMatchers(HttpMethod.POST, "/api/auth/register").permitAll()
                 .requestMatchers(HttpMethod.POST, "/api/auth/login").permitAll()
+                .requestMatchers(HttpMethod.POST, "/api/auth/refresh").permitAll()
                 .requestMatchers(HttpMethod.GET, "/api/health").permitAll()
+                .requestMatchers(HttpMethod.GET, "/actuator/health").permitAll()
+                .requestMatchers(HttpMethod.GET, "/api/auth/.well-known/jwks.json").permitAll()  // Token signing keys for other services
                 .requestMatchers(HttpMethod.GET, "/api/users/universities").permitAll()  // Public endpoint for university list
                 .requestMatchers(HttpMethod.GET, "/api/users/email/**").permitAll()  // For certificate service to fetch user by email
                 .requestMatchers(HttpMethod.GET, "/api/users/{id}").permitAll()  // For certificate service to fetch user by ID
                 .requestMatchers("/api/admin/**").hasRole("ADMIN")
-                .requestMatchers("/api/auth/logout").authenticated()
+                .requestMatchers(HttpMethod.POST, "/api/auth/logout").permitAll()  // Revokes only the tokens it is given
                 .requestMatchers("/api/auth/me").authenticated()
                 .anyRequest().authenticated()
             )
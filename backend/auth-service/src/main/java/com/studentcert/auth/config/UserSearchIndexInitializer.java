@@ -0,0 +1,53 @@
+package com.studentcert.auth.config;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+/**
+ * Creates the pg_trgm indexes behind admin user search. JPA cannot declare expression
+ * or GIN indexes, so ddl-auto leaves them to us. Indexes are built CONCURRENTLY so that
+ * the first start against a large users table does not block registrations.
+ */
+@Component
+public class UserSearchIndexInitializer implements ApplicationRunner {
+
+    private static final Logger logger = LoggerFactory.getLogger(UserSearchIndexInitializer.class);
+
+    private static final String[] INDEXES = {
+        "CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_user_email_trgm ON users USING gin (lower(email) gin_trgm_ops)",
+        "CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_user_full_name_trgm ON users USING gin (lower(full_name) gin_trgm_ops)",
+        "CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_user_uid_trgm ON users USING gin (lower(uid) gin_trgm_ops)"
+    };
+
+    private final JdbcTemplate jdbcTemplate;
+    private final boolean enabled;
+
+    public UserSearchIndexInitializer(JdbcTemplate jdbcTemplate,
+                                      @Value("${app.users.search.create-indexes:true}") boolean enabled) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.enabled = enabled;
+    }
+
+    @Override
+    public void run(ApplicationArguments args) {
+        if (!enabled) {
+            return;
+        }
+        try {
+            jdbcTemplate.execute("CREATE EXTENSION IF NOT EXISTS pg_trgm");
+            for (String ddl : INDEXES) {
+                jdbcTemplate.execute(ddl);
+            }
+            logger.info("User search trigram indexes are in place");
+        } catch (DataAccessException e) {
+            // Search still works without them, as a sequential scan
+            logger.warn("Could not create user search indexes (pg_trgm may need a superuser): {}", e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,44 @@
+package com.studentcert.auth.controller;
+
+import com.studentcert.auth.dto.ApiResponse;
+import com.studentcert.auth.dto.UserStatsDto;
+import com.studentcert.auth.service.UserStatsService;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.*;
+
+@RestController
+@RequestMapping("/api/admin/stats")
+@CrossOrigin(origins = "*", maxAge = 3600)
+@PreAuthorize("hasRole('ADMIN')")
+public class AdminStatsController {
+
+    @Autowired
+    private UserStatsService userStatsService;
+
+    /**
+     * User counts by role, verification and activation status, plus recent registrations.
+     * Served from in-memory counters; see reconciledAt for how fresh the database check is.
+     */
+    @GetMapping("/users")
+    public ResponseEntity<ApiResponse<UserStatsDto>> getUserStats() {
+        UserStatsDto stats = userStatsService.current();
+        if (stats == null) {
+            return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                    .body(ApiResponse.<UserStatsDto>builder()
+                            .success(false)
+                            .message("User statistics are not available yet")
+                            .build());
+        }
+
+        ApiResponse<UserStatsDto> response = ApiResponse.<UserStatsDto>builder()
+                .success(true)
+                .message("User statistics retrieved successfully")
+                .data(stats)
+                .build();
+
+        return ResponseEntity.ok(response);
+    }
+}
@@ -8,7 +8,6 @@ import com.studentcert.auth.model.User;
 import com.studentcert.auth.model.UserRole;
 import com.studentcert.auth.service.AdminUserService;
 import org.springframework.beans.factory.annotation.Autowired;
-import org.springframework.data.domain.Page;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.*;
@@ -27,20 +26,11 @@ public class AdminUserController {
             @RequestParam(defaultValue = "0") int page,
             @RequestParam(defaultValue = "20") int size,
             @RequestParam(required = false) String search,
-            @RequestParam(required = false) UserRole role) {
+            @RequestParam(required = false) UserRole role,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "ESTIMATE") AdminUserService.CountMode count) {
         
-        Page<UserDto> users = adminUserService.getUsers(page, size, search, role);
-        
-        PaginatedResponse<UserDto> response = PaginatedResponse.<UserDto>builder()
-                .content(users.getContent())
-                .page(page)
-                .size(size)
-                .totalElements(users.getTotalElements())
-                .totalPages(users.getTotalPages())
-                .first(users.isFirst())
-                .last(users.isLast())
-                .empty(users.isEmpty())
-                .build();
+        PaginatedResponse<UserDto> response = adminUserService.getUsers(page, size, search, role, cursor, count);
         
         return ResponseEntity.ok(response);
     }
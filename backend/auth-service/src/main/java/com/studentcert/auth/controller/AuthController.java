@@ -1,23 +1,27 @@
 package com.studentcert.auth.controller;
 
-import com.fasterxml.jackson.databind.ObjectMapper;
 import com.studentcert.auth.dto.AuthResponse;
-import com.studentcert.auth.dto.EmailRequest;
 import com.studentcert.auth.dto.LoginRequest;
+import com.studentcert.auth.dto.RefreshTokenRequest;
 import com.studentcert.auth.dto.RegisterRequest;
 import com.studentcert.auth.model.User;
 import com.studentcert.auth.model.UserRole;
+import com.studentcert.auth.security.JwtPrincipal;
 import com.studentcert.auth.service.AuthService;
 import com.studentcert.auth.service.JwtService;
-import com.studentcert.auth.service.UidGenerationService;
-import com.studentcert.auth.service.UniversityServiceClient;
-import com.studentcert.auth.service.UserService;
+import com.studentcert.auth.service.LoginThrottledException;
+import com.studentcert.auth.service.PasswordHashingBusyException;
+import com.studentcert.auth.service.RegistrationService;
+import io.jsonwebtoken.JwtException;
+import jakarta.servlet.http.HttpServletRequest;
 import jakarta.validation.Valid;
-import java.util.logging.Logger;
-import org.apache.kafka.common.protocol.types.Field;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Set;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.ResponseEntity;
-import org.springframework.kafka.core.KafkaTemplate;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.*;
 
@@ -33,27 +37,16 @@ public class AuthController {
     private JwtService jwtService;
     
     @Autowired
-    private UserService userService;
-    
-    @Autowired
-    private UidGenerationService uidGenerationService;
-    
-    @Autowired
-    private UniversityServiceClient universityServiceClient;
-
-    @Autowired
-    private KafkaTemplate<String, String> kafkaTemplate;
-
-    @Autowired
-    private ObjectMapper objectMapper;
+    private RegistrationService registrationService;
 
-    Logger logger = Logger.getLogger(AuthController.class.getName());
+    @Value("${app.auth.login-throttle.trusted-proxies:}")
+    private Set<String> trustedProxies;
 
     @PostMapping("/login")
-    public ResponseEntity<AuthResponse> login(@Valid @RequestBody LoginRequest loginRequest) {
+    public ResponseEntity<AuthResponse> login(@Valid @RequestBody LoginRequest loginRequest, HttpServletRequest request) {
         try {
-            User user = authService.authenticate(loginRequest.getEmail(), loginRequest.getPassword());
-            String token = jwtService.generateToken(user);
+            User user = authService.authenticate(loginRequest.getEmail(), loginRequest.getPassword(), clientIp(request));
+            AuthService.Session session = authService.startSession(user);
             
             AuthResponse response = AuthResponse.builder()
                 .success(true)
@@ -63,13 +56,26 @@ public class AuthController {
                     .email(user.getEmail())
                     .fullName(user.getFullName())
                     .role(user.getRole().toString().toLowerCase())
-                    .token(token)
+                    .token(session.accessToken())
+                    .refreshToken(session.refreshToken())
+                    .expiresAt(accessTokenExpiry())
                     .uid(user.getUid())
                     .universityUid(user.getUniversityUid())
                     .build())
                 .build();
             
             return ResponseEntity.ok(response);
+        } catch (PasswordHashingBusyException e) {
+            return hashingBusy(e);
+        } catch (LoginThrottledException e) {
+            AuthResponse errorResponse = AuthResponse.builder()
+                .success(false)
+                .message(e.getMessage())
+                .build();
+            long retryAfterSeconds = Math.max(1, (e.getRetryAfterMillis() + 999) / 1000);
+            return ResponseEntity.status(429)
+                .header(HttpHeaders.RETRY_AFTER, Long.toString(retryAfterSeconds))
+                .body(errorResponse);
         } catch (Exception e) {
             AuthResponse errorResponse = AuthResponse.builder()
                 .success(false)
@@ -99,70 +105,29 @@ public class AuthController {
                 }
             }
             
-            User user = userService.createUser(
-                registerRequest.getEmail(), 
-                registerRequest.getPassword(), 
-                registerRequest.getRole()
-            );
-            
-            // Generate unique UID for the user
-            String uid = uidGenerationService.regenerateUidIfConflict(registerRequest.getRole());
-            
-            // Update additional fields
-            user.setFullName(registerRequest.getFullName());
-            user.setUid(uid);
-            user.setUniversityUid(registerRequest.getUniversityUid());
-            
-            // Save updated user
-            user = userService.updateUser(user);
-            
-            // If registering a university, also create university record in university service
-            if (registerRequest.getRole() == UserRole.UNIVERSITY) {
-                try {
-                    universityServiceClient.registerUniversity(
-                        uid, 
-                        registerRequest.getUniversityName(),
-                        registerRequest.getEmail(),
-                        registerRequest.getUniversityAddress(),
-                        registerRequest.getUniversityPhone()
-                    );
-                } catch (Exception e) {
-                    // If university service registration fails, rollback user creation
-                    userService.deleteUser(user.getId());
-                    throw new RuntimeException("Failed to register university: " + e.getMessage());
-                }
-            }
-            
-            String token = jwtService.generateToken(user);
-
-            /* Below code enables event driven notification management with kafka
-            * Ensure you setup kafka, and it is in running state*/
-            EmailRequest emailRequest = new EmailRequest();
-            emailRequest.setTo(user.getEmail());
-            emailRequest.setSubject("Your registration to StudentCert is successful");
-            emailRequest.setBody("Dear " + user.getFullName() + ",\n\n" +
-                "Thank you for registering at StudentCert. Your unique UID is: " + uid + "\n\n" +
-                "Best regards,\nStudentCert Team");
-
-            String emailJson = objectMapper.writeValueAsString(emailRequest);
-            kafkaTemplate.send ("email_notifications", emailJson);
-            logger.info("Published registration email event to Kafka for user: " + user.getEmail());
+            // One transaction; the welcome email and university record follow via the outbox
+            User user = registrationService.register(registerRequest);
+            AuthService.Session session = authService.startSession(user);
 
             AuthResponse response = AuthResponse.builder()
                 .success(true)
-                .message("Registration successful. Your UID is: " + uid)
+                .message("Registration successful. Your UID is: " + user.getUid())
                 .data(AuthResponse.UserData.builder()
                     .id(user.getId().toString())
                     .email(user.getEmail())
                     .fullName(user.getFullName())
                     .role(user.getRole().toString().toLowerCase())
-                    .token(token)
+                    .token(session.accessToken())
+                    .refreshToken(session.refreshToken())
+                    .expiresAt(accessTokenExpiry())
                     .uid(user.getUid())
                     .universityUid(user.getUniversityUid())
                     .build())
                 .build();
             
             return ResponseEntity.ok(response);
+        } catch (PasswordHashingBusyException e) {
+            return hashingBusy(e);
         } catch (Exception e) {
             AuthResponse errorResponse = AuthResponse.builder()
                 .success(false)
@@ -172,10 +137,52 @@ public class AuthController {
         }
     }
 
+    @PostMapping("/refresh")
+    public ResponseEntity<AuthResponse> refresh(@RequestBody RefreshTokenRequest request) {
+        try {
+            AuthService.Session session = authService.refresh(request.getRefreshToken());
+            User user = session.user();
+
+            AuthResponse response = AuthResponse.builder()
+                .success(true)
+                .message("Token refreshed")
+                .data(AuthResponse.UserData.builder()
+                    .id(user.getId().toString())
+                    .email(user.getEmail())
+                    .fullName(user.getFullName())
+                    .role(user.getRole().toString().toLowerCase())
+                    .token(session.accessToken())
+                    .refreshToken(session.refreshToken())
+                    .expiresAt(accessTokenExpiry())
+                    .uid(user.getUid())
+                    .universityUid(user.getUniversityUid())
+                    .build())
+                .build();
+
+            return ResponseEntity.ok(response);
+        } catch (Exception e) {
+            AuthResponse errorResponse = AuthResponse.builder()
+                .success(false)
+                .message(e.getMessage())
+                .build();
+            return ResponseEntity.status(401).body(errorResponse);
+        }
+    }
+
     @PostMapping("/logout")
-    public ResponseEntity<AuthResponse> logout(@AuthenticationPrincipal User user) {
-        // In a real implementation, you might blacklist the JWT token
-        // For now, we'll just return success since the frontend handles token removal
+    public ResponseEntity<AuthResponse> logout(@RequestHeader(value = "Authorization", required = false) String authHeader,
+                                               @RequestBody(required = false) RefreshTokenRequest request) {
+        // Revoke the presented access token and, if sent, the refresh token's whole session
+        JwtPrincipal accessToken = null;
+        if (authHeader != null && authHeader.startsWith("Bearer ")) {
+            try {
+                accessToken = jwtService.parse(authHeader.substring(7));
+            } catch (JwtException | IllegalArgumentException e) {
+                // Expired or invalid already
+            }
+        }
+        authService.logout(accessToken, request != null ? request.getRefreshToken() : null);
+
         AuthResponse response = AuthResponse.builder()
             .success(true)
             .message("Logout successful")
@@ -207,4 +214,34 @@ public class AuthController {
             return ResponseEntity.status(401).body(errorResponse);
         }
     }
-}
\ No newline at end of file
+
+    private LocalDateTime accessTokenExpiry() {
+        return LocalDateTime.now().plus(Duration.ofMillis(jwtService.getAccessTokenLifetime()));
+    }
+
+    /**
+     * The caller's address. Only a connection from a trusted proxy (the gateway) may name
+     * another one, as the last X-Forwarded-For entry it appended; the portals also reach this
+     * service directly, and then the header is whatever the caller chose to send.
+     */
+    private String clientIp(HttpServletRequest request) {
+        String remoteAddr = request.getRemoteAddr();
+        String forwardedFor = request.getHeader("X-Forwarded-For");
+        if (trustedProxies.contains(remoteAddr) && forwardedFor != null && !forwardedFor.isBlank()) {
+            String[] hops = forwardedFor.split(",");
+            return hops[hops.length - 1].trim();
+        }
+        return remoteAddr;
+    }
+
+    /**
+     * Password hashing is saturated: fail fast so clients back off instead of queueing
+     */
+    private ResponseEntity<AuthResponse> hashingBusy(PasswordHashingBusyException e) {
+        AuthResponse errorResponse = AuthResponse.builder()
+            .success(false)
+            .message(e.getMessage())
+            .build();
+        return ResponseEntity.status(429).header(HttpHeaders.RETRY_AFTER, "1").body(errorResponse);
+    }
+}
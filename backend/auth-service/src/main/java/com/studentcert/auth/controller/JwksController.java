@@ -0,0 +1,32 @@
+package com.studentcert.auth.controller;
+
+import com.studentcert.auth.security.SigningKeyService;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.CacheControl;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.CrossOrigin;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Public keys for validating access tokens, in standard JWKS form so that
+ * other services and the gateway can verify tokens without calling auth-service
+ */
+@RestController
+@CrossOrigin(origins = "*", maxAge = 3600)
+public class JwksController {
+
+    @Autowired
+    private SigningKeyService signingKeyService;
+
+    @GetMapping("/api/auth/.well-known/jwks.json")
+    public ResponseEntity<Map<String, List<Map<String, Object>>>> jwks() {
+        return ResponseEntity.ok()
+            .cacheControl(CacheControl.maxAge(5, TimeUnit.MINUTES).cachePublic())
+            .body(Map.of("keys", signingKeyService.jwks()));
+    }
+}
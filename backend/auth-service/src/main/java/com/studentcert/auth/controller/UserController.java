@@ -6,19 +6,20 @@ import com.studentcert.auth.model.User;
 import com.studentcert.auth.model.UserRole;
 import com.studentcert.auth.repository.UserRepository;
 import com.studentcert.auth.service.AdminUserService;
+import com.studentcert.auth.service.UniversityDirectory;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
 import lombok.NoArgsConstructor;
 import org.springframework.beans.factory.annotation.Autowired;
-import org.springframework.data.domain.Page;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.*;
 
-import java.util.List;
-import java.util.stream.Collectors;
-
 @RestController
 @RequestMapping("/api/users")
 @CrossOrigin(origins = "*", maxAge = 3600)
@@ -30,6 +31,9 @@ public class UserController {
     @Autowired
     private UserRepository userRepository;
 
+    @Autowired
+    private UniversityDirectory universityDirectory;
+
     /**
      * Get users by role - accessible by ADMIN and UNIVERSITY roles
      * This allows universities to fetch student lists for certificate issuance
@@ -40,42 +44,35 @@ public class UserController {
             @RequestParam(defaultValue = "0") int page,
             @RequestParam(defaultValue = "20") int size,
             @RequestParam(required = false) String search,
-            @RequestParam(required = false) UserRole role) {
+            @RequestParam(required = false) UserRole role,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "ESTIMATE") AdminUserService.CountMode count) {
         
-        Page<UserDto> users = adminUserService.getUsers(page, size, search, role);
-        
-        PaginatedResponse<UserDto> response = PaginatedResponse.<UserDto>builder()
-                .content(users.getContent())
-                .page(page)
-                .size(size)
-                .totalElements(users.getTotalElements())
-                .totalPages(users.getTotalPages())
-                .first(users.isFirst())
-                .last(users.isLast())
-                .empty(users.isEmpty())
-                .build();
+        PaginatedResponse<UserDto> response = adminUserService.getUsers(page, size, search, role, cursor, count);
         
         return ResponseEntity.ok(response);
     }
     
     /**
      * Get list of all universities (for student registration dropdown)
-     * Public endpoint - no authentication required
+     * Public endpoint - no authentication required. Served from an in-memory snapshot;
+     * a matching If-None-Match gets a 304.
      */
     @GetMapping("/universities")
-    public ResponseEntity<List<UniversityInfo>> getUniversities() {
-        List<User> universities = userRepository.findAllByRole(UserRole.UNIVERSITY);
-        
-        List<UniversityInfo> universityInfoList = universities.stream()
-                .filter(u -> u.getUid() != null) // Only universities with UIDs
-                .map(u -> UniversityInfo.builder()
-                        .uid(u.getUid())
-                        .name(u.getFullName())
-                        .email(u.getEmail())
-                        .build())
-                .collect(Collectors.toList());
-        
-        return ResponseEntity.ok(universityInfoList);
+    public ResponseEntity<byte[]> getUniversities(
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch) {
+        UniversityDirectory.Snapshot directory = universityDirectory.current();
+        if (directory.matches(ifNoneMatch)) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED)
+                    .eTag(directory.etag())
+                    .cacheControl(CacheControl.noCache())
+                    .build();
+        }
+        return ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_JSON)
+                .eTag(directory.etag())
+                .cacheControl(CacheControl.noCache())
+                .body(directory.body());
     }
     
     /**
@@ -133,17 +130,4 @@ public class UserController {
         private String uid;
         private String universityUid;
     }
-    
-    /**
-     * DTO for university information
-     */
-    @Data
-    @Builder
-    @NoArgsConstructor
-    @AllArgsConstructor
-    public static class UniversityInfo {
-        private String uid;
-        private String name;
-        private String email;
-    }
-}
+}
\ No newline at end of file
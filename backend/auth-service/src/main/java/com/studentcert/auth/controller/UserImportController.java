@@ -0,0 +1,78 @@
+package com.studentcert.auth.controller;
+
+import com.studentcert.auth.dto.ApiResponse;
+import com.studentcert.auth.model.User;
+import com.studentcert.auth.model.UserRole;
+import com.studentcert.auth.service.UserImportService;
+import jakarta.servlet.http.HttpServletRequest;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.io.IOException;
+import java.io.InputStream;
+
+@RestController
+@RequestMapping("/api/users/import")
+@CrossOrigin(origins = "*", maxAge = 3600)
+public class UserImportController {
+
+    private static final String NDJSON = "application/x-ndjson";
+
+    @Autowired
+    private UserImportService userImportService;
+
+    /**
+     * Bulk-register students or employers from a CSV (with header) or NDJSON body with the
+     * columns email, fullName, password and optionally role and universityUid. The response
+     * streams one NDJSON result per record as the import progresses, then a summary line.
+     * Universities can only import their own students, and only once they are verified;
+     * admins may import for any university.
+     */
+    @PostMapping(consumes = {"text/csv", NDJSON})
+    @PreAuthorize("hasAnyRole('ADMIN', 'UNIVERSITY')")
+    public ResponseEntity<?> importUsers(
+            @AuthenticationPrincipal User caller,
+            @RequestHeader("Content-Type") String contentType,
+            @RequestParam(defaultValue = "STUDENT") UserRole role,
+            @RequestParam(required = false) String universityUid,
+            @RequestParam(defaultValue = "false") boolean verified,
+            @RequestParam(name = "notify", defaultValue = "true") boolean sendWelcomeEmail,
+            HttpServletRequest request) throws IOException {
+
+        boolean ownUniversity = caller.getRole() == UserRole.UNIVERSITY;
+        // Registration issues tokens before verification; an unverified university cannot create accounts
+        if (ownUniversity && !Boolean.TRUE.equals(caller.getIsVerified())) {
+            return ResponseEntity.status(HttpStatus.FORBIDDEN).contentType(MediaType.APPLICATION_JSON).body(ApiResponse.builder()
+                    .success(false)
+                    .message("University account is not verified")
+                    .build());
+        }
+        if (ownUniversity && caller.getUid() == null) {
+            return ResponseEntity.badRequest().contentType(MediaType.APPLICATION_JSON).body(ApiResponse.builder()
+                    .success(false)
+                    .message("University account has no UID")
+                    .build());
+        }
+        UserImportService.Options options = new UserImportService.Options(
+                role,
+                ownUniversity ? caller.getUid() : universityUid,
+                ownUniversity,
+                !ownUniversity && verified,
+                sendWelcomeEmail);
+        UserImportService.Format format = MediaType.parseMediaType(contentType).isCompatibleWith(MediaType.parseMediaType(NDJSON))
+                ? UserImportService.Format.NDJSON
+                : UserImportService.Format.CSV;
+
+        InputStream body = request.getInputStream();
+        StreamingResponseBody report = output -> userImportService.importUsers(body, format, options, output);
+        return ResponseEntity.ok()
+                .contentType(MediaType.parseMediaType(NDJSON))
+                .body(report);
+    }
+}
@@ -20,4 +20,6 @@ public class PaginatedResponse<T> {
     private boolean first;
     private boolean last;
     private boolean empty;
+    private String nextCursor; // Pass back as ?cursor= to fetch the following page by keyset
+    private boolean totalEstimated; // totalElements is a planner estimate, not an exact count
 }
\ No newline at end of file
@@ -0,0 +1,44 @@
+package com.studentcert.auth.dto;
+
+import com.studentcert.auth.model.User;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+
+/**
+ * Position in the admin user list (newest first), handed to clients as an opaque string.
+ * The next page starts strictly after this (createdAt, id) pair, so page depth costs nothing.
+ */
+public record UserSearchCursor(LocalDateTime createdAt, Long id) {
+
+    public static UserSearchCursor after(User user) {
+        return new UserSearchCursor(user.getCreatedAt(), user.getId());
+    }
+
+    public String encode() {
+        String raw = createdAt + "|" + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Null if the value is absent or not a cursor we issued
+     */
+    public static UserSearchCursor decode(String value) {
+        if (value == null || value.isBlank()) {
+            return null;
+        }
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(value), StandardCharsets.UTF_8);
+            int separator = raw.lastIndexOf('|');
+            if (separator <= 0) {
+                return null;
+            }
+            return new UserSearchCursor(LocalDateTime.parse(raw.substring(0, separator)),
+                    Long.parseLong(raw.substring(separator + 1)));
+        } catch (IllegalArgumentException | DateTimeParseException e) {
+            return null;
+        }
+    }
+}
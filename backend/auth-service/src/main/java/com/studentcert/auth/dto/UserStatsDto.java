@@ -0,0 +1,26 @@
+package com.studentcert.auth.dto;
+
+import com.studentcert.auth.model.UserRole;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Map;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class UserStatsDto {
+    private long totalUsers;
+    private Map<UserRole, Long> usersByRole;
+    private long verifiedUsers;
+    private long unverifiedUsers;
+    private long activeUsers;
+    private long inactiveUsers;
+    private Map<LocalDate, Long> registrationsPerDay; // Oldest first, days without registrations as 0
+    private LocalDateTime reconciledAt; // When the counters were last checked against the database
+}
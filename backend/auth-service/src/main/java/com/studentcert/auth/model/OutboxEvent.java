@@ -0,0 +1,80 @@
+package com.studentcert.auth.model;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * A side effect (email, call to another service) recorded in the same transaction as the
+ * change that causes it, and delivered afterwards by OutboxRelay. Delivery is at least once;
+ * the idempotency key lets receivers drop repeats.
+ */
+@Entity
+@Table(name = "outbox_events", indexes = {
+    @Index(name = "idx_outbox_due", columnList = "status, next_attempt_at")
+})
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class OutboxEvent {
+
+    public enum Type {
+        EMAIL,
+        UNIVERSITY_REGISTRATION,
+        UNIVERSITY_SYNC // Coalesced per university and delivered in batches
+    }
+
+    public enum Status {
+        PENDING,
+        DELIVERED,
+        DEAD // Gave up after the maximum attempts, or the receiver rejected it for good
+    }
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "type", nullable = false, length = 50)
+    private Type type;
+
+    @Column(name = "idempotency_key", nullable = false, unique = true, length = 100)
+    private String idempotencyKey;
+
+    @Column(name = "payload", nullable = false, columnDefinition = "TEXT")
+    private String payload; // JSON
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "status", nullable = false, length = 20)
+    private Status status;
+
+    @Column(name = "attempts", nullable = false)
+    private int attempts;
+
+    @Column(name = "next_attempt_at", nullable = false)
+    private LocalDateTime nextAttemptAt; // Also the lease: a relay claiming the event pushes it out
+
+    @Column(name = "last_error", length = 500)
+    private String lastError;
+
+    @Column(name = "created_at", nullable = false, updatable = false)
+    private LocalDateTime createdAt;
+
+    @Column(name = "delivered_at")
+    private LocalDateTime deliveredAt;
+
+    public static OutboxEvent pending(Type type, String idempotencyKey, String payload) {
+        LocalDateTime now = LocalDateTime.now();
+        OutboxEvent event = new OutboxEvent();
+        event.setType(type);
+        event.setIdempotencyKey(idempotencyKey);
+        event.setPayload(payload);
+        event.setStatus(Status.PENDING);
+        event.setNextAttemptAt(now);
+        event.setCreatedAt(now);
+        return event;
+    }
+}
@@ -0,0 +1,38 @@
+package com.studentcert.auth.model;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * RSA key pair used to sign access tokens. Shared by all auth-service instances
+ * through the database; the public half is published on the JWKS endpoint.
+ */
+@Entity
+@Table(name = "jwt_signing_keys")
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class SigningKey {
+
+    @Id
+    @Column(name = "kid", length = 64)
+    private String kid;
+
+    @Column(name = "public_key", nullable = false, columnDefinition = "TEXT")
+    private String publicKey; // Base64 X.509
+
+    @Column(name = "private_key", nullable = false, columnDefinition = "TEXT")
+    private String privateKey; // Base64 PKCS#8
+
+    @Column(name = "created_at", nullable = false)
+    private LocalDateTime createdAt;
+
+    @Column(name = "activates_at", nullable = false)
+    private LocalDateTime activatesAt; // Published before this, used for signing from it on
+}
@@ -0,0 +1,25 @@
+package com.studentcert.auth.model;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * High-water mark of the UID sequence for one role prefix and year (e.g. STU-2025).
+ * Instances reserve blocks of numbers from it; see UidBlockAllocator.
+ */
+@Entity
+@Table(name = "uid_sequences")
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class UidSequence {
+
+    @Id
+    @Column(name = "name", length = 20)
+    private String name;
+
+    @Column(name = "next_value", nullable = false)
+    private Long nextValue; // First sequence number not yet handed out to any instance
+}
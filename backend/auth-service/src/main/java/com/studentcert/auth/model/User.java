@@ -15,7 +15,10 @@ import java.util.Collections;
 
 @Entity
 @Table(name = "users", indexes = {
-    @Index(name = "idx_user_email", columnList = "email", unique = true)
+    @Index(name = "idx_user_email", columnList = "email", unique = true),
+    // Keyset order of the admin user list, with and without a role filter
+    @Index(name = "idx_user_created_id", columnList = "created_at DESC, id DESC"),
+    @Index(name = "idx_user_role_created_id", columnList = "role, created_at DESC, id DESC")
 })
 @Data
 @Builder
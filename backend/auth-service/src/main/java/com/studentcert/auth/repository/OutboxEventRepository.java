@@ -0,0 +1,63 @@
+package com.studentcert.auth.repository;
+
+import com.studentcert.auth.model.OutboxEvent;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Repository
+public interface OutboxEventRepository extends JpaRepository<OutboxEvent, Long> {
+
+    /**
+     * Lease up to limit due events to the caller until leaseUntil. SKIP LOCKED lets every
+     * instance's relay drain the outbox at once without handing out the same event twice.
+     */
+    @Transactional
+    @Query(value = "UPDATE outbox_events SET next_attempt_at = :leaseUntil WHERE id IN (" +
+                   "SELECT id FROM outbox_events WHERE status = 'PENDING' AND next_attempt_at <= :now " +
+                   "ORDER BY id LIMIT :limit FOR UPDATE SKIP LOCKED) RETURNING *",
+           nativeQuery = true)
+    List<OutboxEvent> claimDue(@Param("now") LocalDateTime now,
+                               @Param("leaseUntil") LocalDateTime leaseUntil,
+                               @Param("limit") int limit);
+
+    @Transactional
+    @Modifying
+    @Query("UPDATE OutboxEvent e SET e.status = com.studentcert.auth.model.OutboxEvent.Status.DELIVERED, " +
+           "e.deliveredAt = :now, e.attempts = e.attempts + 1, e.lastError = null WHERE e.id = :id")
+    int markDelivered(@Param("id") Long id, @Param("now") LocalDateTime now);
+
+    /**
+     * Only touches events still pending, so a failed delivery cannot revive a superseded event
+     */
+    @Transactional
+    @Modifying
+    @Query("UPDATE OutboxEvent e SET e.status = :status, e.attempts = e.attempts + 1, " +
+           "e.nextAttemptAt = :nextAttemptAt, e.lastError = :error " +
+           "WHERE e.id = :id AND e.status = com.studentcert.auth.model.OutboxEvent.Status.PENDING")
+    int markFailed(@Param("id") Long id, @Param("status") OutboxEvent.Status status,
+                   @Param("nextAttemptAt") LocalDateTime nextAttemptAt, @Param("error") String error);
+
+    /**
+     * Retire the undelivered events of a type whose key starts with keyPrefix, in favour of a
+     * newer event that carries their effect too
+     */
+    @Modifying
+    @Query("UPDATE OutboxEvent e SET e.status = com.studentcert.auth.model.OutboxEvent.Status.DELIVERED, " +
+           "e.deliveredAt = :now, e.lastError = 'Superseded' WHERE e.type = :type " +
+           "AND e.status = com.studentcert.auth.model.OutboxEvent.Status.PENDING AND e.idempotencyKey LIKE :keyPrefix%")
+    int supersedePending(@Param("type") OutboxEvent.Type type, @Param("keyPrefix") String keyPrefix,
+                         @Param("now") LocalDateTime now);
+
+    @Transactional
+    @Modifying
+    @Query("DELETE FROM OutboxEvent e WHERE e.status = com.studentcert.auth.model.OutboxEvent.Status.DELIVERED " +
+           "AND e.deliveredAt < :before")
+    int deleteDeliveredBefore(@Param("before") LocalDateTime before);
+}
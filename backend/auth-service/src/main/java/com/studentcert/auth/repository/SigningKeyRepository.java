@@ -0,0 +1,13 @@
+package com.studentcert.auth.repository;
+
+import com.studentcert.auth.model.SigningKey;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+@Repository
+public interface SigningKeyRepository extends JpaRepository<SigningKey, String> {
+
+    List<SigningKey> findAllByOrderByActivatesAtDesc();
+}
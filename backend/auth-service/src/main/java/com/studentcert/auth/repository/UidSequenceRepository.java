@@ -0,0 +1,31 @@
+package com.studentcert.auth.repository;
+
+import com.studentcert.auth.model.UidSequence;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+@Repository
+public interface UidSequenceRepository extends JpaRepository<UidSequence, String> {
+
+    /**
+     * Atomically reserve the next blockSize numbers; returns the new high-water mark,
+     * or null if the sequence does not exist yet. The row lock is held only until commit.
+     */
+    @Transactional
+    @Query(value = "UPDATE uid_sequences SET next_value = next_value + :blockSize WHERE name = :name RETURNING next_value",
+           nativeQuery = true)
+    Long advance(@Param("name") String name, @Param("blockSize") long blockSize);
+
+    /**
+     * Create the sequence unless another instance already has
+     */
+    @Transactional
+    @Modifying
+    @Query(value = "INSERT INTO uid_sequences (name, next_value) VALUES (:name, :start) ON CONFLICT (name) DO NOTHING",
+           nativeQuery = true)
+    int createIfAbsent(@Param("name") String name, @Param("start") long start);
+}
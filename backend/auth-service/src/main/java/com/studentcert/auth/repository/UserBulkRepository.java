@@ -0,0 +1,17 @@
+package com.studentcert.auth.repository;
+
+import com.studentcert.auth.model.User;
+
+import java.util.List;
+
+/**
+ * Set-based writes for bulk user import, bypassing per-entity persistence
+ */
+public interface UserBulkRepository {
+
+    /**
+     * Insert all users in one statement, skipping those whose email is already registered.
+     * Sets id and createdAt on the users that were inserted and returns them.
+     */
+    List<User> insertIgnoringDuplicates(List<User> users);
+}
@@ -0,0 +1,70 @@
+package com.studentcert.auth.repository;
+
+import com.studentcert.auth.model.User;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Users have IDENTITY ids, which rules out Hibernate insert batching; a multi-row INSERT
+ * writes a whole chunk in one round trip and still hands back the generated ids.
+ */
+class UserBulkRepositoryImpl implements UserBulkRepository {
+
+    private static final String INSERT = "INSERT INTO users (email, password, full_name, role, is_verified, is_active, " +
+            "uid, university_uid, created_at, updated_at) VALUES ";
+    private static final String ROW = "(?, ?, ?, ?, ?, ?, ?, ?, ?, ?)";
+    private static final String ON_CONFLICT = " ON CONFLICT (email) DO NOTHING RETURNING id, email";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    UserBulkRepositoryImpl(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    @Override
+    public List<User> insertIgnoringDuplicates(List<User> users) {
+        if (users.isEmpty()) {
+            return List.of();
+        }
+        LocalDateTime now = LocalDateTime.now();
+        Timestamp timestamp = Timestamp.valueOf(now);
+        List<Object> args = new ArrayList<>(users.size() * 10);
+        for (User user : users) {
+            args.add(user.getEmail());
+            args.add(user.getPassword());
+            args.add(user.getFullName());
+            args.add(user.getRole().name());
+            args.add(Boolean.TRUE.equals(user.getIsVerified()));
+            args.add(!Boolean.FALSE.equals(user.getIsActive()));
+            args.add(user.getUid());
+            args.add(user.getUniversityUid());
+            args.add(timestamp);
+            args.add(timestamp);
+        }
+        String sql = INSERT + String.join(", ", Collections.nCopies(users.size(), ROW)) + ON_CONFLICT;
+
+        Map<String, Long> ids = new HashMap<>();
+        jdbcTemplate.query(sql, rs -> {
+            ids.put(rs.getString("email"), rs.getLong("id"));
+        }, args.toArray());
+
+        List<User> inserted = new ArrayList<>(ids.size());
+        for (User user : users) {
+            Long id = ids.get(user.getEmail());
+            if (id != null) {
+                user.setId(id);
+                user.setCreatedAt(now);
+                user.setUpdatedAt(now);
+                inserted.add(user);
+            }
+        }
+        return inserted;
+    }
+}
@@ -1,22 +1,26 @@
 package com.studentcert.auth.repository;
 
+import com.studentcert.auth.dto.UniversityInfo;
 import com.studentcert.auth.model.User;
 import com.studentcert.auth.model.UserRole;
-import org.springframework.data.domain.Page;
-import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.util.Optional;
 
 @Repository
-public interface UserRepository extends JpaRepository<User, Long> {
+public interface UserRepository extends JpaRepository<User, Long>, UserSearchRepository, UserBulkRepository {
     
     Optional<User> findByEmail(String email);
     
     boolean existsByEmail(String email);
+
+    @Query("SELECT u.email FROM User u WHERE u.email IN :emails")
+    java.util.List<String> findExistingEmails(@Param("emails") java.util.Collection<String> emails);
     
     @Query("SELECT u FROM User u WHERE u.verificationToken = :token")
     Optional<User> findByVerificationToken(@Param("token") String token);
@@ -24,20 +28,56 @@ public interface UserRepository extends JpaRepository<User, Long> {
     @Query("SELECT u FROM User u WHERE u.passwordResetToken = :token")
     Optional<User> findByPasswordResetToken(@Param("token") String token);
     
-    // Pagination methods for admin
-    Page<User> findByEmailContainingIgnoreCaseAndRole(String email, UserRole role, Pageable pageable);
-    Page<User> findByEmailContainingIgnoreCase(String email, Pageable pageable);
-    Page<User> findByRole(UserRole role, Pageable pageable);
-    
     // Non-paginated method for fetching all users of a specific role
     @Query("SELECT u FROM User u WHERE u.role = :role")
     java.util.List<User> findAllByRole(@Param("role") UserRole role);
+
+    // Public university directory: only the listed columns, no entity hydration
+    @Query("SELECT new com.studentcert.auth.dto.UniversityInfo(u.uid, u.fullName, u.email) FROM User u " +
+           "WHERE u.role = com.studentcert.auth.model.UserRole.UNIVERSITY AND u.uid IS NOT NULL ORDER BY u.fullName")
+    java.util.List<UniversityInfo> findUniversityDirectory();
+
+    // Cheap change detector for the university directory (row count and latest update)
+    @Query("SELECT COUNT(u) AS count, MAX(u.updatedAt) AS lastUpdated FROM User u " +
+           "WHERE u.role = com.studentcert.auth.model.UserRole.UNIVERSITY")
+    DirectoryVersion findUniversityDirectoryVersion();
+
+    interface DirectoryVersion {
+        Long getCount();
+        java.time.LocalDateTime getLastUpdated();
+    }
     
     // UID-related methods
     boolean existsByUid(String uid);
     
-    @Query("SELECT COUNT(u) FROM User u WHERE u.uid LIKE :pattern")
-    long countByUidStartingWith(@Param("pattern") String pattern);
+    @Query("SELECT u.uid FROM User u WHERE u.uid LIKE :pattern")
+    java.util.List<String> findUidsLike(@Param("pattern") String pattern);
     
     Optional<User> findByUid(String uid);
+
+    // Replace a password hash only if it was not changed meanwhile (rehash on login)
+    @Transactional
+    @Modifying
+    @Query("UPDATE User u SET u.password = :newHash WHERE u.id = :id AND u.password = :oldHash")
+    int updatePasswordIfUnchanged(@Param("id") Long id, @Param("oldHash") String oldHash, @Param("newHash") String newHash);
+
+    // Reconciliation of the user statistics counters: one row per (role, verified, active)
+    @Query("SELECT u.role AS role, u.isVerified AS verified, u.isActive AS active, COUNT(u) AS total " +
+           "FROM User u GROUP BY u.role, u.isVerified, u.isActive")
+    java.util.List<StatusCount> countByStatus();
+
+    interface StatusCount {
+        UserRole getRole();
+        Boolean getVerified();
+        Boolean getActive();
+        Long getTotal();
+    }
+
+    // Registrations per day since the given start (served by the created_at index)
+    @Query(value = "SELECT CAST(created_at AS date) AS day, COUNT(*) AS total FROM users " +
+                   "WHERE created_at >= :since GROUP BY CAST(created_at AS date)", nativeQuery = true)
+    java.util.List<Object[]> countRegistrationsPerDaySince(@Param("since") java.time.LocalDateTime since);
+
+    @Query("SELECT u.id FROM User u WHERE u.isActive = false")
+    java.util.List<Long> findInactiveUserIds();
 }
\ No newline at end of file
@@ -0,0 +1,27 @@
+package com.studentcert.auth.repository;
+
+import com.studentcert.auth.dto.UserSearchCursor;
+import com.studentcert.auth.model.User;
+import com.studentcert.auth.model.UserRole;
+
+import java.util.List;
+
+/**
+ * Admin user search over email, full name and UID (substring, case-insensitive), newest first.
+ * Backed by pg_trgm indexes; see UserSearchIndexInitializer.
+ */
+public interface UserSearchRepository {
+
+    /**
+     * One page of matches. With a cursor the page starts after it and offset should be 0;
+     * without one, offset is the (legacy) page offset.
+     */
+    List<User> search(String term, UserRole role, UserSearchCursor after, int offset, int limit);
+
+    long countMatches(String term, UserRole role);
+
+    /**
+     * Planner row estimate for the same filter; costs no table access
+     */
+    long estimateMatches(String term, UserRole role);
+}
@@ -0,0 +1,99 @@
+package com.studentcert.auth.repository;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.studentcert.auth.dto.UserSearchCursor;
+import com.studentcert.auth.model.User;
+import com.studentcert.auth.model.UserRole;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.Query;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * Builds the SQL per request so that each query only carries the predicates it needs;
+ * a catch-all "(:term IS NULL OR ...)" query would keep the planner off the indexes.
+ */
+class UserSearchRepositoryImpl implements UserSearchRepository {
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+    private final ObjectMapper objectMapper;
+
+    UserSearchRepositoryImpl(NamedParameterJdbcTemplate jdbcTemplate, ObjectMapper objectMapper) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.objectMapper = objectMapper;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public List<User> search(String term, UserRole role, UserSearchCursor after, int offset, int limit) {
+        MapSqlParameterSource params = new MapSqlParameterSource();
+        List<String> predicates = filter(term, role, params);
+        if (after != null) {
+            // Row comparison matches the (created_at DESC, id DESC) index order
+            predicates.add("(u.created_at, u.id) < (:afterCreatedAt, :afterId)");
+            params.addValue("afterCreatedAt", after.createdAt());
+            params.addValue("afterId", after.id());
+        }
+
+        String sql = "SELECT u.* FROM users u" + where(predicates)
+                + " ORDER BY u.created_at DESC, u.id DESC LIMIT :limit OFFSET :offset";
+        Query query = entityManager.createNativeQuery(sql, User.class);
+        params.getValues().forEach(query::setParameter);
+        query.setParameter("limit", limit);
+        query.setParameter("offset", offset);
+        return query.getResultList();
+    }
+
+    @Override
+    public long countMatches(String term, UserRole role) {
+        MapSqlParameterSource params = new MapSqlParameterSource();
+        String sql = "SELECT COUNT(*) FROM users u" + where(filter(term, role, params));
+        Long count = jdbcTemplate.queryForObject(sql, params, Long.class);
+        return count != null ? count : 0;
+    }
+
+    @Override
+    public long estimateMatches(String term, UserRole role) {
+        MapSqlParameterSource params = new MapSqlParameterSource();
+        String sql = "EXPLAIN (FORMAT JSON) SELECT 1 FROM users u" + where(filter(term, role, params));
+        String plan = jdbcTemplate.queryForObject(sql, params, String.class);
+        try {
+            JsonNode root = objectMapper.readTree(plan);
+            return root.path(0).path("Plan").path("Plan Rows").asLong(0);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Unreadable query plan", e);
+        }
+    }
+
+    private static List<String> filter(String term, UserRole role, MapSqlParameterSource params) {
+        List<String> predicates = new ArrayList<>();
+        if (term != null && !term.isBlank()) {
+            // Expressions match the trigram indexes, which serve LIKE '%...%' directly
+            predicates.add("(lower(u.email) LIKE :pattern OR lower(u.full_name) LIKE :pattern OR lower(u.uid) LIKE :pattern)");
+            params.addValue("pattern", "%" + escapeLike(term.trim().toLowerCase(Locale.ROOT)) + "%");
+        }
+        if (role != null) {
+            predicates.add("u.role = :role");
+            params.addValue("role", role.name());
+        }
+        return predicates;
+    }
+
+    private static String where(List<String> predicates) {
+        return predicates.isEmpty() ? "" : " WHERE " + String.join(" AND ", predicates);
+    }
+
+    private static String escapeLike(String term) {
+        return term.replace("\\", "\\\\").replace("%", "\\%").replace("_", "\\_");
+    }
+}
@@ -0,0 +1,109 @@
+package com.studentcert.auth.security;
+
+import com.studentcert.auth.repository.UserRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * In-memory view of the accounts whose tokens must no longer be accepted, so that
+ * stateless authentication can enforce deactivation without reading the user row.
+ * <p>
+ * Updated immediately from {@link AccountStatusEvent}s raised on this instance. Changes that
+ * invalidate issued tokens (role, university, verification, deletion) leave no trace in the
+ * database to reconcile against, so AccountStatusReplicator broadcasts them to the other
+ * instances. Deactivation is reconciled periodically against the database, so changes made
+ * through another instance are picked up within one refresh interval.
+ */
+@Component
+public class AccountRevocationRegistry {
+
+    private static final Logger logger = LoggerFactory.getLogger(AccountRevocationRegistry.class);
+
+    private final UserRepository userRepository;
+    private final long tokenLifetimeMillis;
+
+    /** Deactivation state per user, with the time it was last changed */
+    private final Map<Long, State> accounts = new ConcurrentHashMap<>();
+    /** Tokens issued at or before this time are rejected (role change, deletion) */
+    private final Map<Long, Long> invalidatedBefore = new ConcurrentHashMap<>();
+
+    public AccountRevocationRegistry(UserRepository userRepository,
+                                     @Value("${jwt.expiration:900000}") long tokenLifetimeMillis) {
+        this.userRepository = userRepository;
+        this.tokenLifetimeMillis = tokenLifetimeMillis;
+    }
+
+    public boolean isRevoked(JwtPrincipal principal) {
+        Long userId = principal.userId();
+        if (userId == null) {
+            return false;
+        }
+        State state = accounts.get(userId);
+        if (state != null && state.deactivated()) {
+            return true;
+        }
+        Long before = invalidatedBefore.get(userId);
+        // iat has second precision, so a token from the same second as the change is rejected too
+        return before != null && (principal.issuedAt() == null || principal.issuedAt().toEpochMilli() <= before);
+    }
+
+    @EventListener
+    public void onAccountStatus(AccountStatusEvent event) {
+        if (event.userId() == null) {
+            return;
+        }
+        apply(event);
+        logger.info("Account {} {}; revocation set updated", event.userId(), event.type());
+    }
+
+    /**
+     * Record a change without announcing it (used for changes replicated from other instances)
+     */
+    public void apply(AccountStatusEvent event) {
+        if (event.userId() == null) {
+            return;
+        }
+        switch (event.type()) {
+            case DEACTIVATED -> accounts.put(event.userId(), new State(true, event.timestamp()));
+            case ACTIVATED -> accounts.put(event.userId(), new State(false, event.timestamp()));
+            case ROLE_CHANGED, UNIVERSITY_CHANGED, UNVERIFIED, DELETED ->
+                    invalidatedBefore.merge(event.userId(), event.timestamp(), Math::max);
+        }
+    }
+
+    /**
+     * Reconcile with the database. A local change newer than the snapshot wins,
+     * so an event raised while the query runs is not undone by it.
+     */
+    @Scheduled(initialDelay = 0, fixedDelayString = "${app.auth.revocation-refresh-ms:30000}")
+    public void refresh() {
+        long snapshotAt = System.currentTimeMillis();
+        Set<Long> inactive;
+        try {
+            inactive = new HashSet<>(userRepository.findInactiveUserIds());
+        } catch (RuntimeException e) {
+            logger.warn("Could not refresh account revocations: {}", e.getMessage());
+            return;
+        }
+
+        inactive.forEach(userId -> accounts.merge(userId, new State(true, snapshotAt),
+                (current, fromDb) -> current.changedAt() > snapshotAt ? current : fromDb));
+        accounts.entrySet().removeIf(entry -> !inactive.contains(entry.getKey())
+                && entry.getValue().changedAt() <= snapshotAt);
+
+        long expired = snapshotAt - tokenLifetimeMillis;
+        invalidatedBefore.values().removeIf(before -> before < expired);
+    }
+
+    private record State(boolean deactivated, long changedAt) {
+    }
+}
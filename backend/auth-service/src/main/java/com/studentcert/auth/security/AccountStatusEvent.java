@@ -0,0 +1,31 @@
+package com.studentcert.auth.security;
+
+/**
+ * Published when an account changes in a way that affects tokens already issued to it
+ */
+public record AccountStatusEvent(Long userId, Type type, long timestamp) {
+
+    public enum Type {
+        /** All tokens rejected until the account is activated again */
+        DEACTIVATED,
+        ACTIVATED,
+        /** Tokens issued before the change carry a stale role and are rejected */
+        ROLE_CHANGED,
+        /** Tokens issued before the change carry a stale university UID and are rejected */
+        UNIVERSITY_CHANGED,
+        /** Tokens issued before the change were issued to a verified account and are rejected */
+        UNVERIFIED,
+        DELETED;
+
+        /**
+         * Whether the change rejects every token issued before it, rather than toggling the account
+         */
+        public boolean invalidatesIssuedTokens() {
+            return this != DEACTIVATED && this != ACTIVATED;
+        }
+    }
+
+    public static AccountStatusEvent of(Long userId, Type type) {
+        return new AccountStatusEvent(userId, type, System.currentTimeMillis());
+    }
+}
@@ -0,0 +1,74 @@
+package com.studentcert.auth.security;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.event.EventListener;
+import org.springframework.kafka.annotation.KafkaListener;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.stereotype.Component;
+
+/**
+ * Broadcasts account changes that invalidate issued tokens to every auth-service instance
+ * over Kafka, keyed by user id so that each user's changes stay in order.
+ * <p>
+ * Like {@link TokenRevocationReplicator}, each instance replays the topic from the earliest
+ * retained offset; retention must cover the access token lifetime. Deactivation is not
+ * replicated: the database is authoritative for it, and a replayed stale event could
+ * otherwise lock out an account that was activated again since.
+ */
+@Component
+@ConditionalOnProperty(name = "app.jwt.revocation.replicate", havingValue = "true", matchIfMissing = true)
+public class AccountStatusReplicator {
+
+    private static final Logger logger = LoggerFactory.getLogger(AccountStatusReplicator.class);
+
+    private final AccountRevocationRegistry registry;
+    private final KafkaTemplate<String, String> kafkaTemplate;
+    private final ObjectMapper objectMapper;
+    private final String topic;
+
+    public AccountStatusReplicator(AccountRevocationRegistry registry,
+                                   KafkaTemplate<String, String> kafkaTemplate,
+                                   ObjectMapper objectMapper,
+                                   @Value("${app.jwt.revocation.account-topic:account_revocations}") String topic) {
+        this.registry = registry;
+        this.kafkaTemplate = kafkaTemplate;
+        this.objectMapper = objectMapper;
+        this.topic = topic;
+    }
+
+    @EventListener
+    public void onAccountStatus(AccountStatusEvent event) {
+        if (event.userId() == null || !event.type().invalidatesIssuedTokens()) {
+            return;
+        }
+        try {
+            kafkaTemplate.send(topic, event.userId().toString(), objectMapper.writeValueAsString(event))
+                    .whenComplete((result, e) -> {
+                        if (e != null) {
+                            logger.warn("Could not replicate {} of account {}: {}", event.type(), event.userId(), e.getMessage());
+                        }
+                    });
+        } catch (JsonProcessingException | RuntimeException e) {
+            logger.warn("Could not replicate {} of account {}: {}", event.type(), event.userId(), e.getMessage());
+        }
+    }
+
+    @KafkaListener(topics = "${app.jwt.revocation.account-topic:account_revocations}",
+                   groupId = "auth-account-revocations-${random.uuid}",
+                   properties = "auto.offset.reset=earliest")
+    public void onReplicated(String message) {
+        try {
+            AccountStatusEvent event = objectMapper.readValue(message, AccountStatusEvent.class);
+            if (event.type() != null && event.type().invalidatesIssuedTokens()) {
+                registry.apply(event);
+            }
+        } catch (JsonProcessingException e) {
+            logger.warn("Ignoring malformed account status message: {}", e.getMessage());
+        }
+    }
+}
@@ -1,16 +1,18 @@
 package com.studentcert.auth.security;
 
+import com.studentcert.auth.model.User;
 import com.studentcert.auth.service.JwtService;
 import com.studentcert.auth.service.UserService;
+import io.jsonwebtoken.JwtException;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Lazy;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.context.SecurityContextHolder;
-import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.security.core.userdetails.UsernameNotFoundException;
 import org.springframework.security.web.authentication.WebAuthenticationDetailsSource;
 import org.springframework.stereotype.Component;
@@ -25,9 +27,18 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
     private JwtService jwtService;
 
     private final UserService userService;
+    private final AccountRevocationRegistry revocationRegistry;
+    private final TokenRevocationStore tokenRevocationStore;
+    private final boolean stateless;
 
-    public JwtAuthenticationFilter(@Lazy UserService userService) {
+    public JwtAuthenticationFilter(@Lazy UserService userService,
+                                   AccountRevocationRegistry revocationRegistry,
+                                   TokenRevocationStore tokenRevocationStore,
+                                   @Value("${app.auth.stateless:true}") boolean stateless) {
         this.userService = userService;
+        this.revocationRegistry = revocationRegistry;
+        this.tokenRevocationStore = tokenRevocationStore;
+        this.stateless = stateless;
     }
 
     @Override
@@ -41,29 +52,34 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
         String path = request.getRequestURI();
         if (path.startsWith("/api/auth/login") ||
             path.startsWith("/api/auth/register") ||
+            path.startsWith("/api/auth/refresh") ||
             path.startsWith("/api/health")) {
             filterChain.doFilter(request, response);
             return;
         }
 
         final String authHeader = request.getHeader("Authorization");
-        final String jwt;
-        final String userEmail;
 
         if (authHeader == null || !authHeader.startsWith("Bearer ")) {
             filterChain.doFilter(request, response);
             return;
         }
 
-        jwt = authHeader.substring(7);
-        userEmail = jwtService.extractUsername(jwt);
+        // The token is verified once; every check below reads the parsed principal
+        final JwtPrincipal principal;
+        try {
+            principal = jwtService.parse(authHeader.substring(7));
+        } catch (JwtException | IllegalArgumentException e) {
+            filterChain.doFilter(request, response);
+            return;
+        }
 
-        if (userEmail != null && SecurityContextHolder.getContext().getAuthentication() == null) {
+        if (principal.email() != null && SecurityContextHolder.getContext().getAuthentication() == null
+                && !revocationRegistry.isRevoked(principal)
+                && !tokenRevocationStore.isRevoked(principal.tokenId())) {
             try {
-                UserDetails userDetails = userService.findByEmail(userEmail)
-                    .orElseThrow(() -> new UsernameNotFoundException("User not found"));
-
-                if (jwtService.isTokenValid(jwt, (com.studentcert.auth.model.User) userDetails)) {
+                User userDetails = stateless ? fromClaims(principal) : loadUser(principal);
+                if (userDetails != null) {
                     UsernamePasswordAuthenticationToken authToken = new UsernamePasswordAuthenticationToken(
                             userDetails,
                             null,
@@ -78,4 +94,25 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
         }
         filterChain.doFilter(request, response);
     }
+
+    /**
+     * Stateless mode: the verified claims already describe the user, no database read
+     */
+    private User fromClaims(JwtPrincipal principal) {
+        if (principal.role() == null || principal.userId() == null || principal.verified() == null) {
+            // Token predates the claims this mode relies on; fall back to the database
+            return loadUser(principal);
+        }
+        try {
+            return principal.toUser();
+        } catch (IllegalArgumentException e) {
+            return null;
+        }
+    }
+
+    private User loadUser(JwtPrincipal principal) {
+        User user = userService.findByEmail(principal.email())
+            .orElseThrow(() -> new UsernameNotFoundException("User not found"));
+        return jwtService.isTokenValid(principal, user) ? user : null;
+    }
 }
\ No newline at end of file
@@ -0,0 +1,48 @@
+package com.studentcert.auth.security;
+
+import com.studentcert.auth.model.User;
+import com.studentcert.auth.model.UserRole;
+import io.jsonwebtoken.Claims;
+
+import java.time.Instant;
+
+/**
+ * Verified claims of an access token, read once per request
+ */
+public record JwtPrincipal(String email, String role, Long userId, String uid, String universityUid, String fullName,
+                           Boolean verified, String tokenId, Instant issuedAt, Instant expiresAt) {
+
+    public static JwtPrincipal from(Claims claims) {
+        TokenClaims token = TokenClaims.of(claims);
+        return new JwtPrincipal(
+                token.subject(),
+                token.role(),
+                token.userId(),
+                token.uid(),
+                token.universityUid(),
+                token.fullName(),
+                token.verified(),
+                token.tokenId(),
+                token.issuedAt(),
+                token.expiresAt());
+    }
+
+    /**
+     * Detached user built from the claims alone, for stateless authentication.
+     * isVerified is the verified claim as of issue; registration hands out tokens before
+     * verification, so it can be false. isActive is true because a deactivated account's
+     * tokens are rejected by {@link AccountRevocationRegistry} before this is reached.
+     */
+    public User toUser() {
+        return User.builder()
+                .id(userId)
+                .email(email)
+                .fullName(fullName)
+                .role(UserRole.valueOf(role))
+                .uid(uid)
+                .universityUid(universityUid)
+                .isActive(true)
+                .isVerified(verified)
+                .build();
+    }
+}
@@ -0,0 +1,246 @@
+package com.studentcert.auth.security;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.LinkedHashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Failed logins per account and per client IP over a sliding window, used to slow down and
+ * then lock out password guessing before it reaches the database or BCrypt.
+ * <p>
+ * Each tracked key has a ring of per-slot counters; a slot packs its time slot and its count
+ * into one long, so counting is a single CAS and never blocks. Keys live in a fixed number of
+ * access-ordered stripes, each holding at most its share of max-entries and evicting its least
+ * recently used key, so memory stays bounded however many addresses or emails are tried.
+ * Past delay-after failures in the window a key must wait before its next attempt, twice as
+ * long after each further failure; at lockout-after it is locked for lockout-ms.
+ */
+@Component
+public class LoginAttemptTracker {
+
+    private static final int STRIPES = 64;
+    private static final int SLOTS = 15;
+    private static final int COUNT_BITS = 20;
+    private static final long COUNT_MASK = (1L << COUNT_BITS) - 1;
+
+    public enum Scope {
+        ACCOUNT,
+        IP
+    }
+
+    /**
+     * Whether an attempt may go ahead; if not, which key blocks it and for how long
+     */
+    public record Verdict(Scope blockedBy, long retryAfterMillis) {
+
+        static final Verdict ALLOWED = new Verdict(null, 0);
+
+        public boolean allowed() {
+            return blockedBy == null;
+        }
+    }
+
+    private record Policy(Scope scope, int delayAfter, int lockoutAfter) {
+    }
+
+    private final Policy accountPolicy;
+    private final Policy ipPolicy;
+    private final long slotMillis;
+    private final long baseDelayMillis;
+    private final long maxDelayMillis;
+    private final long lockoutMillis;
+    private final Stripe[] stripes = new Stripe[STRIPES];
+    private final MeterRegistry meterRegistry;
+    private final Counter failures;
+
+    public LoginAttemptTracker(MeterRegistry meterRegistry,
+                               @Value("${app.auth.login-throttle.window-ms:900000}") long windowMillis,
+                               @Value("${app.auth.login-throttle.max-entries:100000}") int maxEntries,
+                               @Value("${app.auth.login-throttle.account.delay-after:3}") int accountDelayAfter,
+                               @Value("${app.auth.login-throttle.account.lockout-after:10}") int accountLockoutAfter,
+                               @Value("${app.auth.login-throttle.ip.delay-after:20}") int ipDelayAfter,
+                               @Value("${app.auth.login-throttle.ip.lockout-after:100}") int ipLockoutAfter,
+                               @Value("${app.auth.login-throttle.base-delay-ms:1000}") long baseDelayMillis,
+                               @Value("${app.auth.login-throttle.max-delay-ms:30000}") long maxDelayMillis,
+                               @Value("${app.auth.login-throttle.lockout-ms:900000}") long lockoutMillis) {
+        this.meterRegistry = meterRegistry;
+        this.accountPolicy = new Policy(Scope.ACCOUNT, accountDelayAfter, accountLockoutAfter);
+        this.ipPolicy = new Policy(Scope.IP, ipDelayAfter, ipLockoutAfter);
+        this.slotMillis = Math.max(1, windowMillis / SLOTS);
+        this.baseDelayMillis = baseDelayMillis;
+        this.maxDelayMillis = maxDelayMillis;
+        this.lockoutMillis = lockoutMillis;
+        int perStripe = Math.max(1, maxEntries / STRIPES);
+        for (int i = 0; i < STRIPES; i++) {
+            stripes[i] = new Stripe(perStripe);
+        }
+        this.failures = Counter.builder("auth.login.failures").register(meterRegistry);
+        Gauge.builder("auth.login.tracked", this, LoginAttemptTracker::size).register(meterRegistry);
+    }
+
+    /**
+     * Decide whether a login may be attempted; only looks at memory
+     */
+    public Verdict check(String email, String clientIp) {
+        long now = System.currentTimeMillis();
+        Verdict verdict = check(accountPolicy, accountKey(email), now);
+        if (verdict.allowed()) {
+            verdict = check(ipPolicy, ipKey(clientIp), now);
+        }
+        if (!verdict.allowed()) {
+            meterRegistry.counter("auth.login.throttled", "scope", verdict.blockedBy().name()).increment();
+        }
+        return verdict;
+    }
+
+    public void recordFailure(String email, String clientIp) {
+        long now = System.currentTimeMillis();
+        failures.increment();
+        recordFailure(accountPolicy, accountKey(email), now);
+        recordFailure(ipPolicy, ipKey(clientIp), now);
+    }
+
+    /**
+     * A correct password clears the account's failures; the address keeps its count, since one
+     * address guessing at many accounts may well own one of them
+     */
+    public void recordSuccess(String email) {
+        String key = accountKey(email);
+        if (key != null) {
+            stripe(key).remove(key);
+        }
+    }
+
+    public int size() {
+        int size = 0;
+        for (Stripe stripe : stripes) {
+            size += stripe.size();
+        }
+        return size;
+    }
+
+    private Verdict check(Policy policy, String key, long now) {
+        if (key == null) {
+            return Verdict.ALLOWED;
+        }
+        Attempts attempts = stripe(key).get(key);
+        if (attempts == null) {
+            return Verdict.ALLOWED;
+        }
+        long wait = attempts.blockedUntil.get() - now;
+        return wait > 0 ? new Verdict(policy.scope(), wait) : Verdict.ALLOWED;
+    }
+
+    private void recordFailure(Policy policy, String key, long now) {
+        if (key == null) {
+            return;
+        }
+        Attempts attempts = stripe(key).getOrCreate(key);
+        int count = attempts.increment(now, slotMillis);
+        long until;
+        if (count >= policy.lockoutAfter()) {
+            until = now + lockoutMillis;
+            if (attempts.blockedUntil.get() < now + maxDelayMillis) {
+                meterRegistry.counter("auth.login.lockouts", "scope", policy.scope().name()).increment();
+            }
+        } else if (count >= policy.delayAfter()) {
+            int doublings = Math.min(count - policy.delayAfter(), 30);
+            until = now + Math.min(baseDelayMillis << doublings, maxDelayMillis);
+        } else {
+            return;
+        }
+        attempts.blockedUntil.accumulateAndGet(until, Math::max);
+    }
+
+    private Stripe stripe(String key) {
+        int hash = key.hashCode();
+        return stripes[(hash ^ (hash >>> 16)) & (STRIPES - 1)];
+    }
+
+    private static String accountKey(String email) {
+        return email == null || email.isBlank() ? null : "a:" + email.trim().toLowerCase(Locale.ROOT);
+    }
+
+    private static String ipKey(String clientIp) {
+        return clientIp == null || clientIp.isBlank() ? null : "i:" + clientIp;
+    }
+
+    /**
+     * Failure counts of one key, one slot per window/SLOTS of time
+     */
+    private static final class Attempts {
+
+        /** Per slot: the time slot it counts for in the high bits, its count in the low COUNT_BITS */
+        private final AtomicLongArray slots = new AtomicLongArray(SLOTS);
+        private final AtomicLong blockedUntil = new AtomicLong();
+
+        /**
+         * Count a failure and return the failures within the window, this one included
+         */
+        int increment(long now, long slotMillis) {
+            long timeSlot = now / slotMillis;
+            int index = (int) (timeSlot % SLOTS);
+            while (true) {
+                long current = slots.get(index);
+                long next;
+                if (current >>> COUNT_BITS == timeSlot) {
+                    next = (current & COUNT_MASK) == COUNT_MASK ? current : current + 1;
+                } else {
+                    next = (timeSlot << COUNT_BITS) | 1; // The slot last counted a window ago
+                }
+                if (current == next || slots.compareAndSet(index, current, next)) {
+                    break;
+                }
+            }
+            long total = 0;
+            for (int i = 0; i < SLOTS; i++) {
+                long slot = slots.get(i);
+                if (timeSlot - (slot >>> COUNT_BITS) < SLOTS) {
+                    total += slot & COUNT_MASK;
+                }
+            }
+            return (int) Math.min(total, Integer.MAX_VALUE);
+        }
+    }
+
+    /**
+     * One share of the tracked keys, least recently used first; held only for the map operation
+     */
+    private static final class Stripe {
+
+        private final Map<String, Attempts> entries;
+
+        Stripe(int capacity) {
+            this.entries = new LinkedHashMap<>(16, 0.75f, true) {
+                @Override
+                protected boolean removeEldestEntry(Map.Entry<String, Attempts> eldest) {
+                    return size() > capacity;
+                }
+            };
+        }
+
+        synchronized Attempts get(String key) {
+            return entries.get(key);
+        }
+
+        synchronized Attempts getOrCreate(String key) {
+            return entries.computeIfAbsent(key, k -> new Attempts());
+        }
+
+        synchronized void remove(String key) {
+            entries.remove(key);
+        }
+
+        synchronized int size() {
+            return entries.size();
+        }
+    }
+}
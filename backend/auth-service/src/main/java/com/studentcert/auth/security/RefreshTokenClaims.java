@@ -0,0 +1,22 @@
+package com.studentcert.auth.security;
+
+import io.jsonwebtoken.Claims;
+
+import java.time.Instant;
+
+/**
+ * Verified claims of a refresh token. Every refresh token descends from one login;
+ * they share a family id, so a replayed (already rotated) token can revoke the whole chain.
+ */
+public record RefreshTokenClaims(String tokenId, String familyId, Long userId, String email, Instant expiresAt) {
+
+    public static RefreshTokenClaims from(Claims claims) {
+        TokenClaims token = TokenClaims.of(claims);
+        return new RefreshTokenClaims(
+                token.tokenId(),
+                token.familyId(),
+                token.userId(),
+                token.subject(),
+                token.expiresAt());
+    }
+}
@@ -0,0 +1,214 @@
+package com.studentcert.auth.security;
+
+import com.studentcert.auth.model.SigningKey;
+import com.studentcert.auth.repository.SigningKeyRepository;
+import jakarta.annotation.PostConstruct;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.math.BigInteger;
+import java.security.GeneralSecurityException;
+import java.security.KeyFactory;
+import java.security.KeyPair;
+import java.security.KeyPairGenerator;
+import java.security.PrivateKey;
+import java.security.interfaces.RSAPublicKey;
+import java.security.spec.PKCS8EncodedKeySpec;
+import java.security.spec.X509EncodedKeySpec;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Rotating RSA key pairs for signing access and refresh tokens.
+ * <p>
+ * Keys live in the database so every instance signs with, and publishes, the same set.
+ * A new key is published on the JWKS endpoint {@code jwt.keys.pre-publish-ms} before it
+ * is used for signing, so validators that refresh their key cache in that window never
+ * see an unknown kid. A retired key stays published until every token it signed has
+ * expired, then it is deleted.
+ */
+@Component
+public class SigningKeyService {
+
+    private static final Logger logger = LoggerFactory.getLogger(SigningKeyService.class);
+    private static final int KEY_SIZE = 2048;
+    private static final long CLOCK_SKEW_MILLIS = 60_000;
+
+    private final SigningKeyRepository repository;
+    private final long rotationMillis;
+    private final long prePublishMillis;
+    private final long tokenLifetimeMillis;
+
+    /** Newest activation first */
+    private volatile List<KeyEntry> keys = List.of();
+    private volatile Map<String, KeyEntry> byKid = Map.of();
+
+    public SigningKeyService(SigningKeyRepository repository,
+                             @Value("${jwt.keys.rotation-interval-ms:604800000}") long rotationMillis, // 7 days
+                             @Value("${jwt.keys.pre-publish-ms:900000}") long prePublishMillis,
+                             // Refresh tokens are the longest-lived tokens a key signs
+                             @Value("${app.jwt.refresh-expiration:604800000}") long tokenLifetimeMillis) {
+        this.repository = repository;
+        this.rotationMillis = rotationMillis;
+        this.prePublishMillis = prePublishMillis;
+        this.tokenLifetimeMillis = tokenLifetimeMillis;
+    }
+
+    @PostConstruct
+    public void init() {
+        refresh();
+    }
+
+    /**
+     * Reload keys from the database, generating the next key when the current one
+     * is due for rotation and dropping keys whose tokens have all expired
+     */
+    @Scheduled(fixedDelayString = "${jwt.keys.refresh-ms:60000}", initialDelayString = "${jwt.keys.refresh-ms:60000}")
+    public synchronized void refresh() {
+        long now = System.currentTimeMillis();
+        List<SigningKey> stored = new ArrayList<>(repository.findAllByOrderByActivatesAtDesc());
+
+        if (rotationDue(stored, now)) {
+            // The very first key is used immediately; later ones are published ahead of use
+            long activatesAt = stored.isEmpty() ? now : now + prePublishMillis;
+            SigningKey next = repository.save(generate(now, activatesAt));
+            stored.add(0, next);
+            logger.info("Generated JWT signing key {} (active from {})", next.getKid(), next.getActivatesAt());
+        }
+
+        List<KeyEntry> retained = new ArrayList<>();
+        Long successorActivatedAt = null;
+        for (SigningKey key : stored) {
+            long activatesAt = millis(key.getActivatesAt());
+            boolean retired = successorActivatedAt != null
+                    && successorActivatedAt + tokenLifetimeMillis + CLOCK_SKEW_MILLIS < now;
+            if (retired) {
+                repository.delete(key);
+                logger.info("Retired JWT signing key {}", key.getKid());
+                continue;
+            }
+            retained.add(toEntry(key));
+            if (activatesAt <= now) {
+                successorActivatedAt = activatesAt;
+            }
+        }
+
+        Map<String, KeyEntry> index = new LinkedHashMap<>();
+        retained.forEach(entry -> index.put(entry.kid(), entry));
+        this.keys = List.copyOf(retained);
+        this.byKid = Map.copyOf(index);
+    }
+
+    /**
+     * Key to sign new tokens with: the most recently activated one
+     */
+    public KeyEntry signingKey() {
+        long now = System.currentTimeMillis();
+        List<KeyEntry> current = keys;
+        for (KeyEntry entry : current) {
+            if (entry.activatesAt() <= now) {
+                return entry;
+            }
+        }
+        if (current.isEmpty()) {
+            throw new IllegalStateException("No JWT signing key available");
+        }
+        return current.get(current.size() - 1);
+    }
+
+    public RSAPublicKey publicKey(String kid) {
+        KeyEntry entry = byKid.get(kid);
+        return entry != null ? entry.publicKey() : null;
+    }
+
+    /**
+     * Public halves of all published keys, in JWK form (RFC 7517)
+     */
+    public List<Map<String, Object>> jwks() {
+        List<Map<String, Object>> jwks = new ArrayList<>();
+        for (KeyEntry entry : keys) {
+            Map<String, Object> jwk = new LinkedHashMap<>();
+            jwk.put("kty", "RSA");
+            jwk.put("use", "sig");
+            jwk.put("alg", "RS256");
+            jwk.put("kid", entry.kid());
+            jwk.put("n", base64Url(entry.publicKey().getModulus()));
+            jwk.put("e", base64Url(entry.publicKey().getPublicExponent()));
+            jwks.add(jwk);
+        }
+        return jwks;
+    }
+
+    private boolean rotationDue(List<SigningKey> stored, long now) {
+        if (stored.isEmpty()) {
+            return true;
+        }
+        long newestActivation = millis(stored.get(0).getActivatesAt());
+        if (newestActivation > now) {
+            // The next key is already published and waiting
+            return false;
+        }
+        return now - newestActivation >= rotationMillis - prePublishMillis;
+    }
+
+    private static SigningKey generate(long now, long activatesAt) {
+        try {
+            KeyPairGenerator generator = KeyPairGenerator.getInstance("RSA");
+            generator.initialize(KEY_SIZE);
+            KeyPair pair = generator.generateKeyPair();
+            return SigningKey.builder()
+                    .kid(UUID.randomUUID().toString())
+                    .publicKey(Base64.getEncoder().encodeToString(pair.getPublic().getEncoded()))
+                    .privateKey(Base64.getEncoder().encodeToString(pair.getPrivate().getEncoded()))
+                    .createdAt(dateTime(now))
+                    .activatesAt(dateTime(activatesAt))
+                    .build();
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException("Failed to generate JWT signing key", e);
+        }
+    }
+
+    private static KeyEntry toEntry(SigningKey key) {
+        try {
+            KeyFactory factory = KeyFactory.getInstance("RSA");
+            RSAPublicKey publicKey = (RSAPublicKey) factory.generatePublic(
+                    new X509EncodedKeySpec(Base64.getDecoder().decode(key.getPublicKey())));
+            PrivateKey privateKey = factory.generatePrivate(
+                    new PKCS8EncodedKeySpec(Base64.getDecoder().decode(key.getPrivateKey())));
+            return new KeyEntry(key.getKid(), publicKey, privateKey, millis(key.getActivatesAt()));
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException("Invalid JWT signing key " + key.getKid(), e);
+        }
+    }
+
+    private static String base64Url(BigInteger value) {
+        byte[] bytes = value.toByteArray();
+        // Drop the sign byte: JWK integers are unsigned big-endian
+        if (bytes.length > 1 && bytes[0] == 0) {
+            bytes = Arrays.copyOfRange(bytes, 1, bytes.length);
+        }
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(bytes);
+    }
+
+    private static long millis(LocalDateTime dateTime) {
+        return dateTime.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+    }
+
+    private static LocalDateTime dateTime(long millis) {
+        return LocalDateTime.ofInstant(Instant.ofEpochMilli(millis), ZoneId.systemDefault());
+    }
+
+    public record KeyEntry(String kid, RSAPublicKey publicKey, PrivateKey privateKey, long activatesAt) {
+    }
+}
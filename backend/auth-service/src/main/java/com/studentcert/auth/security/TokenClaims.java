@@ -0,0 +1,117 @@
+package com.studentcert.auth.security;
+
+import com.studentcert.auth.model.User;
+import io.jsonwebtoken.Claims;
+
+import java.time.Instant;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * The claims auth-service puts in its tokens, by name and type. Access tokens carry the
+ * stable identity other services need (user id, role, UID, university UID, name) and whether
+ * the account was verified, so they do not have to ask auth-service who the caller is.
+ * certificate-service reads them through its own copy of this class; claim names must stay
+ * in step with it.
+ */
+public final class TokenClaims {
+
+    public static final String ROLE = "role";
+    public static final String USER_ID = "userId";
+    public static final String FULL_NAME = "fullName";
+    public static final String UID = "uid";
+    public static final String UNIVERSITY_UID = "universityUid";
+    public static final String VERIFIED = "verified";
+    public static final String TYPE = "typ";
+    public static final String FAMILY = "fam";
+
+    public static final String REFRESH_TYPE = "refresh";
+
+    private final Claims claims;
+
+    private TokenClaims(Claims claims) {
+        this.claims = claims;
+    }
+
+    public static TokenClaims of(Claims claims) {
+        return new TokenClaims(claims);
+    }
+
+    /**
+     * Identity claims of an access token for the user; absent values are left out
+     */
+    public static Map<String, Object> forAccessToken(User user) {
+        Map<String, Object> claims = new HashMap<>();
+        claims.put(ROLE, user.getRole().name());
+        claims.put(USER_ID, user.getId());
+        claims.put(FULL_NAME, user.getFullName());
+        claims.put(VERIFIED, Boolean.TRUE.equals(user.getIsVerified()));
+        if (user.getUid() != null) {
+            claims.put(UID, user.getUid());
+        }
+        if (user.getUniversityUid() != null) {
+            claims.put(UNIVERSITY_UID, user.getUniversityUid());
+        }
+        return claims;
+    }
+
+    /**
+     * Claims of a refresh token in the given family
+     */
+    public static Map<String, Object> forRefreshToken(User user, String familyId) {
+        Map<String, Object> claims = new HashMap<>();
+        claims.put(TYPE, REFRESH_TYPE);
+        claims.put(FAMILY, familyId);
+        claims.put(USER_ID, user.getId());
+        return claims;
+    }
+
+    public String subject() {
+        return claims.getSubject();
+    }
+
+    public String tokenId() {
+        return claims.getId();
+    }
+
+    public String role() {
+        return claims.get(ROLE, String.class);
+    }
+
+    public Long userId() {
+        // Numbers come back as Integer or Long depending on their size
+        return claims.get(USER_ID) instanceof Number number ? number.longValue() : null;
+    }
+
+    public String fullName() {
+        return claims.get(FULL_NAME, String.class);
+    }
+
+    public String uid() {
+        return claims.get(UID, String.class);
+    }
+
+    public String universityUid() {
+        return claims.get(UNIVERSITY_UID, String.class);
+    }
+
+    public Boolean verified() {
+        return claims.get(VERIFIED, Boolean.class);
+    }
+
+    public String familyId() {
+        return claims.get(FAMILY, String.class);
+    }
+
+    public boolean isRefreshToken() {
+        return REFRESH_TYPE.equals(claims.get(TYPE));
+    }
+
+    public Instant issuedAt() {
+        return claims.getIssuedAt() != null ? claims.getIssuedAt().toInstant() : null;
+    }
+
+    public Instant expiresAt() {
+        return claims.getExpiration().toInstant();
+    }
+}
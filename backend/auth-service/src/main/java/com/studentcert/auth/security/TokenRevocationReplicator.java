@@ -0,0 +1,68 @@
+package com.studentcert.auth.security;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.event.EventListener;
+import org.springframework.kafka.annotation.KafkaListener;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.stereotype.Component;
+
+/**
+ * Broadcasts token revocations to every auth-service instance over Kafka.
+ * <p>
+ * Each instance consumes the topic in its own consumer group from the earliest retained
+ * offset, so a freshly started instance replays the revocations that are still relevant,
+ * provided topic retention is at least the refresh-token lifetime.
+ */
+@Component
+@ConditionalOnProperty(name = "app.jwt.revocation.replicate", havingValue = "true", matchIfMissing = true)
+public class TokenRevocationReplicator {
+
+    private static final Logger logger = LoggerFactory.getLogger(TokenRevocationReplicator.class);
+
+    private final TokenRevocationStore revocationStore;
+    private final KafkaTemplate<String, String> kafkaTemplate;
+    private final ObjectMapper objectMapper;
+    private final String topic;
+
+    public TokenRevocationReplicator(TokenRevocationStore revocationStore,
+                                     KafkaTemplate<String, String> kafkaTemplate,
+                                     ObjectMapper objectMapper,
+                                     @Value("${app.jwt.revocation.topic:token_revocations}") String topic) {
+        this.revocationStore = revocationStore;
+        this.kafkaTemplate = kafkaTemplate;
+        this.objectMapper = objectMapper;
+        this.topic = topic;
+    }
+
+    @EventListener
+    public void onRevoked(TokenRevocationStore.TokenRevokedEvent event) {
+        try {
+            kafkaTemplate.send(topic, event.id(), objectMapper.writeValueAsString(event))
+                    .whenComplete((result, e) -> {
+                        if (e != null) {
+                            logger.warn("Could not replicate revocation of {}: {}", event.id(), e.getMessage());
+                        }
+                    });
+        } catch (JsonProcessingException | RuntimeException e) {
+            logger.warn("Could not replicate revocation of {}: {}", event.id(), e.getMessage());
+        }
+    }
+
+    @KafkaListener(topics = "${app.jwt.revocation.topic:token_revocations}",
+                   groupId = "auth-revocations-${random.uuid}",
+                   properties = "auto.offset.reset=earliest")
+    public void onReplicated(String message) {
+        try {
+            TokenRevocationStore.TokenRevokedEvent event =
+                    objectMapper.readValue(message, TokenRevocationStore.TokenRevokedEvent.class);
+            revocationStore.apply(event.id(), event.expiresAt());
+        } catch (JsonProcessingException e) {
+            logger.warn("Ignoring malformed revocation message: {}", e.getMessage());
+        }
+    }
+}
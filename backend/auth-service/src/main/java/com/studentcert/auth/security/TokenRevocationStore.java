@@ -0,0 +1,105 @@
+package com.studentcert.auth.security;
+
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+
+/**
+ * Ids of revoked tokens (jti) and refresh-token families, each kept only until the
+ * token it names would have expired anyway.
+ * <p>
+ * Lookups are a single hash probe, so the check adds nothing measurable to the request
+ * path. Ids are also filed in one-minute buckets by expiry, and expiring a whole bucket
+ * drops every id in it without scanning the rest. Revocations made here are announced as
+ * {@link TokenRevokedEvent}s for replication to other instances.
+ */
+@Component
+public class TokenRevocationStore {
+
+    private static final long BUCKET_MILLIS = 60_000;
+
+    private final ApplicationEventPublisher eventPublisher;
+
+    /** Revoked id to the time its token expires */
+    private final Map<String, Long> revoked = new ConcurrentHashMap<>();
+    /** Expiry bucket (expiresAt / BUCKET_MILLIS) to the ids expiring in it */
+    private final ConcurrentSkipListMap<Long, Set<String>> buckets = new ConcurrentSkipListMap<>();
+
+    public TokenRevocationStore(ApplicationEventPublisher eventPublisher) {
+        this.eventPublisher = eventPublisher;
+    }
+
+    public boolean isRevoked(String id) {
+        if (id == null) {
+            return false;
+        }
+        Long expiresAt = revoked.get(id);
+        return expiresAt != null && expiresAt > System.currentTimeMillis();
+    }
+
+    /**
+     * Revoke on this instance and announce it to the others
+     *
+     * @return false if the id was already revoked here, so a caller can detect a replay
+     */
+    public boolean revoke(String id, long expiresAt) {
+        if (!apply(id, expiresAt)) {
+            return false;
+        }
+        eventPublisher.publishEvent(new TokenRevokedEvent(id, expiresAt));
+        return true;
+    }
+
+    /**
+     * Record a revocation without announcing it (used for revocations replicated from other instances)
+     *
+     * @return false if the id was already revoked for at least as long, or its token has expired
+     */
+    public boolean apply(String id, long expiresAt) {
+        if (id == null || expiresAt <= System.currentTimeMillis()) {
+            return false;
+        }
+        while (true) {
+            Long previous = revoked.putIfAbsent(id, expiresAt);
+            if (previous == null) {
+                break;
+            }
+            if (previous >= expiresAt) {
+                return false;
+            }
+            if (revoked.replace(id, previous, expiresAt)) {
+                break;
+            }
+        }
+        buckets.computeIfAbsent(expiresAt / BUCKET_MILLIS, bucket -> ConcurrentHashMap.newKeySet()).add(id);
+        return true;
+    }
+
+    public int size() {
+        return revoked.size();
+    }
+
+    /**
+     * Drop the buckets whose tokens have all expired
+     */
+    @Scheduled(fixedDelay = BUCKET_MILLIS, initialDelay = BUCKET_MILLIS)
+    public void evictExpired() {
+        long now = System.currentTimeMillis();
+        Map<Long, Set<String>> expired = buckets.headMap(now / BUCKET_MILLIS);
+        expired.values().forEach(ids -> ids.forEach(id ->
+                // The id may have been revoked again for longer and filed in a later bucket
+                revoked.computeIfPresent(id, (key, expiresAt) -> expiresAt <= now ? null : expiresAt)));
+        expired.clear();
+    }
+
+    /**
+     * Published when a token id is revoked on this instance
+     */
+    public record TokenRevokedEvent(String id, long expiresAt) {
+    }
+}
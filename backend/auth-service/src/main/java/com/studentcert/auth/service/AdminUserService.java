@@ -1,18 +1,23 @@
 package com.studentcert.auth.service;
 
+import com.studentcert.auth.dto.PaginatedResponse;
 import com.studentcert.auth.dto.UpdateUserRequest;
 import com.studentcert.auth.dto.UserDto;
+import com.studentcert.auth.dto.UserSearchCursor;
+import com.studentcert.auth.model.OutboxEvent;
 import com.studentcert.auth.model.User;
 import com.studentcert.auth.model.UserRole;
 import com.studentcert.auth.repository.UserRepository;
+import com.studentcert.auth.security.AccountStatusEvent;
 import org.springframework.beans.factory.annotation.Autowired;
-import org.springframework.data.domain.Page;
-import org.springframework.data.domain.PageRequest;
-import org.springframework.data.domain.Pageable;
-import org.springframework.data.domain.Sort;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Objects;
 
 @Service
 public class AdminUserService {
@@ -21,25 +26,80 @@ public class AdminUserService {
     private UserRepository userRepository;
     
     @Autowired
-    private UniversityServiceClient universityServiceClient;
+    private Outbox outbox;
 
-    public Page<UserDto> getUsers(int page, int size, String search, UserRole role) {
-        Pageable pageable = PageRequest.of(page, size, Sort.by("createdAt").descending());
-        
-        Page<User> userPage;
-        if (search != null && !search.trim().isEmpty()) {
-            if (role != null) {
-                userPage = userRepository.findByEmailContainingIgnoreCaseAndRole(search, role, pageable);
+    @Autowired
+    private ApplicationEventPublisher eventPublisher;
+
+    @Value("${app.users.search.exact-count-threshold:10000}")
+    private long exactCountThreshold;
+
+    @Value("${app.university-sync.coalesce-ms:500}")
+    private long universitySyncCoalesceMillis;
+
+    private static final int MAX_PAGE_SIZE = 1000;
+
+    /**
+     * How totalElements is computed for the admin user list
+     */
+    public enum CountMode {
+        ESTIMATE, // planner estimate, counted exactly when small
+        EXACT,
+        NONE      // skip counting; only tells whether there is a next page
+    }
+
+    /**
+     * One page of the admin user list, newest first, optionally filtered by a substring of
+     * email, name or UID and by role. A cursor from the previous page is followed by keyset,
+     * so deep pages cost the same as the first; without one, page falls back to an offset.
+     */
+    public PaginatedResponse<UserDto> getUsers(int page, int size, String search, UserRole role,
+                                               String cursor, CountMode countMode) {
+        int limit = Math.max(1, Math.min(size, MAX_PAGE_SIZE));
+        int pageNumber = Math.max(page, 0);
+        UserSearchCursor after = UserSearchCursor.decode(cursor);
+        long skipped = (long) pageNumber * limit;
+
+        // One extra row tells us whether there is a next page without counting
+        List<User> rows = userRepository.search(search, role, after,
+                after != null ? 0 : (int) Math.min(skipped, Integer.MAX_VALUE), limit + 1);
+        boolean hasMore = rows.size() > limit;
+        List<User> users = hasMore ? rows.subList(0, limit) : rows;
+
+        long seen = skipped + users.size();
+        long total;
+        boolean estimated = false;
+        if (!hasMore) {
+            total = seen;
+        } else if (countMode == CountMode.EXACT) {
+            total = userRepository.countMatches(search, role);
+        } else if (countMode == CountMode.NONE) {
+            total = seen + 1;
+            estimated = true;
+        } else {
+            total = userRepository.estimateMatches(search, role);
+            if (total <= exactCountThreshold) {
+                // Small result sets are cheap to count through the indexes, and estimates
+                // for substring filters are rough
+                total = userRepository.countMatches(search, role);
             } else {
-                userPage = userRepository.findByEmailContainingIgnoreCase(search, pageable);
+                estimated = true;
             }
-        } else if (role != null) {
-            userPage = userRepository.findByRole(role, pageable);
-        } else {
-            userPage = userRepository.findAll(pageable);
         }
-        
-        return userPage.map(this::convertToDto);
+        total = Math.max(total, seen + (hasMore ? 1 : 0));
+
+        return PaginatedResponse.<UserDto>builder()
+                .content(users.stream().map(this::convertToDto).toList())
+                .page(pageNumber)
+                .size(limit)
+                .totalElements(total)
+                .totalPages((int) Math.min((total + limit - 1) / limit, Integer.MAX_VALUE))
+                .first(pageNumber == 0)
+                .last(!hasMore)
+                .empty(users.isEmpty())
+                .nextCursor(hasMore ? UserSearchCursor.after(users.get(users.size() - 1)).encode() : null)
+                .totalEstimated(estimated)
+                .build();
     }
 
     public UserDto getUserById(Long id) {
@@ -48,11 +108,15 @@ public class AdminUserService {
         return convertToDto(user);
     }
 
+    @Transactional
     public UserDto updateUser(Long id, UpdateUserRequest request) {
         User user = userRepository.findById(id)
                 .orElseThrow(() -> new RuntimeException("User not found with id: " + id));
         
-        boolean wasVerified = user.getIsVerified();
+        boolean wasActive = user.getIsActive();
+        UserRole previousRole = user.getRole();
+        String previousUniversityUid = user.getUniversityUid();
+        UserChangedEvent.State before = UserChangedEvent.State.of(user);
         
         if (request.getFullName() != null) {
             user.setFullName(request.getFullName());
@@ -73,68 +137,59 @@ public class AdminUserService {
         user.setUpdatedAt(LocalDateTime.now());
         user = userRepository.save(user);
         
+        if (wasActive != user.getIsActive()) {
+            eventPublisher.publishEvent(AccountStatusEvent.of(user.getId(),
+                user.getIsActive() ? AccountStatusEvent.Type.ACTIVATED : AccountStatusEvent.Type.DEACTIVATED));
+        }
+        if (previousRole != user.getRole()) {
+            eventPublisher.publishEvent(AccountStatusEvent.of(user.getId(), AccountStatusEvent.Type.ROLE_CHANGED));
+        }
+        if (!Objects.equals(previousUniversityUid, user.getUniversityUid())) {
+            eventPublisher.publishEvent(AccountStatusEvent.of(user.getId(), AccountStatusEvent.Type.UNIVERSITY_CHANGED));
+        }
+        if (before.verified() && !Boolean.TRUE.equals(user.getIsVerified())) {
+            eventPublisher.publishEvent(AccountStatusEvent.of(user.getId(), AccountStatusEvent.Type.UNVERIFIED));
+        }
+        eventPublisher.publishEvent(UserChangedEvent.updated(before, user));
+        
         // Sync changes to university service for university users
-        if (user.getRole() == UserRole.UNIVERSITY && user.getUid() != null) {
-            try {
-                // Sync verification status changes
-                if (!wasVerified && user.getIsVerified()) {
-                    // Changed from unverified to verified
-                    universityServiceClient.verifyUniversity(user.getUid());
-                } else if (wasVerified && !user.getIsVerified()) {
-                    // Changed from verified to unverified
-                    universityServiceClient.unverifyUniversity(user.getUid());
-                }
-                
-                // Sync name updates to university service
-                if (request.getFullName() != null) {
-                    universityServiceClient.updateUniversity(
-                        user.getUid(), 
-                        user.getFullName(), 
-                        user.getEmail(),
-                        null, // address not in User table
-                        null  // phone not in User table
-                    );
-                }
-            } catch (Exception e) {
-                System.err.println("Failed to sync changes to university service: " + e.getMessage());
-            }
+        if (user.getRole() == UserRole.UNIVERSITY && user.getUid() != null
+                && (before.verified() != user.getIsVerified() || request.getFullName() != null)) {
+            syncUniversity(user, false);
         }
         
         return convertToDto(user);
     }
 
+    @Transactional
     public void deleteUser(Long id) {
         User user = userRepository.findById(id)
                 .orElseThrow(() -> new RuntimeException("User not found with id: " + id));
         
         // If this is a university user, also delete from university service
         if (user.getRole() == UserRole.UNIVERSITY && user.getUid() != null) {
-            try {
-                universityServiceClient.deleteUniversity(user.getUid());
-            } catch (Exception e) {
-                System.err.println("Failed to delete university from university service: " + e.getMessage());
-            }
+            syncUniversity(user, true);
         }
         
         userRepository.delete(user);
+        eventPublisher.publishEvent(AccountStatusEvent.of(id, AccountStatusEvent.Type.DELETED));
+        eventPublisher.publishEvent(UserChangedEvent.deleted(user));
     }
 
+    @Transactional
     public UserDto verifyUser(Long id) {
         User user = userRepository.findById(id)
                 .orElseThrow(() -> new RuntimeException("User not found with id: " + id));
+        UserChangedEvent.State before = UserChangedEvent.State.of(user);
         
         user.setIsVerified(true);
         user.setUpdatedAt(LocalDateTime.now());
         user = userRepository.save(user);
+        eventPublisher.publishEvent(UserChangedEvent.updated(before, user));
         
         // If this is a university user, also verify in university service
         if (user.getRole() == UserRole.UNIVERSITY && user.getUid() != null) {
-            try {
-                universityServiceClient.verifyUniversity(user.getUid());
-            } catch (Exception e) {
-                // Log error but don't fail the verification in auth service
-                System.err.println("Failed to sync verification to university service: " + e.getMessage());
-            }
+            syncUniversity(user, false);
         }
         
         return convertToDto(user);
@@ -143,10 +198,13 @@ public class AdminUserService {
     public UserDto activateUser(Long id) {
         User user = userRepository.findById(id)
                 .orElseThrow(() -> new RuntimeException("User not found with id: " + id));
+        UserChangedEvent.State before = UserChangedEvent.State.of(user);
         
         user.setIsActive(true);
         user.setUpdatedAt(LocalDateTime.now());
         user = userRepository.save(user);
+        eventPublisher.publishEvent(AccountStatusEvent.of(user.getId(), AccountStatusEvent.Type.ACTIVATED));
+        eventPublisher.publishEvent(UserChangedEvent.updated(before, user));
         
         return convertToDto(user);
     }
@@ -154,14 +212,28 @@ public class AdminUserService {
     public UserDto deactivateUser(Long id) {
         User user = userRepository.findById(id)
                 .orElseThrow(() -> new RuntimeException("User not found with id: " + id));
+        UserChangedEvent.State before = UserChangedEvent.State.of(user);
         
         user.setIsActive(false);
         user.setUpdatedAt(LocalDateTime.now());
         user = userRepository.save(user);
+        eventPublisher.publishEvent(AccountStatusEvent.of(user.getId(), AccountStatusEvent.Type.DEACTIVATED));
+        eventPublisher.publishEvent(UserChangedEvent.updated(before, user));
         
         return convertToDto(user);
     }
 
+    /**
+     * Queue the university's current state for university-service in this transaction. The
+     * change waits briefly so a burst of edits goes out as one batched call, and it replaces
+     * any of the university's changes still waiting; failed calls are retried by the relay.
+     */
+    private void syncUniversity(User user, boolean deleted) {
+        outbox.addLatest(OutboxEvent.Type.UNIVERSITY_SYNC, "university-" + user.getUid() + "-sync",
+                new Outbox.UniversitySync(user.getUid(), user.getFullName(), user.getEmail(), user.getIsVerified(), deleted),
+                universitySyncCoalesceMillis);
+    }
+
     private UserDto convertToDto(User user) {
         return UserDto.builder()
                 .id(user.getId())
@@ -3,11 +3,16 @@ package com.studentcert.auth.service;
 import com.studentcert.auth.model.User;
 import com.studentcert.auth.model.UserRole;
 import com.studentcert.auth.repository.UserRepository;
+import com.studentcert.auth.security.JwtPrincipal;
+import com.studentcert.auth.security.LoginAttemptTracker;
+import com.studentcert.auth.security.RefreshTokenClaims;
+import com.studentcert.auth.security.TokenRevocationStore;
+import io.jsonwebtoken.JwtException;
 import org.springframework.beans.factory.annotation.Autowired;
-import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
 
 import java.util.Optional;
+import java.util.UUID;
 
 @Service
 public class AuthService {
@@ -16,20 +21,50 @@ public class AuthService {
     private UserRepository userRepository;
 
     @Autowired
-    private PasswordEncoder passwordEncoder;
+    private PasswordHashingService passwordHashingService;
+
+    @Autowired
+    private JwtService jwtService;
+
+    @Autowired
+    private TokenRevocationStore tokenRevocationStore;
+
+    @Autowired
+    private LoginAttemptTracker loginAttemptTracker;
+
+    /**
+     * @param clientIp address the attempt came from, for throttling; may be null
+     */
+    public User authenticate(String email, String password, String clientIp) throws Exception {
+        // Throttled attempts are refused before they cost a query or a hash
+        LoginAttemptTracker.Verdict verdict = loginAttemptTracker.check(email, clientIp);
+        if (!verdict.allowed()) {
+            throw new LoginThrottledException("Too many failed login attempts, try again later", verdict.retryAfterMillis());
+        }
 
-    public User authenticate(String email, String password) throws Exception {
         Optional<User> userOptional = userRepository.findByEmail(email);
         
         if (userOptional.isEmpty()) {
+            loginAttemptTracker.recordFailure(email, clientIp);
             throw new Exception("Invalid email or password");
         }
         
         User user = userOptional.get();
         
-        if (!passwordEncoder.matches(password, user.getPassword())) {
+        // BCrypt runs on the hashing pool; throws PasswordHashingBusyException when it is saturated
+        if (!passwordHashingService.matches(password, user.getPassword())) {
+            loginAttemptTracker.recordFailure(email, clientIp);
             throw new Exception("Invalid email or password");
         }
+        loginAttemptTracker.recordSuccess(email);
+
+        // The configured cost factor changed since this hash was made: upgrade it in the background
+        if (passwordHashingService.needsRehash(user.getPassword())) {
+            Long userId = user.getId();
+            String previousHash = user.getPassword();
+            passwordHashingService.rehashLater(password,
+                    rehashed -> userRepository.updatePasswordIfUnchanged(userId, previousHash, rehashed));
+        }
         
         if (!user.getIsActive()) {
             throw new Exception("Account is disabled");
@@ -42,6 +77,79 @@ public class AuthService {
         return user;
     }
 
+    /**
+     * Access token plus the first refresh token of a new family, for a fresh login
+     */
+    public Session startSession(User user) {
+        return new Session(user, jwtService.generateToken(user),
+                jwtService.generateRefreshToken(user, UUID.randomUUID().toString()));
+    }
+
+    /**
+     * Exchange a refresh token for a new access token and a new refresh token in the same
+     * family. Each refresh token works once: presenting a rotated one again means it was
+     * copied, so the whole family is revoked and the user has to log in again.
+     */
+    public Session refresh(String refreshToken) throws Exception {
+        RefreshTokenClaims claims;
+        try {
+            claims = jwtService.parseRefreshToken(refreshToken);
+        } catch (JwtException | IllegalArgumentException e) {
+            throw new Exception("Invalid refresh token");
+        }
+        if (claims.familyId() == null || claims.userId() == null
+                || tokenRevocationStore.isRevoked(familyKey(claims.familyId()))) {
+            throw new Exception("Refresh token has been revoked");
+        }
+        if (!tokenRevocationStore.revoke(claims.tokenId(), claims.expiresAt().toEpochMilli())) {
+            revokeFamily(claims.familyId());
+            throw new Exception("Refresh token has been revoked");
+        }
+
+        // Not the request path: read the account so role changes, deactivation and verification apply at once
+        User user = userRepository.findById(claims.userId())
+                .orElseThrow(() -> new Exception("Account not found"));
+        if (!user.getIsActive()) {
+            revokeFamily(claims.familyId());
+            throw new Exception("Account is disabled");
+        }
+        // Registration hands out a session before verification; it cannot be renewed past login's check
+        if (!user.getIsVerified()) {
+            revokeFamily(claims.familyId());
+            throw new Exception("Account is not verified");
+        }
+        return new Session(user, jwtService.generateToken(user),
+                jwtService.generateRefreshToken(user, claims.familyId()));
+    }
+
+    /**
+     * Revoke the access token and, when given, the session its refresh token belongs to
+     */
+    public void logout(JwtPrincipal accessToken, String refreshToken) {
+        if (accessToken != null) {
+            tokenRevocationStore.revoke(accessToken.tokenId(), accessToken.expiresAt().toEpochMilli());
+        }
+        if (refreshToken != null && !refreshToken.isBlank()) {
+            try {
+                RefreshTokenClaims claims = jwtService.parseRefreshToken(refreshToken);
+                if (accessToken == null || accessToken.email() == null || accessToken.email().equals(claims.email())) {
+                    revokeFamily(claims.familyId());
+                }
+            } catch (JwtException | IllegalArgumentException e) {
+                // Already invalid, nothing to revoke
+            }
+        }
+    }
+
+    private void revokeFamily(String familyId) {
+        // Every refresh token of the family expires within one lifetime from now
+        tokenRevocationStore.revoke(familyKey(familyId), System.currentTimeMillis() + jwtService.getRefreshTokenLifetime());
+    }
+
+    private static String familyKey(String familyId) {
+        return "family:" + familyId;
+    }
+
     public boolean hasAdminRole(User user) {
         return user.getRole() == UserRole.ADMIN;
     }
@@ -49,4 +157,7 @@ public class AuthService {
     public boolean hasUniversityRole(User user) {
         return user.getRole() == UserRole.UNIVERSITY;
     }
-}
\ No newline at end of file
+
+    public record Session(User user, String accessToken, String refreshToken) {
+    }
+}
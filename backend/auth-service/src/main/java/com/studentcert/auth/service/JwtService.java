@@ -1,30 +1,109 @@
 package com.studentcert.auth.service;
 
 import com.studentcert.auth.model.User;
+import com.studentcert.auth.security.JwtClaimsCache;
+import com.studentcert.auth.security.JwtPrincipal;
+import com.studentcert.auth.security.RefreshTokenClaims;
+import com.studentcert.auth.security.SigningKeyService;
+import com.studentcert.auth.security.TokenClaims;
 import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwsHeader;
+import io.jsonwebtoken.JwtException;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.SignatureAlgorithm;
+import io.jsonwebtoken.SigningKeyResolverAdapter;
+import io.jsonwebtoken.UnsupportedJwtException;
 import io.jsonwebtoken.security.Keys;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 
+import java.nio.charset.StandardCharsets;
 import java.security.Key;
 import java.util.Date;
 import java.util.HashMap;
 import java.util.Map;
+import java.util.UUID;
 import java.util.function.Function;
 
 @Service
 public class JwtService {
 
-    @Value("${jwt.secret:mySecretKey123456789012345678901234567890}")
-    private String secretKey;
+    // Shipped as the default secret, so tokens signed with it prove nothing
+    private static final String PUBLIC_DEFAULT_SECRET = "mySecretKey123456789012345678901234567890";
 
-    @Value("${jwt.expiration:86400000}") // 24 hours in milliseconds
-    private Long jwtExpiration;
+    private final SigningKeyService signingKeys;
+    private final Key legacyHmacKey;
+    private final boolean acceptLegacyHmac;
+    private final JwtParser parser;
+    private final long jwtExpiration;
+    private final long refreshExpiration;
+    private final JwtClaimsCache claimsCache;
+
+    public JwtService(SigningKeyService signingKeys,
+                      @Value("${app.jwt.secret:}") String secretKey,
+                      @Value("${jwt.accept-legacy-hmac:false}") boolean acceptLegacyHmac,
+                      @Value("${jwt.expiration:900000}") long jwtExpiration, // 15 minutes in milliseconds
+                      @Value("${app.jwt.refresh-expiration:604800000}") long refreshExpiration, // 7 days
+                      @Value("${jwt.cache.max-entries:10000}") int cacheMaxEntries,
+                      @Value("${jwt.cache.ttl-ms:60000}") long cacheTtlMillis) {
+        this.signingKeys = signingKeys;
+        if (acceptLegacyHmac && (secretKey.isBlank() || PUBLIC_DEFAULT_SECRET.equals(secretKey))) {
+            throw new IllegalStateException(
+                    "jwt.accept-legacy-hmac needs app.jwt.secret set to the secret legacy tokens were signed with");
+        }
+        this.legacyHmacKey = acceptLegacyHmac ? Keys.hmacShaKeyFor(secretKey.getBytes(StandardCharsets.UTF_8)) : null;
+        this.acceptLegacyHmac = acceptLegacyHmac;
+        // The parser is immutable and thread-safe, so it is built once; keys are resolved per token by kid
+        this.parser = Jwts.parserBuilder()
+                .setSigningKeyResolver(new SigningKeyResolverAdapter() {
+                    @Override
+                    public Key resolveSigningKey(JwsHeader header, Claims claims) {
+                        return verificationKey(header);
+                    }
+                })
+                .build();
+        this.jwtExpiration = jwtExpiration;
+        this.refreshExpiration = refreshExpiration;
+        this.claimsCache = new JwtClaimsCache(cacheMaxEntries, cacheTtlMillis);
+    }
+
+    /**
+     * Verify the token once and return its claims as a typed principal.
+     * Recently verified tokens are served from a short-lived cache.
+     *
+     * @throws io.jsonwebtoken.JwtException if the token is malformed, tampered with, expired or a refresh token
+     */
+    public JwtPrincipal parse(String token) {
+        long now = System.currentTimeMillis();
+        JwtPrincipal cached = claimsCache.get(token, now);
+        if (cached != null) {
+            return cached;
+        }
+        Claims claims = extractAllClaims(token);
+        if (TokenClaims.of(claims).isRefreshToken()) {
+            throw new UnsupportedJwtException("Refresh tokens cannot authenticate requests");
+        }
+        JwtPrincipal principal = JwtPrincipal.from(claims);
+        claimsCache.put(token, principal, now);
+        return principal;
+    }
+
+    /**
+     * Verify a refresh token; access tokens are rejected
+     *
+     * @throws io.jsonwebtoken.JwtException if the token is malformed, tampered with, expired or not a refresh token
+     */
+    public RefreshTokenClaims parseRefreshToken(String token) {
+        Claims claims = extractAllClaims(token);
+        if (!TokenClaims.of(claims).isRefreshToken()) {
+            throw new UnsupportedJwtException("Not a refresh token");
+        }
+        return RefreshTokenClaims.from(claims);
+    }
 
     public String extractUsername(String token) {
-        return extractClaim(token, Claims::getSubject);
+        return parse(token).email();
     }
 
     public <T> T extractClaim(String token, Function<Claims, T> claimsResolver) {
@@ -37,52 +116,74 @@ public class JwtService {
     }
 
     public String generateToken(Map<String, Object> extraClaims, User userDetails) {
-        extraClaims.put("role", userDetails.getRole().name());
-        extraClaims.put("userId", userDetails.getId());
-        extraClaims.put("fullName", userDetails.getFullName());
-        
+        extraClaims.putAll(TokenClaims.forAccessToken(userDetails));
+
         return buildToken(extraClaims, userDetails, jwtExpiration);
     }
 
+    /**
+     * Long-lived token that can only be exchanged for a new access token, in the given family
+     */
+    public String generateRefreshToken(User userDetails, String familyId) {
+        return buildToken(TokenClaims.forRefreshToken(userDetails, familyId), userDetails, refreshExpiration);
+    }
+
+    public long getAccessTokenLifetime() {
+        return jwtExpiration;
+    }
+
+    public long getRefreshTokenLifetime() {
+        return refreshExpiration;
+    }
+
     private String buildToken(
             Map<String, Object> extraClaims,
             User userDetails,
             long expiration
     ) {
+        SigningKeyService.KeyEntry key = signingKeys.signingKey();
         return Jwts
                 .builder()
+                .setHeaderParam(JwsHeader.KEY_ID, key.kid())
                 .setClaims(extraClaims)
                 .setSubject(userDetails.getUsername())
+                .setId(UUID.randomUUID().toString()) // Lets a single token be revoked
                 .setIssuedAt(new Date(System.currentTimeMillis()))
                 .setExpiration(new Date(System.currentTimeMillis() + expiration))
-                .signWith(getSignInKey(), SignatureAlgorithm.HS256)
+                .signWith(key.privateKey(), SignatureAlgorithm.RS256)
                 .compact();
     }
 
     public boolean isTokenValid(String token, User userDetails) {
-        final String username = extractUsername(token);
-        return (username.equals(userDetails.getUsername())) && !isTokenExpired(token);
-    }
-
-    private boolean isTokenExpired(String token) {
-        return extractExpiration(token).before(new Date());
+        return isTokenValid(parse(token), userDetails);
     }
 
-    private Date extractExpiration(String token) {
-        return extractClaim(token, Claims::getExpiration);
+    public boolean isTokenValid(JwtPrincipal principal, User userDetails) {
+        return principal.email().equals(userDetails.getUsername())
+                && principal.expiresAt().toEpochMilli() > System.currentTimeMillis();
     }
 
     private Claims extractAllClaims(String token) {
-        return Jwts
-                .parserBuilder()
-                .setSigningKey(getSignInKey())
-                .build()
-                .parseClaimsJws(token)
-                .getBody();
+        return parser.parseClaimsJws(token).getBody();
     }
 
-    private Key getSignInKey() {
-        byte[] keyBytes = secretKey.getBytes();
-        return Keys.hmacShaKeyFor(keyBytes);
+    /**
+     * RS256 tokens are checked against the published key named by their kid. Tokens signed
+     * with the old shared secret are accepted only until jwt.accept-legacy-hmac is turned off.
+     */
+    private Key verificationKey(JwsHeader header) {
+        String algorithm = header.getAlgorithm();
+        if (algorithm != null && algorithm.startsWith("HS")) {
+            if (!acceptLegacyHmac) {
+                throw new UnsupportedJwtException("HMAC-signed tokens are no longer accepted");
+            }
+            return legacyHmacKey;
+        }
+        String kid = header.getKeyId();
+        Key key = kid != null ? signingKeys.publicKey(kid) : null;
+        if (key == null) {
+            throw new JwtException("Unknown signing key: " + kid);
+        }
+        return key;
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,19 @@
+package com.studentcert.auth.service;
+
+/**
+ * Thrown when too many logins failed recently for the account or the client address;
+ * callers should answer 429 with Retry-After
+ */
+public class LoginThrottledException extends RuntimeException {
+
+    private final long retryAfterMillis;
+
+    public LoginThrottledException(String message, long retryAfterMillis) {
+        super(message);
+        this.retryAfterMillis = retryAfterMillis;
+    }
+
+    public long getRetryAfterMillis() {
+        return retryAfterMillis;
+    }
+}
@@ -0,0 +1,106 @@
+package com.studentcert.auth.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.studentcert.auth.model.OutboxEvent;
+import com.studentcert.auth.repository.OutboxEventRepository;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * Records side effects in the caller's transaction, so they exist exactly when the change
+ * that causes them commits. OutboxRelay delivers them.
+ */
+@Service
+public class Outbox {
+
+    /**
+     * Payload of {@link OutboxEvent.Type#UNIVERSITY_REGISTRATION}
+     */
+    public record UniversityRegistration(String universityId, String universityName, String email,
+                                         String address, String phone) {
+    }
+
+    /**
+     * Payload of {@link OutboxEvent.Type#UNIVERSITY_SYNC}: the desired state of one university
+     * in university-service; null fields are left unchanged
+     */
+    public record UniversitySync(String universityId, String universityName, String email,
+                                 Boolean verified, boolean deleted) {
+
+        /**
+         * This change followed by a later one for the same university, as a single change
+         */
+        public UniversitySync then(UniversitySync later) {
+            if (later.deleted()) {
+                return later;
+            }
+            return new UniversitySync(universityId,
+                    later.universityName() != null ? later.universityName() : universityName,
+                    later.email() != null ? later.email() : email,
+                    later.verified() != null ? later.verified() : verified,
+                    false);
+        }
+    }
+
+    /**
+     * Published when events were written, so the relay can start once they are due
+     */
+    public record EventsWritten(long delayMillis) {
+    }
+
+    private final OutboxEventRepository repository;
+    private final ObjectMapper objectMapper;
+    private final ApplicationEventPublisher eventPublisher;
+
+    public Outbox(OutboxEventRepository repository, ObjectMapper objectMapper, ApplicationEventPublisher eventPublisher) {
+        this.repository = repository;
+        this.objectMapper = objectMapper;
+        this.eventPublisher = eventPublisher;
+    }
+
+    /**
+     * @param idempotencyKey stable for the same logical effect, e.g. "user-42-welcome-email";
+     *                       adding the same key twice fails the transaction
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void add(OutboxEvent.Type type, String idempotencyKey, Object payload) {
+        add(type, idempotencyKey, payload, 0);
+    }
+
+    /**
+     * Add an event that becomes due only after delayMillis, so that further events of the
+     * same kind written meanwhile can be delivered together with it
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void add(OutboxEvent.Type type, String idempotencyKey, Object payload, long delayMillis) {
+        OutboxEvent event;
+        try {
+            event = OutboxEvent.pending(type, idempotencyKey, objectMapper.writeValueAsString(payload));
+        } catch (JsonProcessingException e) {
+            throw new IllegalArgumentException("Cannot serialize outbox payload for " + type, e);
+        }
+        if (delayMillis > 0) {
+            event.setNextAttemptAt(event.getCreatedAt().plusNanos(delayMillis * 1_000_000));
+        }
+        repository.save(event);
+        eventPublisher.publishEvent(new EventsWritten(delayMillis));
+    }
+
+    /**
+     * Add an event whose payload is the complete desired state of subjectKey, retiring that
+     * subject's earlier undelivered events of the same type: they cannot overtake it on a
+     * retry, and only the latest state goes out. Each call gets a fresh idempotency key.
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void addLatest(OutboxEvent.Type type, String subjectKey, Object payload, long delayMillis) {
+        String keyPrefix = subjectKey + "-";
+        repository.supersedePending(type, keyPrefix, LocalDateTime.now());
+        add(type, keyPrefix + UUID.randomUUID(), payload, delayMillis);
+    }
+}
@@ -0,0 +1,273 @@
+package com.studentcert.auth.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.studentcert.auth.model.OutboxEvent;
+import com.studentcert.auth.repository.OutboxEventRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import org.apache.kafka.clients.producer.ProducerRecord;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.web.client.HttpStatusCodeException;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Delivers outbox events: once the transaction that wrote them commits and they are due, and
+ * by polling for anything left over (retries, events written by an instance that died).
+ * Failed deliveries back off exponentially; receivers rejecting an event outright (4xx)
+ * or too many attempts mark it DEAD, which is logged and counted for follow-up.
+ */
+@Service
+public class OutboxRelay {
+
+    private static final Logger logger = LoggerFactory.getLogger(OutboxRelay.class);
+    private static final String EMAIL_TOPIC = "email_notifications";
+    private static final String IDEMPOTENCY_HEADER = "idempotency-key";
+
+    private final OutboxEventRepository repository;
+    private final KafkaTemplate<String, String> kafkaTemplate;
+    private final UniversityServiceClient universityServiceClient;
+    private final ObjectMapper objectMapper;
+    private final MeterRegistry meterRegistry;
+    private final int batchSize;
+    private final long leaseMillis;
+    private final int maxAttempts;
+    private final long sendTimeoutMillis;
+    private final AtomicBoolean draining = new AtomicBoolean();
+    private final ScheduledExecutorService executor = Executors.newSingleThreadScheduledExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "outbox-relay");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    public OutboxRelay(OutboxEventRepository repository,
+                       KafkaTemplate<String, String> kafkaTemplate,
+                       UniversityServiceClient universityServiceClient,
+                       ObjectMapper objectMapper,
+                       MeterRegistry meterRegistry,
+                       @Value("${app.outbox.batch-size:50}") int batchSize,
+                       @Value("${app.outbox.lease-ms:60000}") long leaseMillis,
+                       @Value("${app.outbox.max-attempts:10}") int maxAttempts,
+                       @Value("${app.outbox.send-timeout-ms:5000}") long sendTimeoutMillis) {
+        this.repository = repository;
+        this.kafkaTemplate = kafkaTemplate;
+        this.universityServiceClient = universityServiceClient;
+        this.objectMapper = objectMapper;
+        this.meterRegistry = meterRegistry;
+        this.batchSize = batchSize;
+        this.leaseMillis = leaseMillis;
+        this.maxAttempts = maxAttempts;
+        this.sendTimeoutMillis = sendTimeoutMillis;
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onEventsWritten(Outbox.EventsWritten event) {
+        try {
+            executor.schedule(this::drain, event.delayMillis(), TimeUnit.MILLISECONDS);
+        } catch (RejectedExecutionException e) {
+            // Shutting down; the next instance's poll picks the events up
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${app.outbox.poll-ms:5000}")
+    public void poll() {
+        drain();
+    }
+
+    @Scheduled(fixedDelayString = "${app.outbox.cleanup-ms:3600000}")
+    public void deleteDelivered() {
+        int deleted = repository.deleteDeliveredBefore(LocalDateTime.now().minusHours(24));
+        if (deleted > 0) {
+            logger.debug("Deleted {} delivered outbox events", deleted);
+        }
+    }
+
+    /**
+     * Deliver due events until none are left; one drain at a time per instance. The events of
+     * a batch are sent concurrently, and university syncs in the batch go out as one request.
+     */
+    public void drain() {
+        if (!draining.compareAndSet(false, true)) {
+            return;
+        }
+        try {
+            List<OutboxEvent> batch;
+            do {
+                LocalDateTime now = LocalDateTime.now();
+                batch = repository.claimDue(now, now.plusNanos(leaseMillis * 1_000_000), batchSize);
+                List<CompletableFuture<Runnable>> deliveries = new ArrayList<>(batch.size());
+                List<OutboxEvent> syncs = new ArrayList<>();
+                for (OutboxEvent event : batch) {
+                    switch (event.getType()) {
+                        case EMAIL -> deliveries.add(track(event, sendEmail(event)));
+                        case UNIVERSITY_REGISTRATION -> deliveries.add(track(event, registerUniversity(event)));
+                        case UNIVERSITY_SYNC -> syncs.add(event);
+                    }
+                }
+                if (!syncs.isEmpty()) {
+                    deliveries.add(syncUniversities(syncs));
+                }
+                // Outcomes are recorded here rather than on the Kafka / HTTP client threads
+                CompletableFuture.allOf(deliveries.toArray(CompletableFuture[]::new)).join();
+                deliveries.forEach(delivery -> delivery.join().run());
+            } while (batch.size() == batchSize);
+        } catch (RuntimeException e) {
+            logger.warn("Outbox relay stopped early: {}", e.getMessage());
+        } finally {
+            draining.set(false);
+        }
+    }
+
+    /**
+     * The step that records one event's outcome, once its delivery has finished
+     */
+    private CompletableFuture<Runnable> track(OutboxEvent event, CompletableFuture<?> delivery) {
+        return delivery
+                .orTimeout(sendTimeoutMillis, TimeUnit.MILLISECONDS)
+                .<Runnable>handle((result, error) -> error == null
+                        ? () -> delivered(event)
+                        : () -> failed(event, unwrap(error), false));
+    }
+
+    private void delivered(OutboxEvent event) {
+        repository.markDelivered(event.getId(), LocalDateTime.now());
+        meterRegistry.counter("auth.outbox.delivered", "type", event.getType().name()).increment();
+    }
+
+    private void failed(OutboxEvent event, Throwable e, boolean rejected) {
+        int attempts = event.getAttempts() + 1;
+        boolean dead = rejected || attempts >= maxAttempts || isRejected(e);
+        String error = e.getMessage() != null && e.getMessage().length() > 500 ? e.getMessage().substring(0, 500) : e.getMessage();
+        repository.markFailed(event.getId(),
+                dead ? OutboxEvent.Status.DEAD : OutboxEvent.Status.PENDING,
+                LocalDateTime.now().plusNanos(backoffMillis(attempts) * 1_000_000),
+                error);
+        if (dead) {
+            meterRegistry.counter("auth.outbox.dead", "type", event.getType().name()).increment();
+            logger.error("Giving up on outbox event {} ({}, key {}) after {} attempts: {}",
+                    event.getId(), event.getType(), event.getIdempotencyKey(), attempts, error);
+        } else {
+            meterRegistry.counter("auth.outbox.retried", "type", event.getType().name()).increment();
+            logger.warn("Outbox event {} ({}) failed, attempt {}: {}", event.getId(), event.getType(), attempts, error);
+        }
+    }
+
+    private CompletableFuture<?> sendEmail(OutboxEvent event) {
+        // The payload is the EmailRequest JSON the notification service consumes
+        ProducerRecord<String, String> record = new ProducerRecord<>(EMAIL_TOPIC, event.getIdempotencyKey(), event.getPayload());
+        record.headers().add(IDEMPOTENCY_HEADER, event.getIdempotencyKey().getBytes(StandardCharsets.UTF_8));
+        try {
+            return kafkaTemplate.send(record);
+        } catch (RuntimeException e) {
+            return CompletableFuture.failedFuture(e);
+        }
+    }
+
+    private CompletableFuture<?> registerUniversity(OutboxEvent event) {
+        try {
+            // university-service treats a repeated registration of the same universityId as a replay
+            return universityServiceClient.registerUniversity(
+                    objectMapper.readValue(event.getPayload(), Outbox.UniversityRegistration.class));
+        } catch (Exception e) {
+            return CompletableFuture.failedFuture(e);
+        }
+    }
+
+    /**
+     * Send the claimed sync events as one request, merging events for the same university
+     * in the order they were written, and settle each event from its university's result
+     */
+    private CompletableFuture<Runnable> syncUniversities(List<OutboxEvent> events) {
+        Map<String, Outbox.UniversitySync> changes = new LinkedHashMap<>();
+        Map<String, List<OutboxEvent>> eventsByUniversity = new HashMap<>();
+        for (OutboxEvent event : events) { // claimed in id order
+            Outbox.UniversitySync change;
+            try {
+                change = objectMapper.readValue(event.getPayload(), Outbox.UniversitySync.class);
+            } catch (Exception e) {
+                failed(event, e, true);
+                continue;
+            }
+            changes.merge(change.universityId(), change, Outbox.UniversitySync::then);
+            eventsByUniversity.computeIfAbsent(change.universityId(), id -> new ArrayList<>()).add(event);
+        }
+        if (changes.isEmpty()) {
+            return CompletableFuture.completedFuture(() -> { });
+        }
+
+        return universityServiceClient.sync(new ArrayList<>(changes.values()))
+                .orTimeout(sendTimeoutMillis, TimeUnit.MILLISECONDS)
+                .<Runnable>handle((results, error) -> () -> settleSync(eventsByUniversity, results, error));
+    }
+
+    private void settleSync(Map<String, List<OutboxEvent>> eventsByUniversity,
+                            List<UniversityServiceClient.SyncResult> results, Throwable error) {
+        if (error != null) {
+            eventsByUniversity.values().forEach(list -> list.forEach(event -> failed(event, unwrap(error), false)));
+            return;
+        }
+        Map<String, UniversityServiceClient.SyncResult> resultById = new HashMap<>();
+        results.forEach(result -> resultById.put(result.universityId(), result));
+        eventsByUniversity.forEach((universityId, list) -> {
+            UniversityServiceClient.SyncResult result = resultById.get(universityId);
+            for (OutboxEvent event : list) {
+                if (result == null) {
+                    failed(event, new IllegalStateException("No sync result for university " + universityId), false);
+                } else if (result.status() == UniversityServiceClient.SyncResult.Status.APPLIED) {
+                    delivered(event);
+                } else if (result.status() == UniversityServiceClient.SyncResult.Status.NOT_FOUND) {
+                    // Its registration may still be waiting in the outbox
+                    failed(event, new IllegalStateException("University " + universityId + " not found"), false);
+                } else {
+                    failed(event, new IllegalStateException(result.message()), true);
+                }
+            }
+        });
+    }
+
+    private static Throwable unwrap(Throwable error) {
+        return error instanceof CompletionException && error.getCause() != null ? error.getCause() : error;
+    }
+
+    /**
+     * The receiver refused the request itself, so retrying cannot help
+     */
+    private static boolean isRejected(Throwable error) {
+        for (Throwable cause = error; cause != null; cause = cause.getCause()) {
+            if (cause instanceof HttpStatusCodeException http) {
+                int status = http.getStatusCode().value();
+                return status >= 400 && status < 500 && status != 408 && status != 429;
+            }
+        }
+        return false;
+    }
+
+    private static long backoffMillis(int attempts) {
+        // 2s, 4s, 8s ... capped at 10 minutes
+        return Math.min(2000L << Math.min(attempts - 1, 20), 600_000L);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdown();
+    }
+}
@@ -0,0 +1,11 @@
+package com.studentcert.auth.service;
+
+/**
+ * Thrown when the password-hashing pool is saturated; callers should answer 429
+ */
+public class PasswordHashingBusyException extends RuntimeException {
+
+    public PasswordHashingBusyException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,191 @@
+package com.studentcert.auth.service;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+
+/**
+ * Runs BCrypt on a dedicated pool sized to the CPU count, with a bounded queue in front.
+ * A login storm therefore costs at most one core per pool thread: request threads wait
+ * for their hash instead of computing it, and once the queue is full new logins are
+ * refused at once with {@link PasswordHashingBusyException} rather than piling up.
+ */
+@Service
+public class PasswordHashingService {
+
+    private static final Logger logger = LoggerFactory.getLogger(PasswordHashingService.class);
+    private static final long BACKOFF_MILLIS = 10;
+
+    private final PasswordEncoder passwordEncoder;
+    private final ThreadPoolExecutor executor;
+    private final long timeoutMillis;
+    private final Timer matchTimer;
+    private final Timer encodeTimer;
+    private final Timer queueWaitTimer;
+    private final Counter rejected;
+
+    public PasswordHashingService(PasswordEncoder passwordEncoder,
+                                  MeterRegistry meterRegistry,
+                                  @Value("${app.password.threads:0}") int threads,
+                                  @Value("${app.password.queue-capacity:64}") int queueCapacity,
+                                  @Value("${app.password.timeout-ms:5000}") long timeoutMillis) {
+        this.passwordEncoder = passwordEncoder;
+        this.timeoutMillis = timeoutMillis;
+
+        int size = threads > 0 ? threads : Runtime.getRuntime().availableProcessors();
+        AtomicInteger counter = new AtomicInteger();
+        this.executor = new ThreadPoolExecutor(size, size, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(Math.max(1, queueCapacity)),
+                runnable -> {
+                    Thread thread = new Thread(runnable, "password-hash-" + counter.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                },
+                new ThreadPoolExecutor.AbortPolicy());
+
+        this.matchTimer = Timer.builder("auth.password.hash").tag("operation", "matches").register(meterRegistry);
+        this.encodeTimer = Timer.builder("auth.password.hash").tag("operation", "encode").register(meterRegistry);
+        this.queueWaitTimer = Timer.builder("auth.password.hash.queue.wait").register(meterRegistry);
+        this.rejected = Counter.builder("auth.password.hash.rejected").register(meterRegistry);
+        Gauge.builder("auth.password.hash.queue.depth", executor, e -> e.getQueue().size()).register(meterRegistry);
+        Gauge.builder("auth.password.hash.active", executor, ThreadPoolExecutor::getActiveCount).register(meterRegistry);
+    }
+
+    public boolean matches(String rawPassword, String encodedPassword) {
+        return await(() -> passwordEncoder.matches(rawPassword, encodedPassword), matchTimer);
+    }
+
+    public String encode(String rawPassword) {
+        return await(() -> passwordEncoder.encode(rawPassword), encodeTimer);
+    }
+
+    /**
+     * Pool threads, for sizing batch work against it
+     */
+    public int getThreads() {
+        return executor.getMaximumPoolSize();
+    }
+
+    /**
+     * Hash a batch for bulk import. At most maxInFlight of its hashes are on the pool at a time,
+     * so logins keep the rest; when the queue is full the batch waits for room instead of failing.
+     */
+    public List<String> encodeAll(List<String> rawPasswords, int maxInFlight) {
+        Semaphore permits = new Semaphore(Math.max(1, maxInFlight));
+        List<Future<String>> futures = new ArrayList<>(rawPasswords.size());
+        try {
+            for (String rawPassword : rawPasswords) {
+                permits.acquire();
+                futures.add(submitWhenAccepted(() -> {
+                    try {
+                        return encodeTimer.recordCallable(() -> passwordEncoder.encode(rawPassword));
+                    } finally {
+                        permits.release();
+                    }
+                }));
+            }
+            List<String> hashes = new ArrayList<>(futures.size());
+            for (Future<String> future : futures) {
+                hashes.add(future.get());
+            }
+            return hashes;
+        } catch (InterruptedException e) {
+            futures.forEach(future -> future.cancel(false));
+            Thread.currentThread().interrupt();
+            throw new PasswordHashingBusyException("Password hashing interrupted");
+        } catch (ExecutionException e) {
+            futures.forEach(future -> future.cancel(false));
+            Throwable cause = e.getCause();
+            throw cause instanceof RuntimeException runtime ? runtime : new IllegalStateException(cause);
+        }
+    }
+
+    /**
+     * Whether the stored hash was made with a different cost factor than the configured one
+     */
+    public boolean needsRehash(String encodedPassword) {
+        return passwordEncoder.upgradeEncoding(encodedPassword);
+    }
+
+    /**
+     * Re-hash in the background and hand the new hash to onHashed. Skipped when the pool
+     * is busy: the next login will try again.
+     */
+    public void rehashLater(String rawPassword, Consumer<String> onHashed) {
+        try {
+            executor.execute(() -> {
+                try {
+                    onHashed.accept(encodeTimer.record(() -> passwordEncoder.encode(rawPassword)));
+                } catch (RuntimeException e) {
+                    logger.warn("Password rehash failed: {}", e.getMessage());
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            logger.debug("Skipping password rehash, hashing pool is busy");
+        }
+    }
+
+    private <T> T await(Callable<T> hash, Timer timer) {
+        long submitted = System.nanoTime();
+        Future<T> future;
+        try {
+            future = executor.submit(() -> {
+                queueWaitTimer.record(System.nanoTime() - submitted, TimeUnit.NANOSECONDS);
+                return timer.recordCallable(hash);
+            });
+        } catch (RejectedExecutionException e) {
+            rejected.increment();
+            throw new PasswordHashingBusyException("Too many login attempts in progress, please retry shortly");
+        }
+        try {
+            return future.get(timeoutMillis, TimeUnit.MILLISECONDS);
+        } catch (TimeoutException e) {
+            future.cancel(false);
+            rejected.increment();
+            throw new PasswordHashingBusyException("Password check timed out, please retry shortly");
+        } catch (InterruptedException e) {
+            future.cancel(false);
+            Thread.currentThread().interrupt();
+            throw new PasswordHashingBusyException("Password check interrupted");
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            throw cause instanceof RuntimeException runtime ? runtime : new IllegalStateException(cause);
+        }
+    }
+
+    private <T> Future<T> submitWhenAccepted(Callable<T> task) throws InterruptedException {
+        while (true) {
+            try {
+                return executor.submit(task);
+            } catch (RejectedExecutionException e) {
+                Thread.sleep(BACKOFF_MILLIS);
+            }
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdown();
+    }
+}
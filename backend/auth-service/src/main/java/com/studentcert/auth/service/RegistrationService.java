@@ -0,0 +1,85 @@
+package com.studentcert.auth.service;
+
+import com.studentcert.auth.dto.EmailRequest;
+import com.studentcert.auth.dto.RegisterRequest;
+import com.studentcert.auth.model.OutboxEvent;
+import com.studentcert.auth.model.User;
+import com.studentcert.auth.model.UserRole;
+import com.studentcert.auth.repository.UserRepository;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * Self-registration as a single transaction: the complete user row plus outbox events for
+ * the welcome email and, for universities, the university-service record. Nothing else is
+ * on the request path; OutboxRelay delivers the side effects after commit, with retries.
+ * The password is hashed and the UID allocated before the transaction opens, so no database
+ * connection is held during BCrypt.
+ */
+@Service
+public class RegistrationService {
+
+    private final UserRepository userRepository;
+    private final PasswordHashingService passwordHashingService;
+    private final UidGenerationService uidGenerationService;
+    private final Outbox outbox;
+    private final ApplicationEventPublisher eventPublisher;
+    private final TransactionTemplate transactionTemplate;
+
+    public RegistrationService(UserRepository userRepository,
+                               PasswordHashingService passwordHashingService,
+                               UidGenerationService uidGenerationService,
+                               Outbox outbox,
+                               ApplicationEventPublisher eventPublisher,
+                               PlatformTransactionManager transactionManager) {
+        this.userRepository = userRepository;
+        this.passwordHashingService = passwordHashingService;
+        this.uidGenerationService = uidGenerationService;
+        this.outbox = outbox;
+        this.eventPublisher = eventPublisher;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+    }
+
+    public User register(RegisterRequest request) {
+        if (userRepository.existsByEmail(request.getEmail())) {
+            throw new RuntimeException("User with email " + request.getEmail() + " already exists");
+        }
+        String passwordHash = passwordHashingService.encode(request.getPassword());
+        String uid = uidGenerationService.generateUid(request.getRole());
+
+        try {
+            return transactionTemplate.execute(status -> {
+                User user = userRepository.save(User.builder()
+                        .email(request.getEmail())
+                        .password(passwordHash)
+                        .fullName(request.getFullName())
+                        .role(request.getRole())
+                        .isVerified(request.getRole() == UserRole.ADMIN)
+                        .isActive(true)
+                        .uid(uid)
+                        .universityUid(request.getUniversityUid())
+                        .build());
+
+                if (user.getRole() == UserRole.UNIVERSITY) {
+                    outbox.add(OutboxEvent.Type.UNIVERSITY_REGISTRATION, "user-" + user.getId() + "-university",
+                            new Outbox.UniversityRegistration(uid, request.getUniversityName(), user.getEmail(),
+                                    request.getUniversityAddress(), request.getUniversityPhone()));
+                }
+                outbox.add(OutboxEvent.Type.EMAIL, "user-" + user.getId() + "-welcome-email",
+                        new EmailRequest(user.getEmail(), "Your registration to StudentCert is successful",
+                                "Dear " + user.getFullName() + ",\n\n" +
+                                "Thank you for registering at StudentCert. Your unique UID is: " + uid + "\n\n" +
+                                "Best regards,\nStudentCert Team"));
+
+                eventPublisher.publishEvent(UserChangedEvent.created(user));
+                return user;
+            });
+        } catch (DataIntegrityViolationException e) {
+            // Lost a race with a concurrent registration of the same email
+            throw new RuntimeException("User with email " + request.getEmail() + " already exists");
+        }
+    }
+}
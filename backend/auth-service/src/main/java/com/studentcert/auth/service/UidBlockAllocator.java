@@ -0,0 +1,59 @@
+package com.studentcert.auth.service;
+
+import com.studentcert.auth.repository.UidSequenceRepository;
+import com.studentcert.auth.repository.UserRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * Reserves blocks of UID sequence numbers from the shared uid_sequences table, so that
+ * several auth-service instances never hand out the same number. Each reservation is a
+ * single-row UPDATE in its own short transaction, independent of the registration.
+ */
+@Component
+public class UidBlockAllocator {
+
+    private static final Logger logger = LoggerFactory.getLogger(UidBlockAllocator.class);
+
+    @Autowired
+    private UidSequenceRepository sequenceRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    /**
+     * Reserve blockSize consecutive numbers of the sequence (e.g. STU-2025)
+     * @return the first number of the reserved block
+     */
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    public long allocate(String sequence, int blockSize) {
+        Long end = sequenceRepository.advance(sequence, blockSize);
+        if (end == null) {
+            // First use of this prefix and year: continue after any UIDs issued before sequences existed
+            long start = highestIssued(sequence) + 1;
+            if (sequenceRepository.createIfAbsent(sequence, start) > 0) {
+                logger.info("Created UID sequence {} starting at {}", sequence, start);
+            }
+            end = sequenceRepository.advance(sequence, blockSize);
+        }
+        return end - blockSize;
+    }
+
+    private long highestIssued(String sequence) {
+        long highest = 0;
+        for (String uid : userRepository.findUidsLike(sequence + "-%")) {
+            String suffix = uid.substring(sequence.length() + 1);
+            int dash = suffix.indexOf('-'); // Old conflict fallback appended "-<timestamp>"
+            try {
+                highest = Math.max(highest, Long.parseLong(dash >= 0 ? suffix.substring(0, dash) : suffix));
+            } catch (NumberFormatException e) {
+                // Not generated by us; cannot collide with a formatted number
+            }
+        }
+        return highest;
+    }
+}
@@ -1,29 +1,45 @@
 package com.studentcert.auth.service;
 
 import com.studentcert.auth.model.UserRole;
-import com.studentcert.auth.repository.UserRepository;
-import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 
 import java.time.LocalDateTime;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
 
+/**
+ * Hands out UIDs from blocks of sequence numbers reserved per role and year (hi/lo).
+ * Within a block allocation is a single atomic increment; the database is only touched
+ * once per {@code uid.block-size} registrations, and blocks reserved by different
+ * instances never overlap. Numbers left in a block when the instance stops are skipped,
+ * so UIDs are unique and increasing per instance, but not gap-free.
+ */
 @Service
 public class UidGenerationService {
 
-    @Autowired
-    private UserRepository userRepository;
+    private final UidBlockAllocator blockAllocator;
+    private final int blockSize;
+    private final Map<String, Block> blocks = new ConcurrentHashMap<>();
+
+    public UidGenerationService(UidBlockAllocator blockAllocator,
+                                @Value("${uid.block-size:50}") int blockSize) {
+        this.blockAllocator = blockAllocator;
+        this.blockSize = Math.max(1, blockSize);
+    }
 
     /**
      * Generate elegant UID based on user role
      * Format: PREFIX-YEAR-SEQUENCE
      * Examples: UNI-2024-001, STU-2024-001, EMP-2024-001, ADM-2024-001
      */
-    public synchronized String generateUid(UserRole role) {
+    public String generateUid(UserRole role) {
         String prefix = getRolePrefix(role);
         int year = LocalDateTime.now().getYear();
         
         // Get the next sequence number for this role and year
-        int sequence = getNextSequence(prefix, year);
+        long sequence = getNextSequence(prefix + "-" + year);
         
         // Format: PREFIX-YEAR-SEQUENCE (e.g., STU-2024-001)
         return String.format("%s-%d-%03d", prefix, year, sequence);
@@ -42,44 +58,36 @@ public class UidGenerationService {
     }
 
     /**
-     * Get next sequence number for a given prefix and year
-     * Finds the highest existing sequence and increments it
+     * Take the next number from the current block, reserving a new block when it runs out
      */
-    private int getNextSequence(String prefix, int year) {
-        String pattern = prefix + "-" + year + "-%";
-        
-        // Count existing UIDs with this pattern
-        long count = userRepository.countByUidStartingWith(pattern);
-        
-        return (int) count + 1;
+    private long getNextSequence(String sequence) {
+        while (true) {
+            Block block = blocks.get(sequence);
+            if (block != null) {
+                long next = block.next.getAndIncrement();
+                if (next < block.end) {
+                    return next;
+                }
+            }
+            refill(sequence, block);
+        }
     }
 
-    /**
-     * Validate if UID is unique
-     */
-    public boolean isUidUnique(String uid) {
-        return !userRepository.existsByUid(uid);
+    private synchronized void refill(String sequence, Block exhausted) {
+        if (blocks.get(sequence) != exhausted) {
+            return; // Another thread already reserved a fresh block
+        }
+        long start = blockAllocator.allocate(sequence, blockSize);
+        blocks.put(sequence, new Block(start, start + blockSize));
     }
 
-    /**
-     * Regenerate UID if conflict occurs (should be rare)
-     */
-    public String regenerateUidIfConflict(UserRole role) {
-        String uid;
-        int attempts = 0;
-        int maxAttempts = 10;
-        
-        do {
-            uid = generateUid(role);
-            attempts++;
-            
-            if (attempts >= maxAttempts) {
-                // Fallback: add timestamp suffix
-                uid = uid + "-" + System.currentTimeMillis();
-                break;
-            }
-        } while (!isUidUnique(uid));
-        
-        return uid;
+    private static final class Block {
+        private final AtomicLong next;
+        private final long end;
+
+        private Block(long start, long end) {
+            this.next = new AtomicLong(start);
+            this.end = end;
+        }
     }
 }
@@ -0,0 +1,124 @@
+package com.studentcert.auth.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.studentcert.auth.dto.UniversityInfo;
+import com.studentcert.auth.model.UserRole;
+import com.studentcert.auth.repository.UserRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * Public universities directory, served from a pre-serialized snapshot.
+ * <p>
+ * The snapshot is rebuilt when a university user is created, updated or deleted on this
+ * instance, and reconciled periodically with a count/last-update probe so changes made
+ * through other instances show up within one refresh interval. Requests never touch the
+ * database. The ETag is a hash of the body, so every instance hands out the same tag for
+ * the same directory.
+ */
+@Service
+public class UniversityDirectory {
+
+    private static final Logger logger = LoggerFactory.getLogger(UniversityDirectory.class);
+
+    private final UserRepository userRepository;
+    private final ObjectMapper objectMapper;
+
+    private volatile Snapshot snapshot;
+
+    public UniversityDirectory(UserRepository userRepository, ObjectMapper objectMapper) {
+        this.userRepository = userRepository;
+        this.objectMapper = objectMapper;
+    }
+
+    public Snapshot current() {
+        Snapshot current = snapshot;
+        return current != null ? current : rebuild();
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onUserChanged(UserChangedEvent event) {
+        if (event.involves(UserRole.UNIVERSITY)) {
+            rebuild();
+        }
+    }
+
+    /**
+     * Rebuild only when the university rows changed since the last snapshot
+     */
+    @Scheduled(initialDelay = 0, fixedDelayString = "${app.universities.refresh-ms:60000}")
+    public void reconcile() {
+        try {
+            UserRepository.DirectoryVersion version = userRepository.findUniversityDirectoryVersion();
+            Snapshot current = snapshot;
+            if (current == null || !Objects.equals(current.count(), version.getCount())
+                    || !Objects.equals(current.lastUpdated(), version.getLastUpdated())) {
+                rebuild();
+            }
+        } catch (RuntimeException e) {
+            logger.warn("Could not refresh the university directory: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * Serialized under a lock so a slower, older rebuild cannot replace a newer one
+     */
+    public synchronized Snapshot rebuild() {
+        UserRepository.DirectoryVersion version = userRepository.findUniversityDirectoryVersion();
+        List<UniversityInfo> universities = userRepository.findUniversityDirectory();
+        byte[] body;
+        try {
+            body = objectMapper.writeValueAsBytes(universities);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Failed to serialize university directory", e);
+        }
+        Snapshot fresh = new Snapshot(body, etag(body), universities.size(), version.getCount(), version.getLastUpdated());
+        Snapshot previous = snapshot;
+        snapshot = fresh;
+        if (previous == null || !previous.etag().equals(fresh.etag())) {
+            logger.info("University directory rebuilt: {} entries, ETag {}", fresh.size(), fresh.etag());
+        }
+        return fresh;
+    }
+
+    private static String etag(byte[] body) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(body);
+            return "\"" + Base64.getUrlEncoder().withoutPadding().encodeToString(Arrays.copyOf(digest, 12)) + "\"";
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    /**
+     * @param count       university rows (with or without uid) when the snapshot was taken
+     * @param lastUpdated latest updatedAt among them
+     */
+    public record Snapshot(byte[] body, String etag, int size, Long count, LocalDateTime lastUpdated) {
+
+        public boolean matches(String ifNoneMatch) {
+            if (ifNoneMatch == null) {
+                return false;
+            }
+            for (String candidate : ifNoneMatch.split(",")) {
+                String tag = candidate.trim();
+                if (tag.equals("*") || tag.equals(etag) || tag.equals("W/" + etag)) {
+                    return true;
+                }
+            }
+            return false;
+        }
+    }
+}
@@ -1,134 +1,132 @@
 package com.studentcert.auth.service;
 
-import lombok.RequiredArgsConstructor;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.annotation.PreDestroy;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
-import org.springframework.http.HttpEntity;
 import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatusCode;
 import org.springframework.http.MediaType;
-import org.springframework.http.ResponseEntity;
 import org.springframework.stereotype.Service;
-import org.springframework.web.client.RestTemplate;
+import org.springframework.web.client.HttpClientErrorException;
+import org.springframework.web.client.HttpServerErrorException;
 
-import java.util.HashMap;
-import java.util.Map;
+import java.io.UncheckedIOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
 
+/**
+ * Non-blocking client for university-service. One shared JDK HttpClient keeps connections
+ * alive and reuses them across calls; every call has a connect and a response timeout and
+ * returns a future instead of holding the caller's thread. Non-2xx responses complete the
+ * future with Spring's HttpClientErrorException / HttpServerErrorException, so callers can
+ * tell a rejected request (4xx) from one worth retrying.
+ */
 @Service
-@RequiredArgsConstructor
 @Slf4j
 public class UniversityServiceClient {
 
-    private final RestTemplate restTemplate;
+    /**
+     * Outcome of one change in a sync batch, as reported by university-service
+     */
+    public record SyncResult(String universityId, Status status, String message) {
 
-    @Value("${university.service.url:http://localhost:3002}")
-    private String universityServiceUrl;
-
-    public void registerUniversity(String universityId, String universityName, String email, 
-                                   String address, String phone) {
-        try {
-            String url = universityServiceUrl + "/api/universities";
-            
-            Map<String, String> requestBody = new HashMap<>();
-            requestBody.put("universityId", universityId);
-            requestBody.put("universityName", universityName);
-            requestBody.put("email", email);
-            requestBody.put("address", address);
-            requestBody.put("phone", phone);
-            
-            HttpHeaders headers = new HttpHeaders();
-            headers.setContentType(MediaType.APPLICATION_JSON);
-            
-            HttpEntity<Map<String, String>> request = new HttpEntity<>(requestBody, headers);
-            
-            ResponseEntity<String> response = restTemplate.postForEntity(url, request, String.class);
-            
-            log.info("University registered successfully in university service: {}", universityId);
-        } catch (Exception e) {
-            log.error("Failed to register university in university service: {}", e.getMessage(), e);
-            throw new RuntimeException("Failed to register university in university service: " + e.getMessage());
+        public enum Status {
+            APPLIED,
+            NOT_FOUND,
+            REJECTED
         }
     }
-    
-    public void verifyUniversity(String universityId) {
-        try {
-            String url = universityServiceUrl + "/api/universities/" + universityId + "/verify";
-            
-            HttpHeaders headers = new HttpHeaders();
-            headers.setContentType(MediaType.APPLICATION_JSON);
-            
-            HttpEntity<Void> request = new HttpEntity<>(headers);
-            
-            restTemplate.postForEntity(url, request, String.class);
-            
-            log.info("University verified successfully in university service: {}", universityId);
-        } catch (Exception e) {
-            log.error("Failed to verify university in university service: {}", e.getMessage(), e);
-            throw new RuntimeException("Failed to verify university in university service: " + e.getMessage());
-        }
+
+    private final String universityServiceUrl;
+    private final Duration requestTimeout;
+    private final ObjectMapper objectMapper;
+    private final ExecutorService executor;
+    private final HttpClient httpClient;
+
+    public UniversityServiceClient(ObjectMapper objectMapper,
+                                   @Value("${university.service.url:http://localhost:3002}") String universityServiceUrl,
+                                   @Value("${university.service.connect-timeout-ms:2000}") long connectTimeoutMillis,
+                                   @Value("${university.service.request-timeout-ms:5000}") long requestTimeoutMillis,
+                                   @Value("${university.service.threads:4}") int threads) {
+        this.objectMapper = objectMapper;
+        this.universityServiceUrl = universityServiceUrl;
+        this.requestTimeout = Duration.ofMillis(requestTimeoutMillis);
+        AtomicInteger counter = new AtomicInteger();
+        this.executor = Executors.newFixedThreadPool(Math.max(1, threads), runnable -> {
+            Thread thread = new Thread(runnable, "university-client-" + counter.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+        this.httpClient = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_1_1)
+                .connectTimeout(Duration.ofMillis(connectTimeoutMillis))
+                .executor(executor)
+                .build();
     }
 
-    public void unverifyUniversity(String universityId) {
-        try {
-            String url = universityServiceUrl + "/api/universities/" + universityId + "/unverify";
-            
-            HttpHeaders headers = new HttpHeaders();
-            headers.setContentType(MediaType.APPLICATION_JSON);
-            
-            HttpEntity<Void> request = new HttpEntity<>(headers);
-            
-            restTemplate.postForEntity(url, request, String.class);
-            
-            log.info("University unverified successfully in university service: {}", universityId);
-        } catch (Exception e) {
-            log.error("Failed to unverify university in university service: {}", e.getMessage(), e);
-            throw new RuntimeException("Failed to unverify university in university service: " + e.getMessage());
-        }
+    public CompletableFuture<Void> registerUniversity(Outbox.UniversityRegistration registration) {
+        return send(post("/api/universities", registration))
+                .thenAccept(body -> log.info("University registered in university service: {}", registration.universityId()));
     }
 
-    public void updateUniversity(String universityId, String universityName, String email, 
-                                 String address, String phone) {
-        try {
-            String url = universityServiceUrl + "/api/universities/" + universityId;
-            
-            Map<String, String> requestBody = new HashMap<>();
-            // Only add non-null values to avoid overwriting existing data
-            if (universityName != null) {
-                requestBody.put("universityName", universityName);
-            }
-            if (email != null) {
-                requestBody.put("email", email);
-            }
-            if (address != null) {
-                requestBody.put("address", address);
-            }
-            if (phone != null) {
-                requestBody.put("phone", phone);
-            }
-            
-            HttpHeaders headers = new HttpHeaders();
-            headers.setContentType(MediaType.APPLICATION_JSON);
-            
-            HttpEntity<Map<String, String>> request = new HttpEntity<>(requestBody, headers);
-            
-            restTemplate.put(url, request);
-            
-            log.info("University updated successfully in university service: {}", universityId);
-        } catch (Exception e) {
-            log.error("Failed to update university in university service: {}", e.getMessage(), e);
-            throw new RuntimeException("Failed to update university in university service: " + e.getMessage());
-        }
+    /**
+     * Apply several universities' changes in one request
+     */
+    public CompletableFuture<List<SyncResult>> sync(List<Outbox.UniversitySync> changes) {
+        return send(post("/api/universities/sync", changes))
+                .thenApply(body -> {
+                    try {
+                        return objectMapper.readValue(body, new TypeReference<List<SyncResult>>() { });
+                    } catch (JsonProcessingException e) {
+                        throw new IllegalStateException("Unreadable sync response from university service", e);
+                    }
+                });
     }
 
-    public void deleteUniversity(String universityId) {
+    private HttpRequest post(String path, Object body) {
         try {
-            String url = universityServiceUrl + "/api/universities/" + universityId;
-            
-            restTemplate.delete(url);
-            
-            log.info("University deleted successfully from university service: {}", universityId);
-        } catch (Exception e) {
-            log.error("Failed to delete university from university service: {}", e.getMessage(), e);
-            throw new RuntimeException("Failed to delete university from university service: " + e.getMessage());
+            return HttpRequest.newBuilder(URI.create(universityServiceUrl + path))
+                    .timeout(requestTimeout)
+                    .header(HttpHeaders.CONTENT_TYPE, MediaType.APPLICATION_JSON_VALUE)
+                    .POST(HttpRequest.BodyPublishers.ofByteArray(objectMapper.writeValueAsBytes(body)))
+                    .build();
+        } catch (JsonProcessingException e) {
+            throw new UncheckedIOException(e);
         }
     }
+
+    private CompletableFuture<String> send(HttpRequest request) {
+        return httpClient.sendAsync(request, HttpResponse.BodyHandlers.ofString())
+                .thenApply(response -> {
+                    int status = response.statusCode();
+                    if (status >= 200 && status < 300) {
+                        return response.body();
+                    }
+                    byte[] body = response.body() != null ? response.body().getBytes(StandardCharsets.UTF_8) : new byte[0];
+                    String statusText = request.method() + " " + request.uri().getPath() + " returned " + status;
+                    if (status >= 400 && status < 500) {
+                        throw HttpClientErrorException.create(HttpStatusCode.valueOf(status), statusText,
+                                HttpHeaders.EMPTY, body, StandardCharsets.UTF_8);
+                    }
+                    throw HttpServerErrorException.create(HttpStatusCode.valueOf(status), statusText,
+                            HttpHeaders.EMPTY, body, StandardCharsets.UTF_8);
+                });
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdown();
+    }
 }
@@ -0,0 +1,51 @@
+package com.studentcert.auth.service;
+
+import com.studentcert.auth.model.User;
+import com.studentcert.auth.model.UserRole;
+
+import java.time.LocalDate;
+
+/**
+ * Published after a user is created, updated or deleted, for in-memory read models
+ * that must follow the users table. Carries the counted attributes before and after
+ * the change: previous is null for a new user, current is null for a deleted one.
+ */
+public record UserChangedEvent(Long userId, State previous, State current) {
+
+    /**
+     * The attributes read models aggregate on
+     */
+    public record State(UserRole role, boolean verified, boolean active, LocalDate registeredOn) {
+
+        public static State of(User user) {
+            return new State(user.getRole(),
+                    Boolean.TRUE.equals(user.getIsVerified()),
+                    Boolean.TRUE.equals(user.getIsActive()),
+                    user.getCreatedAt() != null ? user.getCreatedAt().toLocalDate() : LocalDate.now());
+        }
+    }
+
+    public static UserChangedEvent created(User user) {
+        return new UserChangedEvent(user.getId(), null, State.of(user));
+    }
+
+    public static UserChangedEvent updated(State previous, User user) {
+        return new UserChangedEvent(user.getId(), previous, State.of(user));
+    }
+
+    public static UserChangedEvent deleted(User user) {
+        return new UserChangedEvent(user.getId(), State.of(user), null);
+    }
+
+    public UserRole previousRole() {
+        return previous != null ? previous.role() : null;
+    }
+
+    public UserRole role() {
+        return current != null ? current.role() : null;
+    }
+
+    public boolean involves(UserRole candidate) {
+        return candidate == previousRole() || candidate == role();
+    }
+}
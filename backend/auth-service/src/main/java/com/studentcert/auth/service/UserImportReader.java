@@ -0,0 +1,162 @@
+package com.studentcert.auth.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.NoSuchElementException;
+
+/**
+ * Reads an import stream one record at a time, so a cohort file is never held in memory.
+ * CSV needs a header line and quotes fields RFC 4180 style (fields may not span lines);
+ * NDJSON is one JSON object per line. Field names are matched without case, dashes or
+ * underscores, so "full_name", "fullName" and "Full Name" are the same column.
+ */
+final class UserImportReader implements Iterator<UserImportReader.Record> {
+
+    /**
+     * One input record: its fields by normalized name, or why it could not be read
+     */
+    record Record(int line, Map<String, String> fields, String error) {
+
+        String field(String name) {
+            String value = fields.get(name);
+            return value == null || value.isBlank() ? null : value.trim();
+        }
+    }
+
+    private final BufferedReader reader;
+    private final UserImportService.Format format;
+    private final ObjectMapper objectMapper;
+    private List<String> header;
+    private int line;
+    private Record next;
+
+    UserImportReader(BufferedReader reader, UserImportService.Format format, ObjectMapper objectMapper) {
+        this.reader = reader;
+        this.format = format;
+        this.objectMapper = objectMapper;
+    }
+
+    @Override
+    public boolean hasNext() {
+        if (next == null) {
+            next = read();
+        }
+        return next != null;
+    }
+
+    @Override
+    public Record next() {
+        if (!hasNext()) {
+            throw new NoSuchElementException();
+        }
+        Record record = next;
+        next = null;
+        return record;
+    }
+
+    private Record read() {
+        try {
+            String text;
+            while ((text = reader.readLine()) != null) {
+                line++;
+                if (text.isBlank()) {
+                    continue;
+                }
+                if (format == UserImportService.Format.NDJSON) {
+                    return json(text);
+                }
+                if (header == null) {
+                    List<String> names = splitCsv(text);
+                    if (names == null) {
+                        throw new IllegalArgumentException("Malformed CSV header on line " + line);
+                    }
+                    header = names.stream().map(UserImportReader::normalize).toList();
+                    continue;
+                }
+                return csv(text);
+            }
+            return null;
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private Record json(String text) {
+        try {
+            JsonNode node = objectMapper.readTree(text);
+            if (!node.isObject()) {
+                return new Record(line, Map.of(), "Expected a JSON object");
+            }
+            Map<String, String> fields = new HashMap<>();
+            node.fields().forEachRemaining(field ->
+                    fields.put(normalize(field.getKey()), field.getValue().isNull() ? null : field.getValue().asText()));
+            return new Record(line, fields, null);
+        } catch (JsonProcessingException e) {
+            return new Record(line, Map.of(), "Malformed JSON: " + e.getOriginalMessage());
+        }
+    }
+
+    private Record csv(String text) {
+        List<String> values = splitCsv(text);
+        if (values == null) {
+            return new Record(line, Map.of(), "Unterminated quoted field");
+        }
+        if (values.size() > header.size()) {
+            return new Record(line, Map.of(), "Expected " + header.size() + " fields, found " + values.size());
+        }
+        Map<String, String> fields = new HashMap<>();
+        for (int i = 0; i < values.size(); i++) {
+            fields.put(header.get(i), values.get(i));
+        }
+        return new Record(line, fields, null);
+    }
+
+    /**
+     * Null if a quoted field is not closed on this line
+     */
+    private static List<String> splitCsv(String text) {
+        List<String> values = new ArrayList<>();
+        StringBuilder current = new StringBuilder();
+        boolean quoted = false;
+        for (int i = 0; i < text.length(); i++) {
+            char c = text.charAt(i);
+            if (quoted) {
+                if (c == '"' && i + 1 < text.length() && text.charAt(i + 1) == '"') {
+                    current.append('"');
+                    i++;
+                } else if (c == '"') {
+                    quoted = false;
+                } else {
+                    current.append(c);
+                }
+            } else if (c == '"') {
+                quoted = true;
+            } else if (c == ',') {
+                values.add(current.toString());
+                current.setLength(0);
+            } else {
+                current.append(c);
+            }
+        }
+        if (quoted) {
+            return null;
+        }
+        values.add(current.toString());
+        return values;
+    }
+
+    private static String normalize(String name) {
+        return name.replaceAll("[\\s_\\-]", "").toLowerCase(Locale.ROOT);
+    }
+}
@@ -0,0 +1,306 @@
+package com.studentcert.auth.service;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.studentcert.auth.dto.EmailRequest;
+import com.studentcert.auth.dto.RegisterRequest;
+import com.studentcert.auth.model.OutboxEvent;
+import com.studentcert.auth.model.User;
+import com.studentcert.auth.model.UserRole;
+import com.studentcert.auth.repository.UserRepository;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataAccessException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * Bulk registration of students and employers from a CSV or NDJSON stream.
+ * <p>
+ * Records are read and written in chunks: one query finds emails that already exist, the
+ * chunk's passwords are hashed in parallel on the shared hashing pool (capped so logins keep
+ * capacity), UIDs come from the block allocator, and one INSERT writes the whole chunk.
+ * Welcome emails are written to the outbox in the same transaction as the chunk's INSERT, so
+ * they are delivered (with retries) exactly for the accounts that were created.
+ * One NDJSON report line per record is written as each chunk completes, then a summary line.
+ */
+@Service
+public class UserImportService {
+
+    private static final Logger logger = LoggerFactory.getLogger(UserImportService.class);
+
+    public enum Format { CSV, NDJSON }
+
+    public enum Status { CREATED, SKIPPED, INVALID, FAILED }
+
+    /**
+     * @param defaultRole   role for records without a role column
+     * @param universityUid university for student records without one
+     * @param ownUniversity true when a university imports its own students: every record is a
+     *                      student of universityUid, whatever the file says
+     * @param verified      create the accounts verified
+     * @param sendWelcomeEmail send each created user the welcome email
+     */
+    public record Options(UserRole defaultRole, String universityUid, boolean ownUniversity,
+                          boolean verified, boolean sendWelcomeEmail) {
+    }
+
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    public record RowResult(int line, String email, Status status, String uid, String message) {
+    }
+
+    public record Summary(int created, int skipped, int invalid, int failed) {
+    }
+
+    private final UserRepository userRepository;
+    private final PasswordHashingService passwordHashingService;
+    private final UidGenerationService uidGenerationService;
+    private final Outbox outbox;
+    private final ApplicationEventPublisher eventPublisher;
+    private final TransactionTemplate transactionTemplate;
+    private final ObjectMapper objectMapper;
+    private final Validator validator;
+    private final int chunkSize;
+    private final int hashParallelism;
+
+    public UserImportService(UserRepository userRepository,
+                             PasswordHashingService passwordHashingService,
+                             UidGenerationService uidGenerationService,
+                             Outbox outbox,
+                             ApplicationEventPublisher eventPublisher,
+                             PlatformTransactionManager transactionManager,
+                             ObjectMapper objectMapper,
+                             Validator validator,
+                             @Value("${app.users.import.chunk-size:500}") int chunkSize,
+                             @Value("${app.users.import.hash-parallelism:0}") int hashParallelism) {
+        this.userRepository = userRepository;
+        this.passwordHashingService = passwordHashingService;
+        this.uidGenerationService = uidGenerationService;
+        this.outbox = outbox;
+        this.eventPublisher = eventPublisher;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.objectMapper = objectMapper;
+        this.validator = validator;
+        this.chunkSize = Math.max(1, chunkSize);
+        // Default to half the hashing pool, so interactive logins keep the other half
+        this.hashParallelism = hashParallelism > 0 ? hashParallelism
+                : Math.max(1, (passwordHashingService.getThreads() + 1) / 2);
+    }
+
+    public Summary importUsers(InputStream input, Format format, Options options, OutputStream output) throws IOException {
+        BufferedReader reader = new BufferedReader(new InputStreamReader(input, StandardCharsets.UTF_8));
+        Writer report = new BufferedWriter(new OutputStreamWriter(output, StandardCharsets.UTF_8));
+        UserImportReader records = new UserImportReader(reader, format, objectMapper);
+        Counts counts = new Counts();
+        Set<String> seenEmails = new HashSet<>();
+        List<Candidate> chunk = new ArrayList<>(chunkSize);
+
+        try {
+            while (records.hasNext()) {
+                UserImportReader.Record record = records.next();
+                Candidate candidate = toCandidate(record, options);
+                if (candidate.rejection() != null) {
+                    write(report, counts, new RowResult(record.line(), candidate.email(), Status.INVALID, null, candidate.rejection()));
+                } else if (!seenEmails.add(candidate.email().toLowerCase(Locale.ROOT))) {
+                    write(report, counts, new RowResult(record.line(), candidate.email(), Status.SKIPPED, null, "Duplicate email in this import"));
+                } else {
+                    chunk.add(candidate);
+                    if (chunk.size() == chunkSize) {
+                        importChunk(chunk, options, report, counts);
+                        chunk.clear();
+                    }
+                }
+            }
+            importChunk(chunk, options, report, counts);
+        } catch (IllegalArgumentException | UncheckedIOException e) {
+            // Unreadable stream: report what was done and stop
+            logger.warn("User import aborted: {}", e.getMessage());
+            write(report, counts, new RowResult(0, null, Status.FAILED, null, "Import aborted: " + e.getMessage()));
+        }
+
+        Summary summary = counts.summary();
+        report.write(objectMapper.writeValueAsString(Map.of("summary", summary)));
+        report.write('\n');
+        report.flush();
+        logger.info("User import finished: {} created, {} skipped, {} invalid, {} failed",
+                summary.created(), summary.skipped(), summary.invalid(), summary.failed());
+        return summary;
+    }
+
+    private void importChunk(List<Candidate> chunk, Options options, Writer report, Counts counts) throws IOException {
+        if (chunk.isEmpty()) {
+            return;
+        }
+        try {
+            Set<String> existing = new HashSet<>(userRepository.findExistingEmails(
+                    chunk.stream().map(Candidate::email).toList()));
+            List<Candidate> fresh = new ArrayList<>(chunk.size());
+            for (Candidate candidate : chunk) {
+                if (existing.contains(candidate.email())) {
+                    write(report, counts, new RowResult(candidate.line(), candidate.email(), Status.SKIPPED, null, "Email already registered"));
+                } else {
+                    fresh.add(candidate);
+                }
+            }
+            if (fresh.isEmpty()) {
+                report.flush();
+                return;
+            }
+
+            List<String> hashes = passwordHashingService.encodeAll(
+                    fresh.stream().map(Candidate::password).toList(), hashParallelism);
+            List<User> users = new ArrayList<>(fresh.size());
+            for (int i = 0; i < fresh.size(); i++) {
+                Candidate candidate = fresh.get(i);
+                users.add(User.builder()
+                        .email(candidate.email())
+                        .password(hashes.get(i))
+                        .fullName(candidate.fullName())
+                        .role(candidate.role())
+                        .isVerified(options.verified())
+                        .isActive(true)
+                        .uid(uidGenerationService.generateUid(candidate.role()))
+                        .universityUid(candidate.universityUid())
+                        .build());
+            }
+
+            // Hashing is done; only the INSERT and the outbox rows run in the transaction
+            Map<String, User> inserted = transactionTemplate.execute(status -> {
+                Map<String, User> created = userRepository.insertIgnoringDuplicates(users).stream()
+                        .collect(Collectors.toMap(User::getEmail, user -> user));
+                if (options.sendWelcomeEmail()) {
+                    created.values().forEach(this::queueWelcomeEmail);
+                }
+                return created;
+            });
+            for (Candidate candidate : fresh) {
+                User user = inserted.get(candidate.email());
+                if (user == null) {
+                    // Registered by someone else since the existence check
+                    write(report, counts, new RowResult(candidate.line(), candidate.email(), Status.SKIPPED, null, "Email already registered"));
+                } else {
+                    eventPublisher.publishEvent(UserChangedEvent.created(user));
+                    write(report, counts, new RowResult(candidate.line(), candidate.email(), Status.CREATED, user.getUid(), null));
+                }
+            }
+        } catch (DataAccessException | PasswordHashingBusyException e) {
+            logger.error("User import chunk failed: {}", e.getMessage());
+            for (Candidate candidate : chunk) {
+                write(report, counts, new RowResult(candidate.line(), candidate.email(), Status.FAILED, null, e.getMessage()));
+            }
+        }
+        report.flush();
+    }
+
+    private void queueWelcomeEmail(User user) {
+        // Same key as self-registration's welcome email, so an account never gets two
+        outbox.add(OutboxEvent.Type.EMAIL, "user-" + user.getId() + "-welcome-email",
+                new EmailRequest(user.getEmail(),
+                        "Your registration to StudentCert is successful",
+                        "Dear " + user.getFullName() + ",\n\n" +
+                        "An account has been created for you at StudentCert. Your unique UID is: " + user.getUid() + "\n\n" +
+                        "Best regards,\nStudentCert Team"));
+    }
+
+    private Candidate toCandidate(UserImportReader.Record record, Options options) {
+        String email = record.field("email");
+        if (record.error() != null) {
+            return Candidate.rejected(record.line(), email, record.error());
+        }
+
+        UserRole role;
+        String universityUid;
+        if (options.ownUniversity()) {
+            role = UserRole.STUDENT;
+            universityUid = options.universityUid();
+        } else {
+            String roleName = record.field("role");
+            try {
+                role = roleName != null ? UserRole.valueOf(roleName.toUpperCase(Locale.ROOT)) : options.defaultRole();
+            } catch (IllegalArgumentException e) {
+                return Candidate.rejected(record.line(), email, "Unknown role: " + roleName);
+            }
+            String rowUniversity = record.field("universityuid");
+            universityUid = rowUniversity != null ? rowUniversity : options.universityUid();
+        }
+        if (role != UserRole.STUDENT && role != UserRole.EMPLOYER) {
+            return Candidate.rejected(record.line(), email, "Only students and employers can be imported");
+        }
+        if (role == UserRole.STUDENT && universityUid == null) {
+            return Candidate.rejected(record.line(), email, "Students must have a university");
+        }
+
+        // Same rules as self-registration
+        RegisterRequest request = RegisterRequest.builder()
+                .email(email)
+                .password(record.field("password"))
+                .fullName(record.field("fullname"))
+                .role(role)
+                .universityUid(role == UserRole.STUDENT ? universityUid : null)
+                .build();
+        Set<ConstraintViolation<RegisterRequest>> violations = validator.validate(request);
+        if (!violations.isEmpty()) {
+            return Candidate.rejected(record.line(), email, violations.stream()
+                    .map(ConstraintViolation::getMessage).sorted().collect(Collectors.joining("; ")));
+        }
+        return new Candidate(record.line(), request.getEmail(), request.getPassword(), request.getFullName(),
+                role, request.getUniversityUid(), null);
+    }
+
+    private void write(Writer report, Counts counts, RowResult result) throws IOException {
+        counts.add(result.status());
+        report.write(objectMapper.writeValueAsString(result));
+        report.write('\n');
+    }
+
+    private record Candidate(int line, String email, String password, String fullName,
+                             UserRole role, String universityUid, String rejection) {
+
+        static Candidate rejected(int line, String email, String reason) {
+            return new Candidate(line, email, null, null, null, null, reason);
+        }
+    }
+
+    private static final class Counts {
+        private int created;
+        private int skipped;
+        private int invalid;
+        private int failed;
+
+        void add(Status status) {
+            switch (status) {
+                case CREATED -> created++;
+                case SKIPPED -> skipped++;
+                case INVALID -> invalid++;
+                case FAILED -> failed++;
+            }
+        }
+
+        Summary summary() {
+            return new Summary(created, skipped, invalid, failed);
+        }
+    }
+}
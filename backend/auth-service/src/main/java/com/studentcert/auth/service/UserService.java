@@ -4,8 +4,8 @@ import com.studentcert.auth.model.User;
 import com.studentcert.auth.model.UserRole;
 import com.studentcert.auth.repository.UserRepository;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.context.annotation.Lazy;
-import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
 
 import java.time.LocalDateTime;
@@ -17,10 +17,13 @@ public class UserService {
     @Autowired
     private UserRepository userRepository;
 
-    private final PasswordEncoder passwordEncoder;
+    @Autowired
+    private ApplicationEventPublisher eventPublisher;
+
+    private final PasswordHashingService passwordHashingService;
 
-    public UserService(@Lazy PasswordEncoder passwordEncoder) {
-        this.passwordEncoder = passwordEncoder;
+    public UserService(@Lazy PasswordHashingService passwordHashingService) {
+        this.passwordHashingService = passwordHashingService;
     }
 
     public Optional<User> findByEmail(String email) {
@@ -34,7 +37,7 @@ public class UserService {
 
         User user = User.builder()
             .email(email)
-            .password(passwordEncoder.encode(rawPassword))
+            .password(passwordHashingService.encode(rawPassword))
             .role(role)
             .isVerified(role == UserRole.ADMIN) // Auto-verify admin users, others need verification
             .isActive(true)
@@ -43,19 +46,30 @@ public class UserService {
             .updatedAt(LocalDateTime.now())
             .build();
 
-        return userRepository.save(user);
+        User saved = userRepository.save(user);
+        eventPublisher.publishEvent(UserChangedEvent.created(saved));
+        return saved;
     }
 
     public boolean existsByEmail(String email) {
         return userRepository.findByEmail(email).isPresent();
     }
 
+    /**
+     * Saves profile changes. Role, verification and activation changes go through
+     * AdminUserService, which knows their previous values.
+     */
     public User updateUser(User user) {
         user.setUpdatedAt(LocalDateTime.now());
-        return userRepository.save(user);
+        User saved = userRepository.save(user);
+        eventPublisher.publishEvent(UserChangedEvent.updated(UserChangedEvent.State.of(saved), saved));
+        return saved;
     }
     
     public void deleteUser(Long userId) {
-        userRepository.deleteById(userId);
+        userRepository.findById(userId).ifPresent(user -> {
+            userRepository.delete(user);
+            eventPublisher.publishEvent(UserChangedEvent.deleted(user));
+        });
     }
 }
\ No newline at end of file
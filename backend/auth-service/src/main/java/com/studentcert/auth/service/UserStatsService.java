@@ -0,0 +1,161 @@
+package com.studentcert.auth.service;
+
+import com.studentcert.auth.dto.UserStatsDto;
+import com.studentcert.auth.model.UserRole;
+import com.studentcert.auth.repository.UserRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * User statistics for the admin dashboard, kept as counters that follow UserChangedEvents
+ * instead of being counted per request. Other instances' writes (and anything missed) are
+ * picked up by a periodic reconciliation against the database, so counters are exact on
+ * this instance's own changes and at most one reconcile interval stale otherwise.
+ * <p>
+ * Each change republishes an immutable snapshot; reads never take the lock or touch the database.
+ */
+@Service
+public class UserStatsService {
+
+    private static final Logger logger = LoggerFactory.getLogger(UserStatsService.class);
+
+    private final UserRepository userRepository;
+    private final int days;
+
+    // Guarded by this
+    private final Map<UserRole, Long> byRole = new EnumMap<>(UserRole.class);
+    private final Map<LocalDate, Long> registrations = new HashMap<>();
+    private long total;
+    private long verified;
+    private long active;
+    private LocalDateTime reconciledAt;
+
+    private volatile UserStatsDto snapshot;
+
+    public UserStatsService(UserRepository userRepository,
+                            @Value("${app.users.stats.days:30}") int days) {
+        this.userRepository = userRepository;
+        this.days = Math.max(days, 1);
+    }
+
+    public UserStatsDto current() {
+        UserStatsDto current = snapshot;
+        if (current == null) {
+            reconcile();
+            current = snapshot;
+        }
+        return current;
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public synchronized void onUserChanged(UserChangedEvent event) {
+        if (reconciledAt == null) {
+            return; // The first reconcile will count this user
+        }
+        if (event.previous() != null) {
+            apply(event.previous(), -1);
+        }
+        if (event.current() != null) {
+            apply(event.current(), 1);
+        }
+        publish();
+    }
+
+    @Scheduled(initialDelay = 0, fixedDelayString = "${app.users.stats.reconcile-ms:300000}")
+    public void reconcile() {
+        try {
+            List<UserRepository.StatusCount> statusCounts = userRepository.countByStatus();
+            List<Object[]> daily = userRepository.countRegistrationsPerDaySince(firstDay().atStartOfDay());
+            replace(statusCounts, daily);
+        } catch (RuntimeException e) {
+            logger.warn("Could not reconcile user statistics: {}", e.getMessage());
+        }
+    }
+
+    private synchronized void replace(List<UserRepository.StatusCount> statusCounts, List<Object[]> daily) {
+        long previousTotal = total;
+        byRole.clear();
+        registrations.clear();
+        total = 0;
+        verified = 0;
+        active = 0;
+        for (UserRepository.StatusCount row : statusCounts) {
+            long count = row.getTotal();
+            byRole.merge(row.getRole(), count, Long::sum);
+            total += count;
+            if (Boolean.TRUE.equals(row.getVerified())) {
+                verified += count;
+            }
+            if (Boolean.TRUE.equals(row.getActive())) {
+                active += count;
+            }
+        }
+        for (Object[] row : daily) {
+            registrations.put(toLocalDate(row[0]), ((Number) row[1]).longValue());
+        }
+        if (reconciledAt != null && previousTotal != total) {
+            logger.debug("User statistics drifted by {} users; corrected from the database", total - previousTotal);
+        }
+        reconciledAt = LocalDateTime.now();
+        publish();
+    }
+
+    private void apply(UserChangedEvent.State state, long delta) {
+        byRole.merge(state.role(), delta, Long::sum);
+        total += delta;
+        if (state.verified()) {
+            verified += delta;
+        }
+        if (state.active()) {
+            active += delta;
+        }
+        if (!state.registeredOn().isBefore(firstDay())) {
+            registrations.merge(state.registeredOn(), delta, Long::sum);
+        }
+    }
+
+    private void publish() {
+        Map<UserRole, Long> roles = new EnumMap<>(UserRole.class);
+        for (UserRole role : UserRole.values()) {
+            roles.put(role, byRole.getOrDefault(role, 0L));
+        }
+        Map<LocalDate, Long> perDay = new LinkedHashMap<>();
+        LocalDate today = LocalDate.now();
+        for (LocalDate day = firstDay(); !day.isAfter(today); day = day.plusDays(1)) {
+            perDay.put(day, registrations.getOrDefault(day, 0L));
+        }
+        registrations.keySet().removeIf(day -> day.isBefore(firstDay()));
+
+        snapshot = UserStatsDto.builder()
+                .totalUsers(total)
+                .usersByRole(Collections.unmodifiableMap(roles))
+                .verifiedUsers(verified)
+                .unverifiedUsers(total - verified)
+                .activeUsers(active)
+                .inactiveUsers(total - active)
+                .registrationsPerDay(Collections.unmodifiableMap(perDay))
+                .reconciledAt(reconciledAt)
+                .build();
+    }
+
+    private LocalDate firstDay() {
+        return LocalDate.now().minusDays(days - 1L);
+    }
+
+    private static LocalDate toLocalDate(Object value) {
+        return value instanceof java.sql.Date date ? date.toLocalDate() : (LocalDate) value;
+    }
+}
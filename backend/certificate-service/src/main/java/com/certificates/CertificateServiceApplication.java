@@ -3,16 +3,18 @@ package com.certificates;
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
 import org.springframework.cloud.client.discovery.EnableDiscoveryClient;
+import org.springframework.scheduling.annotation.EnableScheduling;
 
 /**
  * Certificate Service - Spring Boot entry point.
  *
  * Remarks:
- * - The service expects Auth Service to validate / verify bearer tokens.
+ * - Bearer tokens are verified locally against the keys Auth Service publishes (JWKS).
  * - Configuration (DB URL, Auth service URL, secrets) should be provided.
  */
 @SpringBootApplication
 @EnableDiscoveryClient
+@EnableScheduling
 public class CertificateServiceApplication {
 
     public static void main(String[] args) {
@@ -5,15 +5,21 @@ import com.certificates.model.Certificate;
 import com.certificates.service.CertificateFileService;
 import com.certificates.service.CertificateService;
 import com.certificates.service.PdfService;
+import com.certificates.util.JwtPrincipal;
 import com.certificates.util.JwtUtil;
 import java.io.IOException;
 import lombok.RequiredArgsConstructor;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.*;
 import org.springframework.validation.annotation.Validated;
 import org.springframework.web.bind.annotation.*;
 
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.time.LocalDateTime;
 import java.util.*;
 import org.springframework.web.multipart.MultipartFile;
 
@@ -25,6 +31,8 @@ public class CertificateController {
     private final CertificateFileService fileService;
     private final PdfService pdfService;
     private final JwtUtil jwtUtil;
+    @Value("${certificates.changes.service-token:}")
+    private String changeFeedToken;
     Logger logger = LoggerFactory.getLogger(CertificateController.class);
 
     @PostMapping
@@ -33,12 +41,12 @@ public class CertificateController {
             @RequestHeader(value = "Authorization", required = true) String authHeader) {
         logger.info("Issuing certificate with certificate data: {}", req);
         
-        // Extract university ID from JWT token
+        // The issuing university's identity comes from the JWT token
         String token = authHeader.substring(7); // Remove "Bearer " prefix
-        Long universityUserId = jwtUtil.extractUserId(token);
+        JwtPrincipal issuer = jwtUtil.parse(token);
         
         return ResponseEntity.status(HttpStatus.CREATED)
-                .body(service.issueCertificate(req, universityUserId));
+                .body(service.issueCertificate(req, issuer));
     }
 
     @GetMapping
@@ -54,8 +62,9 @@ public class CertificateController {
                 logger.info("Token extracted, attempting to parse");
                 
                 try {
-                    String userEmail = jwtUtil.extractUsername(token);
-                    String userRole = jwtUtil.extractRole(token);
+                    JwtPrincipal principal = jwtUtil.parse(token);
+                    String userEmail = principal.email();
+                    String userRole = principal.role();
                     
                     logger.info("JWT parsed successfully - User email: {}, role: {}", userEmail, userRole);
                     
@@ -84,6 +93,46 @@ public class CertificateController {
         }
     }
 
+    /**
+     * Change feed: certificates issued or modified since the cursor, ordered by
+     * (updatedAt, certificateId). Without {@code after} the feed starts at {@code since}
+     * inclusive; consumers page on by passing the updatedAt and certificateId of the last
+     * entry they saw, so certificates sharing one timestamp never stall a page.
+     * <p>
+     * Entries carry verification codes, so the feed is only served to other services holding
+     * the configured service token, or to an admin.
+     */
+    @GetMapping("/changes")
+    public ResponseEntity<List<CertificateChange>> listChanges(
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime since,
+            @RequestParam(required = false) UUID after,
+            @RequestParam(defaultValue = "500") int limit,
+            @RequestHeader(value = "X-Service-Token", required = false) String serviceToken,
+            @RequestHeader(value = "Authorization", required = false) String authHeader) {
+        if (!isServiceCaller(serviceToken) && !isAdmin(authHeader)) {
+            return ResponseEntity.status(HttpStatus.FORBIDDEN).build();
+        }
+        return ResponseEntity.ok(service.listChangesSince(since, after, Math.min(Math.max(limit, 1), 5000)));
+    }
+
+    private boolean isServiceCaller(String serviceToken) {
+        // No configured token means no service access, never an empty match
+        return changeFeedToken != null && !changeFeedToken.isEmpty() && serviceToken != null
+                && MessageDigest.isEqual(changeFeedToken.getBytes(StandardCharsets.UTF_8),
+                        serviceToken.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private boolean isAdmin(String authHeader) {
+        if (authHeader == null || !authHeader.startsWith("Bearer ")) {
+            return false;
+        }
+        try {
+            return "ADMIN".equalsIgnoreCase(jwtUtil.parse(authHeader.substring(7)).role());
+        } catch (Exception e) {
+            return false;
+        }
+    }
+
     @GetMapping("/{certificateNumber}")
     public ResponseEntity<Certificate> getCertificate(@PathVariable String certificateNumber) {
         logger.info("get certificate given id: {}", certificateNumber);
@@ -107,9 +156,9 @@ public class CertificateController {
             @RequestBody Map<String, List<CertificateIssueRequest>> request,
             @RequestHeader(value = "Authorization", required = true) String authHeader) {
         
-        // Extract university ID from JWT token
+        // The issuing university's identity comes from the JWT token
         String token = authHeader.substring(7); // Remove "Bearer " prefix
-        Long universityUserId = jwtUtil.extractUserId(token);
+        JwtPrincipal issuer = jwtUtil.parse(token);
         
         List<CertificateIssueRequest> certs = request.get("certificates");
         int success = 0, failed = 0;
@@ -117,7 +166,7 @@ public class CertificateController {
 
         for (var req : certs) {
             try {
-                Certificate cert = service.issueCertificate(req, universityUserId);
+                Certificate cert = service.issueCertificate(req, issuer);
                 success++;
                 results.add(Map.of("success", true, "certificate", cert));
             } catch (Exception e) {
@@ -0,0 +1,43 @@
+package com.certificates.dto;
+
+import com.certificates.model.Certificate;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * Verification-relevant view of a certificate, served by the change feed
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class CertificateChange {
+    private UUID certificateId;
+    private String certificateNumber;
+    private String verificationCode;
+    private String universityId;
+    private String studentName;
+    private String courseName;
+    private String issueDate;
+    private Status status;
+    private LocalDateTime updatedAt;
+
+    public static CertificateChange from(Certificate cert) {
+        return CertificateChange.builder()
+                .certificateId(cert.getCertificateId())
+                .certificateNumber(cert.getCertificateNumber())
+                .verificationCode(cert.getVerificationCode())
+                .universityId(cert.getUniversityId())
+                .studentName(cert.getStudentName())
+                .courseName(cert.getCourseName())
+                .issueDate(cert.getIssueDate())
+                .status(cert.getStatus())
+                .updatedAt(cert.getUpdatedAt())
+                .build();
+    }
+}
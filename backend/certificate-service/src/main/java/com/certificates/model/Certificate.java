@@ -7,6 +7,10 @@ import java.util.UUID;
 import com.certificates.dto.Status;
 
 @Entity
+@Table(indexes = {
+        @Index(name = "idx_certificate_number", columnList = "certificateNumber"),
+        @Index(name = "idx_certificate_updated_at", columnList = "updatedAt")
+})
 @Getter
 @Setter
 @NoArgsConstructor
@@ -1,12 +1,25 @@
 package com.certificates.repository;
 
 import com.certificates.model.Certificate;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
 public interface CertificateRepository extends JpaRepository<Certificate, UUID> {
     Optional<Certificate> findByCertificateNumber(String certificateNumber);
     List<Certificate> findByStudentEmail(String studentEmail);
+    List<Certificate> findByUpdatedAtGreaterThanEqualOrderByUpdatedAtAscCertificateIdAsc(LocalDateTime since, Pageable pageable);
+
+    /**
+     * Change feed page strictly after the (updatedAt, certificateId) keyset position
+     */
+    @Query("SELECT c FROM Certificate c WHERE c.updatedAt > :since " +
+           "OR (c.updatedAt = :since AND c.certificateId > :after) " +
+           "ORDER BY c.updatedAt ASC, c.certificateId ASC")
+    List<Certificate> findChangesAfter(@Param("since") LocalDateTime since, @Param("after") UUID after, Pageable pageable);
 }
@@ -2,13 +2,17 @@ package com.certificates.service;
 
 import com.certificates.dto.*;
 import com.certificates.model.Certificate;
+import com.certificates.util.JwtPrincipal;
+import java.time.LocalDateTime;
 import java.util.List;
+import java.util.UUID;
 
 public interface CertificateService {
-    Certificate issueCertificate(CertificateIssueRequest request, Long universityUserId);
+    Certificate issueCertificate(CertificateIssueRequest request, JwtPrincipal issuer);
     List<Certificate> listCertificates(String status);
     List<Certificate> listCertificatesByStudentEmail(String studentEmail, String status);
     Certificate getCertificateByCertificateNumber(String certificateNumber);
     Certificate updateCertificate(CertificateUpdateRequest request);
     void revokeCertificate(CertificateRevocationRequest request);
+    List<CertificateChange> listChangesSince(LocalDateTime since, UUID after, int limit);
 }
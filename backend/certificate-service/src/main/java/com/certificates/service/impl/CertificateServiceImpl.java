@@ -6,12 +6,15 @@ import com.certificates.model.Certificate;
 import com.certificates.repository.CertificateRepository;
 import com.certificates.service.AuthServiceClient;
 import com.certificates.service.CertificateService;
+import com.certificates.util.JwtPrincipal;
 import com.certificates.dto.Status;
 import lombok.RequiredArgsConstructor;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
 
+import java.time.LocalDateTime;
 import java.util.*;
 
 @Service
@@ -22,9 +25,9 @@ public class CertificateServiceImpl implements CertificateService {
     private final AuthServiceClient authServiceClient;
 
     @Override
-    public Certificate issueCertificate(CertificateIssueRequest request, Long universityUserId) {
+    public Certificate issueCertificate(CertificateIssueRequest request, JwtPrincipal issuer) {
         logger.info("Issuing certificate for student email: {} by university user ID: {}", 
-                    request.getStudentEmail(), universityUserId);
+                    request.getStudentEmail(), issuer.userId());
         
         // Fetch student info from auth-service
         UserInfoDto studentInfo = authServiceClient.getUserByEmail(request.getStudentEmail());
@@ -33,21 +36,25 @@ public class CertificateServiceImpl implements CertificateService {
             throw new ResourceNotFoundException("Student not found with email: " + request.getStudentEmail());
         }
         
-        // Fetch university info from auth-service
-        UserInfoDto universityInfo = authServiceClient.getUserById(universityUserId);
-        if (universityInfo == null) {
-            logger.error("University not found with ID: {}", universityUserId);
-            throw new ResourceNotFoundException("University not found with ID: " + universityUserId);
+        // The issuing university is the caller; its UID comes with the verified token
+        String universityUid = issuer.uid();
+        if (universityUid == null) {
+            // Token issued before auth-service added the uid claim
+            UserInfoDto universityInfo = authServiceClient.getUserById(issuer.userId());
+            if (universityInfo == null) {
+                logger.error("University not found with ID: {}", issuer.userId());
+                throw new ResourceNotFoundException("University not found with ID: " + issuer.userId());
+            }
+            universityUid = universityInfo.getUid();
         }
         
         logger.info("Student found - ID: {}, UID: {}, Name: {}", 
                     studentInfo.getId(), studentInfo.getUid(), studentInfo.getFullName());
-        logger.info("University found - ID: {}, UID: {}, Name: {}", 
-                    universityInfo.getId(), universityInfo.getUid(), universityInfo.getFullName());
+        logger.info("Issuing university - ID: {}, UID: {}, Name: {}", 
+                    issuer.userId(), universityUid, issuer.fullName());
         
         // Use the uid strings directly (e.g., STU-2025-001, UNI-2025-001)
         String studentUid = studentInfo.getUid();
-        String universityUid = universityInfo.getUid();
         
         Certificate cert = Certificate.builder()
                 .certificateNumber(UUID.randomUUID().toString().substring(0, 8).toUpperCase())
@@ -113,4 +120,15 @@ public class CertificateServiceImpl implements CertificateService {
         cert.setRevocationReason(request.getReason());
         repository.save(cert);
     }
+
+    @Override
+    public List<CertificateChange> listChangesSince(LocalDateTime since, UUID after, int limit) {
+        PageRequest page = PageRequest.of(0, limit);
+        List<Certificate> changed = after == null
+                ? repository.findByUpdatedAtGreaterThanEqualOrderByUpdatedAtAscCertificateIdAsc(since, page)
+                : repository.findChangesAfter(since, after, page);
+        return changed.stream()
+                .map(CertificateChange::from)
+                .toList();
+    }
 }
@@ -0,0 +1,25 @@
+package com.certificates.util;
+
+import io.jsonwebtoken.Claims;
+
+import java.time.Instant;
+
+/**
+ * Verified claims of an access token, read once per request. uid and universityUid are
+ * missing from tokens issued before auth-service started adding them.
+ */
+public record JwtPrincipal(String email, String role, Long userId, String uid, String universityUid,
+                           String fullName, Instant expiresAt) {
+
+    public static JwtPrincipal from(Claims claims) {
+        TokenClaims token = TokenClaims.of(claims);
+        return new JwtPrincipal(
+                token.subject(),
+                token.role(),
+                token.userId(),
+                token.uid(),
+                token.universityUid(),
+                token.fullName(),
+                token.expiresAt());
+    }
+}
@@ -1,50 +1,108 @@
 package com.certificates.util;
 
 import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwsHeader;
+import io.jsonwebtoken.JwtException;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.SigningKeyResolverAdapter;
+import io.jsonwebtoken.UnsupportedJwtException;
 import io.jsonwebtoken.security.Keys;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 
+import java.nio.charset.StandardCharsets;
 import java.security.Key;
 
 @Component
 public class JwtUtil {
 
-    @Value("${jwt.secret:mySecretKey123456789012345678901234567890}")
-    private String secretKey;
+    // Shipped as the default secret, so tokens signed with it prove nothing
+    private static final String PUBLIC_DEFAULT_SECRET = "mySecretKey123456789012345678901234567890";
+
+    private final JwksKeyProvider keyProvider;
+    private final Key legacyHmacKey;
+    private final JwtParser parser;
+    private final JwtClaimsCache claimsCache;
+
+    public JwtUtil(JwksKeyProvider keyProvider,
+                   @Value("${jwt.secret:}") String secretKey,
+                   @Value("${jwt.accept-legacy-hmac:false}") boolean acceptLegacyHmac,
+                   @Value("${jwt.cache.max-entries:10000}") int cacheMaxEntries,
+                   @Value("${jwt.cache.ttl-ms:60000}") long cacheTtlMillis) {
+        this.keyProvider = keyProvider;
+        if (acceptLegacyHmac && (secretKey.isBlank() || PUBLIC_DEFAULT_SECRET.equals(secretKey))) {
+            throw new IllegalStateException(
+                    "jwt.accept-legacy-hmac needs jwt.secret set to the secret legacy tokens were signed with");
+        }
+        // Without the legacy secret, only tokens signed with auth-service's published keys validate
+        this.legacyHmacKey = acceptLegacyHmac ? Keys.hmacShaKeyFor(secretKey.getBytes(StandardCharsets.UTF_8)) : null;
+        // The parser is immutable and thread-safe, so it is built once; keys are resolved per token by kid
+        this.parser = Jwts.parserBuilder()
+                .setSigningKeyResolver(new SigningKeyResolverAdapter() {
+                    @Override
+                    public Key resolveSigningKey(JwsHeader header, Claims claims) {
+                        return verificationKey(header);
+                    }
+                })
+                .build();
+        this.claimsCache = new JwtClaimsCache(cacheMaxEntries, cacheTtlMillis);
+    }
+
+    /**
+     * Verify the token once and return its claims as a typed principal.
+     * Recently verified tokens are served from a short-lived cache.
+     *
+     * @throws io.jsonwebtoken.JwtException if the token is malformed, tampered with or expired
+     */
+    public JwtPrincipal parse(String token) {
+        long now = System.currentTimeMillis();
+        JwtPrincipal cached = claimsCache.get(token, now);
+        if (cached != null) {
+            return cached;
+        }
+        JwtPrincipal principal = JwtPrincipal.from(extractAllClaims(token));
+        claimsCache.put(token, principal, now);
+        return principal;
+    }
 
     public String extractUsername(String token) {
-        return extractAllClaims(token).getSubject();
+        return parse(token).email();
     }
 
     public String extractRole(String token) {
-        return extractAllClaims(token).get("role", String.class);
+        return parse(token).role();
     }
 
     public Long extractUserId(String token) {
-        Object userIdObj = extractAllClaims(token).get("userId");
-        if (userIdObj instanceof Integer) {
-            return ((Integer) userIdObj).longValue();
-        }
-        return (Long) userIdObj;
+        return parse(token).userId();
     }
 
     public String extractFullName(String token) {
-        return extractAllClaims(token).get("fullName", String.class);
+        return parse(token).fullName();
     }
 
     private Claims extractAllClaims(String token) {
-        return Jwts
-                .parserBuilder()
-                .setSigningKey(getSignInKey())
-                .build()
-                .parseClaimsJws(token)
-                .getBody();
+        Claims claims = parser.parseClaimsJws(token).getBody();
+        if (TokenClaims.of(claims).isRefreshToken()) {
+            throw new UnsupportedJwtException("Refresh tokens cannot authenticate requests");
+        }
+        return claims;
     }
 
-    private Key getSignInKey() {
-        byte[] keyBytes = secretKey.getBytes();
-        return Keys.hmacShaKeyFor(keyBytes);
+    private Key verificationKey(JwsHeader header) {
+        String algorithm = header.getAlgorithm();
+        if (algorithm != null && algorithm.startsWith("HS")) {
+            if (legacyHmacKey == null) {
+                throw new UnsupportedJwtException("HMAC-signed tokens are no longer accepted");
+            }
+            return legacyHmacKey;
+        }
+        String kid = header.getKeyId();
+        Key key = kid != null ? keyProvider.get(kid) : null;
+        if (key == null) {
+            throw new JwtException("Unknown signing key: " + kid);
+        }
+        return key;
     }
 }
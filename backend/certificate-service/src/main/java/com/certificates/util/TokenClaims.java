@@ -0,0 +1,64 @@
+package com.certificates.util;
+
+import io.jsonwebtoken.Claims;
+
+import java.time.Instant;
+
+/**
+ * Typed access to the claims auth-service puts in its tokens. Mirrors auth-service's
+ * TokenClaims; claim names must stay in step with it.
+ */
+public final class TokenClaims {
+
+    public static final String ROLE = "role";
+    public static final String USER_ID = "userId";
+    public static final String FULL_NAME = "fullName";
+    public static final String UID = "uid";
+    public static final String UNIVERSITY_UID = "universityUid";
+    public static final String TYPE = "typ";
+
+    public static final String REFRESH_TYPE = "refresh";
+
+    private final Claims claims;
+
+    private TokenClaims(Claims claims) {
+        this.claims = claims;
+    }
+
+    public static TokenClaims of(Claims claims) {
+        return new TokenClaims(claims);
+    }
+
+    public String subject() {
+        return claims.getSubject();
+    }
+
+    public String role() {
+        return claims.get(ROLE, String.class);
+    }
+
+    public Long userId() {
+        // Numbers come back as Integer or Long depending on their size
+        return claims.get(USER_ID) instanceof Number number ? number.longValue() : null;
+    }
+
+    public String fullName() {
+        return claims.get(FULL_NAME, String.class);
+    }
+
+    public String uid() {
+        return claims.get(UID, String.class);
+    }
+
+    public String universityUid() {
+        return claims.get(UNIVERSITY_UID, String.class);
+    }
+
+    public boolean isRefreshToken() {
+        return REFRESH_TYPE.equals(claims.get(TYPE));
+    }
+
+    public Instant expiresAt() {
+        return claims.getExpiration().toInstant();
+    }
+}
@@ -2,11 +2,13 @@ package com.universities;
 
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.scheduling.annotation.EnableScheduling;
 
 /**
  * University Service - Spring Boot entry point.
  */
 @SpringBootApplication
+@EnableScheduling
 public class UniversityServiceApplication {
 
     public static void main(String[] args) {
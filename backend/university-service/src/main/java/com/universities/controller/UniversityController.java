@@ -29,12 +29,23 @@ public class UniversityController {
         return ResponseEntity.status(HttpStatus.CREATED).body(created);
     }
 
+    /**
+     * All universities, or one page of them when page, limit or cursor is given
+     */
     @GetMapping
-    public ResponseEntity<List<UniversityResponse>> listUniversities(
-            @RequestParam(required = false) Boolean verified) {
-
-        logger.info("Listing universities. Verified filter: {}", verified);
-        return ResponseEntity.ok(service.listUniversities(verified));
+    public ResponseEntity<?> listUniversities(
+            @RequestParam(required = false) Boolean verified,
+            @RequestParam(required = false) Integer page,
+            @RequestParam(required = false) Integer limit,
+            @RequestParam(required = false) String cursor) {
+
+        if (page == null && limit == null && cursor == null) {
+            logger.info("Listing universities. Verified filter: {}", verified);
+            return ResponseEntity.ok(service.listUniversities(verified));
+        }
+        logger.debug("Listing universities page {} (limit {}, cursor {}). Verified filter: {}", page, limit, cursor, verified);
+        return ResponseEntity.ok(service.listUniversities(verified,
+                page != null ? page : 0, limit != null ? limit : 20, cursor));
     }
 
     @GetMapping("/{id}")
@@ -75,6 +86,18 @@ public class UniversityController {
         return ResponseEntity.ok(service.unverifyUniversity(id));
     }
 
+    /**
+     * Apply a batch of changes pushed by auth-service in one call; one result per change.
+     * Idempotent, so a batch may safely be retried.
+     */
+    @PostMapping("/sync")
+    public ResponseEntity<List<UniversitySyncResult>> syncUniversities(
+            @Validated @RequestBody List<UniversitySyncRequest> changes) {
+
+        logger.info("Syncing {} universities", changes.size());
+        return ResponseEntity.ok(service.syncUniversities(changes));
+    }
+
     @GetMapping("/{id}/public-key")
     public ResponseEntity<PublicKeyResponse> getUniversityPublicKey(@PathVariable String id) {
 
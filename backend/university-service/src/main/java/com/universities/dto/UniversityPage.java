@@ -0,0 +1,42 @@
+package com.universities.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * One page of the universities directory, in universityId order
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class UniversityPage {
+
+    private List<UniversityResponse> content;
+    private int page;
+    private int size;
+    private long totalElements;
+    private int totalPages;
+    private boolean first;
+    private boolean last;
+    private boolean empty;
+    private String nextCursor; // Pass back as ?cursor= to fetch the following page by keyset
+
+    public static UniversityPage of(List<UniversityResponse> content, int page, int size, long totalElements, boolean hasNext) {
+        return UniversityPage.builder()
+                .content(content)
+                .page(page)
+                .size(size)
+                .totalElements(totalElements)
+                .totalPages((int) ((totalElements + size - 1) / size))
+                .first(page == 0)
+                .last(!hasNext)
+                .empty(content.isEmpty())
+                .nextCursor(hasNext && !content.isEmpty() ? content.get(content.size() - 1).getUniversityId() : null)
+                .build();
+    }
+}
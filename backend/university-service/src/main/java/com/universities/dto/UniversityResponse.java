@@ -1,5 +1,6 @@
 package com.universities.dto;
 
+import com.universities.model.University;
 import lombok.Data;
 
 import java.time.LocalDateTime;
@@ -16,4 +17,18 @@ public class UniversityResponse {
     private String publicKey;
     private LocalDateTime createdAt;
     private LocalDateTime updatedAt;
+
+    public static UniversityResponse from(University university) {
+        UniversityResponse response = new UniversityResponse();
+        response.setUniversityId(university.getUniversityId());
+        response.setUniversityName(university.getUniversityName());
+        response.setEmail(university.getEmail());
+        response.setAddress(university.getAddress());
+        response.setPhone(university.getPhone());
+        response.setVerified(university.isVerified());
+        response.setPublicKey(university.getPublicKey());
+        response.setCreatedAt(university.getCreatedAt());
+        response.setUpdatedAt(university.getUpdatedAt());
+        return response;
+    }
 }
@@ -0,0 +1,24 @@
+package com.universities.dto;
+
+import jakarta.validation.constraints.Email;
+import jakarta.validation.constraints.NotBlank;
+import lombok.Data;
+
+/**
+ * Desired state of one university as pushed by auth-service. Null fields are left as they are.
+ */
+@Data
+public class UniversitySyncRequest {
+
+    @NotBlank
+    private String universityId;
+
+    private String universityName;
+
+    @Email
+    private String email;
+
+    private Boolean verified;
+
+    private boolean deleted;
+}
@@ -0,0 +1,21 @@
+package com.universities.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class UniversitySyncResult {
+
+    public enum Status {
+        APPLIED,
+        NOT_FOUND,
+        REJECTED
+    }
+
+    private String universityId;
+    private Status status;
+    private String message;
+}
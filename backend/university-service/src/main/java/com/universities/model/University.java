@@ -6,6 +6,10 @@ import lombok.*;
 import java.time.LocalDateTime;
 
 @Entity
+@Table(indexes = {
+    // Directory listing filtered by verification status, paged by id
+    @Index(name = "idx_university_verified_id", columnList = "verified, university_id")
+})
 @Getter
 @Setter
 @NoArgsConstructor
@@ -1,8 +1,14 @@
 package com.universities.repository;
 
 import com.universities.model.University;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
 
+import java.time.LocalDateTime;
+import java.util.List;
 import java.util.Optional;
 
 public interface UniversityRepository extends JpaRepository<University, String> {
@@ -10,4 +16,31 @@ public interface UniversityRepository extends JpaRepository<University, String>
     Optional<University> findByUniversityName(String universityName);
 
     Optional<University> findByEmail(String email);
+
+    List<University> findAllByOrderByUniversityIdAsc();
+
+    List<University> findByVerifiedOrderByUniversityIdAsc(boolean verified);
+
+    Page<University> findByVerified(boolean verified, Pageable pageable);
+
+    long countByVerified(boolean verified);
+
+    /**
+     * Keyset page: the universities after the given id, in id order
+     */
+    List<University> findByUniversityIdGreaterThanOrderByUniversityIdAsc(String afterId, Limit limit);
+
+    List<University> findByVerifiedAndUniversityIdGreaterThanOrderByUniversityIdAsc(boolean verified, String afterId, Limit limit);
+
+    /**
+     * Cheap probe for whether any university changed: row count and latest update
+     */
+    @Query("SELECT COUNT(u) AS count, MAX(u.updatedAt) AS lastUpdated FROM University u")
+    DirectoryVersion findDirectoryVersion();
+
+    interface DirectoryVersion {
+        Long getCount();
+
+        LocalDateTime getLastUpdated();
+    }
 }
@@ -0,0 +1,7 @@
+package com.universities.service;
+
+/**
+ * Published when a university is created, changed or deleted, so the directory can follow
+ */
+public record UniversityChangedEvent(String universityId) {
+}
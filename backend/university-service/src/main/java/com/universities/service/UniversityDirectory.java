@@ -0,0 +1,183 @@
+package com.universities.service;
+
+import com.universities.dto.UniversityPage;
+import com.universities.dto.UniversityResponse;
+import com.universities.repository.UniversityRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * In-memory copy of all universities, in universityId order, for listing and paging
+ * without a query per request.
+ * <p>
+ * A write on this instance splices the changed university into a new snapshot once it
+ * commits, so readers see it at once. A periodic count/last-update probe rebuilds the
+ * snapshot when rows changed elsewhere (another instance, a direct database edit); a splice
+ * also marks the snapshot for that rebuild, since the probe cannot tell which changes it
+ * already holds. Turned off with app.universities.directory.enabled, listing goes to the
+ * database.
+ */
+@Slf4j
+@Service
+public class UniversityDirectory {
+
+    private final UniversityRepository repository;
+    private final boolean enabled;
+
+    private volatile Snapshot snapshot;
+
+    public UniversityDirectory(UniversityRepository repository,
+                               @Value("${app.universities.directory.enabled:true}") boolean enabled) {
+        this.repository = repository;
+        this.enabled = enabled;
+    }
+
+    /**
+     * The current snapshot, or null when the directory is turned off
+     */
+    public Snapshot current() {
+        if (!enabled) {
+            return null;
+        }
+        Snapshot current = snapshot;
+        return current != null ? current : rebuild();
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onUniversityChanged(UniversityChangedEvent event) {
+        if (enabled && snapshot != null) {
+            try {
+                splice(event.universityId());
+            } catch (RuntimeException e) {
+                log.warn("Could not update the university directory for {}: {}", event.universityId(), e.getMessage());
+                snapshot = null; // Rebuilt on next use
+            }
+        }
+    }
+
+    /**
+     * Rebuild only when the university rows changed since the last snapshot
+     */
+    @Scheduled(initialDelay = 0, fixedDelayString = "${app.universities.directory.refresh-ms:60000}")
+    public void reconcile() {
+        if (!enabled) {
+            return;
+        }
+        try {
+            UniversityRepository.DirectoryVersion version = repository.findDirectoryVersion();
+            Snapshot current = snapshot;
+            if (current == null || !Objects.equals(current.count(), version.getCount())
+                    || !Objects.equals(current.lastUpdated(), version.getLastUpdated())) {
+                rebuild();
+            }
+        } catch (RuntimeException e) {
+            log.warn("Could not refresh the university directory: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * Serialized with splices, so an older rebuild cannot replace a newer snapshot
+     */
+    public synchronized Snapshot rebuild() {
+        UniversityRepository.DirectoryVersion version = repository.findDirectoryVersion();
+        List<UniversityResponse> all = new ArrayList<>(repository.findAllByOrderByUniversityIdAsc().stream()
+                .map(UniversityResponse::from)
+                .toList());
+        // Keyset comparisons below use Java string order, whatever the database collation
+        all.sort(Comparator.comparing(UniversityResponse::getUniversityId));
+        Snapshot fresh = Snapshot.of(all, version.getCount(), version.getLastUpdated());
+        if (snapshot == null || snapshot.all().size() != fresh.all().size()) {
+            log.info("University directory rebuilt: {} universities", fresh.all().size());
+        }
+        snapshot = fresh;
+        return fresh;
+    }
+
+    private synchronized void splice(String universityId) {
+        Snapshot current = snapshot;
+        if (current == null) {
+            return;
+        }
+        UniversityResponse changed = repository.findById(universityId).map(UniversityResponse::from).orElse(null);
+        List<UniversityResponse> all = new ArrayList<>(current.all());
+        int index = indexOf(all, universityId);
+        if (index >= 0) {
+            if (changed != null) {
+                all.set(index, changed);
+            } else {
+                all.remove(index);
+            }
+        } else if (changed != null) {
+            all.add(-index - 1, changed);
+        }
+        snapshot = Snapshot.of(all, null, null);
+    }
+
+    /**
+     * Position of the id in the id-ordered list, or (-(insertion point) - 1) like binarySearch
+     */
+    private static int indexOf(List<UniversityResponse> universities, String universityId) {
+        int low = 0;
+        int high = universities.size() - 1;
+        while (low <= high) {
+            int mid = (low + high) >>> 1;
+            int cmp = universities.get(mid).getUniversityId().compareTo(universityId);
+            if (cmp < 0) {
+                low = mid + 1;
+            } else if (cmp > 0) {
+                high = mid - 1;
+            } else {
+                return mid;
+            }
+        }
+        return -(low + 1);
+    }
+
+    /**
+     * Immutable directory state. count and lastUpdated are the database probe it was built
+     * from; null after a splice, which makes the next reconcile rebuild it.
+     */
+    public record Snapshot(List<UniversityResponse> all, List<UniversityResponse> verified,
+                           List<UniversityResponse> unverified, Long count, LocalDateTime lastUpdated) {
+
+        static Snapshot of(List<UniversityResponse> all, Long count, LocalDateTime lastUpdated) {
+            return new Snapshot(List.copyOf(all),
+                    all.stream().filter(UniversityResponse::isVerified).toList(),
+                    all.stream().filter(u -> !u.isVerified()).toList(),
+                    count, lastUpdated);
+        }
+
+        public List<UniversityResponse> filter(Boolean verified) {
+            if (verified == null) {
+                return all;
+            }
+            return verified ? this.verified : unverified;
+        }
+
+        /**
+         * One page: after the cursor's id when given, otherwise at the page offset
+         */
+        public UniversityPage page(Boolean verified, int page, int size, String cursor) {
+            List<UniversityResponse> universities = filter(verified);
+            int start;
+            if (cursor != null) {
+                int index = indexOf(universities, cursor);
+                start = index >= 0 ? index + 1 : -index - 1;
+            } else {
+                start = (int) Math.min((long) page * size, universities.size());
+            }
+            int end = Math.min(start + size, universities.size());
+            return UniversityPage.of(universities.subList(start, end), start / size, size,
+                    universities.size(), end < universities.size());
+        }
+    }
+}
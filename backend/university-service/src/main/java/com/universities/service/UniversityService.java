@@ -10,6 +10,12 @@ public interface UniversityService {
 
     List<UniversityResponse> listUniversities(Boolean verified);
 
+    /**
+     * One page in universityId order; a cursor (the previous page's nextCursor) takes
+     * precedence over the page number
+     */
+    UniversityPage listUniversities(Boolean verified, int page, int size, String cursor);
+
     UniversityResponse getUniversity(String id);
 
     UniversityResponse updateUniversity(String id, UniversityUpdateRequest request);
@@ -21,4 +27,6 @@ public interface UniversityService {
     VerifyUniversityResponse unverifyUniversity(String id);
 
     PublicKeyResponse getUniversityPublicKey(String id);
+
+    List<UniversitySyncResult> syncUniversities(List<UniversitySyncRequest> changes);
 }
@@ -5,16 +5,26 @@ import com.universities.exception.InvalidRequestException;
 import com.universities.exception.ResourceNotFoundException;
 import com.universities.model.University;
 import com.universities.repository.UniversityRepository;
+import com.universities.service.UniversityChangedEvent;
+import com.universities.service.UniversityDirectory;
 import com.universities.service.UniversityService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.security.KeyPair;
 import java.security.KeyPairGenerator;
 import java.time.LocalDateTime;
+import java.util.ArrayList;
 import java.util.Base64;
 import java.util.List;
+import java.util.Map;
 import java.util.stream.Collectors;
 
 @Slf4j
@@ -22,12 +32,25 @@ import java.util.stream.Collectors;
 @RequiredArgsConstructor
 public class UniversityServiceImpl implements UniversityService {
 
+    private static final int MAX_PAGE_SIZE = 500;
+
     private final UniversityRepository repository;
+    private final UniversityDirectory directory;
+    private final ApplicationEventPublisher eventPublisher;
 
     @Override
     public UniversityResponse registerUniversity(UniversityRegisterRequest request) {
         log.info("Registering university: {}", request.getUniversityName());
 
+        // auth-service delivers registrations at least once; a repeat for the same id is a replay
+        if (request.getUniversityId() != null) {
+            University existing = repository.findById(request.getUniversityId()).orElse(null);
+            if (existing != null && existing.getEmail().equalsIgnoreCase(request.getEmail())) {
+                log.info("University {} is already registered, treating as a replay", request.getUniversityId());
+                return UniversityResponse.from(existing);
+            }
+        }
+
         repository.findByUniversityName(request.getUniversityName())
                 .ifPresent(u -> {
                     throw new InvalidRequestException("University name already exists");
@@ -51,31 +74,57 @@ public class UniversityServiceImpl implements UniversityService {
                 .build();
 
         University saved = repository.save(university);
-        return toResponse(saved);
+        eventPublisher.publishEvent(new UniversityChangedEvent(saved.getUniversityId()));
+        return UniversityResponse.from(saved);
     }
 
     @Override
     public List<UniversityResponse> listUniversities(Boolean verified) {
-        List<University> universities;
-
-        if (verified == null) {
-            universities = repository.findAll();
-        } else {
-            universities = repository.findAll().stream()
-                    .filter(u -> u.isVerified() == verified)
-                    .collect(Collectors.toList());
+        UniversityDirectory.Snapshot snapshot = directory.current();
+        if (snapshot != null) {
+            return snapshot.filter(verified);
         }
 
+        List<University> universities = verified == null
+                ? repository.findAllByOrderByUniversityIdAsc()
+                : repository.findByVerifiedOrderByUniversityIdAsc(verified);
+
         return universities.stream()
-                .map(this::toResponse)
+                .map(UniversityResponse::from)
                 .collect(Collectors.toList());
     }
 
+    @Override
+    public UniversityPage listUniversities(Boolean verified, int page, int size, String cursor) {
+        size = Math.max(1, Math.min(size, MAX_PAGE_SIZE));
+        page = Math.max(0, page);
+        UniversityDirectory.Snapshot snapshot = directory.current();
+        if (snapshot != null) {
+            return snapshot.page(verified, page, size, cursor);
+        }
+
+        if (cursor != null) {
+            // Keyset: continues after the previous page's last id, as cheap for deep pages as the first
+            List<University> rows = verified == null
+                    ? repository.findByUniversityIdGreaterThanOrderByUniversityIdAsc(cursor, Limit.of(size + 1))
+                    : repository.findByVerifiedAndUniversityIdGreaterThanOrderByUniversityIdAsc(verified, cursor, Limit.of(size + 1));
+            boolean hasNext = rows.size() > size;
+            long total = verified == null ? repository.count() : repository.countByVerified(verified);
+            return UniversityPage.of(rows.stream().limit(size).map(UniversityResponse::from).toList(),
+                    page, size, total, hasNext);
+        }
+
+        PageRequest request = PageRequest.of(page, size, Sort.by("universityId"));
+        Page<University> rows = verified == null ? repository.findAll(request) : repository.findByVerified(verified, request);
+        return UniversityPage.of(rows.getContent().stream().map(UniversityResponse::from).toList(),
+                page, size, rows.getTotalElements(), rows.hasNext());
+    }
+
     @Override
     public UniversityResponse getUniversity(String id) {
         University university = repository.findById(id)
                 .orElseThrow(() -> new ResourceNotFoundException("University not found"));
-        return toResponse(university);
+        return UniversityResponse.from(university);
     }
 
     @Override
@@ -115,7 +164,8 @@ public class UniversityServiceImpl implements UniversityService {
 
         // Save will only update changed fields due to dirty checking
         University saved = repository.save(university);
-        return toResponse(saved);
+        eventPublisher.publishEvent(new UniversityChangedEvent(id));
+        return UniversityResponse.from(saved);
     }
 
     @Override
@@ -124,6 +174,7 @@ public class UniversityServiceImpl implements UniversityService {
             throw new ResourceNotFoundException("University not found");
         }
         repository.deleteById(id);
+        eventPublisher.publishEvent(new UniversityChangedEvent(id));
     }
 
     @Override
@@ -137,6 +188,7 @@ public class UniversityServiceImpl implements UniversityService {
 
         university.setVerified(true);
         University saved = repository.save(university);
+        eventPublisher.publishEvent(new UniversityChangedEvent(id));
 
         VerifyUniversityResponse response = new VerifyUniversityResponse();
         response.setUniversityId(saved.getUniversityId());
@@ -157,6 +209,7 @@ public class UniversityServiceImpl implements UniversityService {
 
         university.setVerified(false);
         University saved = repository.save(university);
+        eventPublisher.publishEvent(new UniversityChangedEvent(id));
 
         VerifyUniversityResponse response = new VerifyUniversityResponse();
         response.setUniversityId(saved.getUniversityId());
@@ -178,18 +231,53 @@ public class UniversityServiceImpl implements UniversityService {
         return response;
     }
 
-    private UniversityResponse toResponse(University university) {
-        UniversityResponse response = new UniversityResponse();
-        response.setUniversityId(university.getUniversityId());
-        response.setUniversityName(university.getUniversityName());
-        response.setEmail(university.getEmail());
-        response.setAddress(university.getAddress());
-        response.setPhone(university.getPhone());
-        response.setVerified(university.isVerified());
-        response.setPublicKey(university.getPublicKey());
-        response.setCreatedAt(university.getCreatedAt());
-        response.setUpdatedAt(university.getUpdatedAt());
-        return response;
+    @Override
+    @Transactional
+    public List<UniversitySyncResult> syncUniversities(List<UniversitySyncRequest> changes) {
+        Map<String, University> universities = repository.findAllById(
+                changes.stream().map(UniversitySyncRequest::getUniversityId).toList()).stream()
+                .collect(Collectors.toMap(University::getUniversityId, u -> u));
+
+        List<UniversitySyncResult> results = new ArrayList<>(changes.size());
+        for (UniversitySyncRequest change : changes) {
+            String id = change.getUniversityId();
+            University university = universities.get(id);
+            if (university == null) {
+                // Deleting what is already gone is done; anything else may still be on its way
+                results.add(new UniversitySyncResult(id, change.isDeleted()
+                        ? UniversitySyncResult.Status.APPLIED : UniversitySyncResult.Status.NOT_FOUND, null));
+                continue;
+            }
+            if (change.isDeleted()) {
+                repository.delete(university);
+                eventPublisher.publishEvent(new UniversityChangedEvent(id));
+                results.add(new UniversitySyncResult(id, UniversitySyncResult.Status.APPLIED, null));
+                continue;
+            }
+            if (change.getUniversityName() != null && !change.getUniversityName().equals(university.getUniversityName())
+                    && repository.findByUniversityName(change.getUniversityName()).isPresent()) {
+                results.add(new UniversitySyncResult(id, UniversitySyncResult.Status.REJECTED, "University name already exists"));
+                continue;
+            }
+            if (change.getEmail() != null && !change.getEmail().equals(university.getEmail())
+                    && repository.findByEmail(change.getEmail()).isPresent()) {
+                results.add(new UniversitySyncResult(id, UniversitySyncResult.Status.REJECTED, "University email already exists"));
+                continue;
+            }
+            if (change.getUniversityName() != null) {
+                university.setUniversityName(change.getUniversityName());
+            }
+            if (change.getEmail() != null) {
+                university.setEmail(change.getEmail());
+            }
+            if (change.getVerified() != null) {
+                university.setVerified(change.getVerified());
+            }
+            eventPublisher.publishEvent(new UniversityChangedEvent(id)); // Picked up after commit
+            results.add(new UniversitySyncResult(id, UniversitySyncResult.Status.APPLIED, null));
+        }
+        // Managed entities are flushed on commit; only changed rows are written
+        return results;
     }
 
     private String generatePublicKey() {
@@ -0,0 +1,130 @@
+package com.certverify.verification.audit;
+
+import com.certverify.verification.model.VerificationEvent;
+import com.certverify.verification.model.VerificationOutcome;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+
+/**
+ * Compact binary layout of one audit record inside a segment:
+ * <pre>
+ * int   length      total record length in bytes, 0 marks the end of written data
+ * long  timestamp   epoch millis
+ * byte  outcome     VerificationOutcome ordinal
+ * str   method      each str is a short length followed by UTF-8 bytes (-1 = null)
+ * str   certificateNumber
+ * str   universityId
+ * str   clientId
+ * </pre>
+ * The length is written last, so a reader never sees a partially written record.
+ */
+final class AuditCodec {
+
+    static final int SEGMENT_MAGIC = 0x56415544; // "VAUD"
+    static final int SEGMENT_VERSION = 1;
+    static final int SEGMENT_HEADER_BYTES = 8;
+
+    private static final int FIXED_BYTES = Integer.BYTES + Long.BYTES + Byte.BYTES + 4 * Short.BYTES;
+    private static final int MAX_STRING_BYTES = 512;
+    private static final VerificationOutcome[] OUTCOMES = VerificationOutcome.values();
+
+    private AuditCodec() {
+    }
+
+    /**
+     * Write a record at the buffer's position.
+     *
+     * @return false (buffer untouched) when the record does not fit
+     */
+    static boolean write(ByteBuffer buffer, VerificationEvent event) {
+        byte[] method = bytes(event.method());
+        byte[] certificateNumber = bytes(event.certificateNumber());
+        byte[] universityId = bytes(event.universityId());
+        byte[] clientId = bytes(event.clientId());
+
+        int length = FIXED_BYTES + len(method) + len(certificateNumber) + len(universityId) + len(clientId);
+        // Keep room for the trailing zero length that terminates the segment
+        if (buffer.remaining() < length + Integer.BYTES) {
+            return false;
+        }
+
+        int start = buffer.position();
+        buffer.position(start + Integer.BYTES);
+        buffer.putLong(event.timestamp());
+        buffer.put((byte) event.outcome().ordinal());
+        putString(buffer, method);
+        putString(buffer, certificateNumber);
+        putString(buffer, universityId);
+        putString(buffer, clientId);
+        buffer.putInt(start, length);
+        return true;
+    }
+
+    /**
+     * Read the record at the buffer's position.
+     *
+     * @return null at the end of written data
+     */
+    static VerificationEvent read(ByteBuffer buffer) {
+        if (buffer.remaining() < Integer.BYTES) {
+            return null;
+        }
+        int start = buffer.position();
+        int length = buffer.getInt(start);
+        if (length < FIXED_BYTES || length > buffer.remaining()) {
+            return null;
+        }
+        buffer.position(start + Integer.BYTES);
+        long timestamp = buffer.getLong();
+        int outcome = buffer.get();
+        String method = getString(buffer);
+        String certificateNumber = getString(buffer);
+        String universityId = getString(buffer);
+        String clientId = getString(buffer);
+        buffer.position(start + length);
+
+        return new VerificationEvent(timestamp, clientId, certificateNumber, universityId, method,
+                outcome >= 0 && outcome < OUTCOMES.length ? OUTCOMES[outcome] : VerificationOutcome.ERROR);
+    }
+
+    private static byte[] bytes(String value) {
+        if (value == null) {
+            return null;
+        }
+        byte[] encoded = value.getBytes(StandardCharsets.UTF_8);
+        if (encoded.length > MAX_STRING_BYTES) {
+            // Cut before the character that straddles the limit, not inside its UTF-8 sequence
+            int end = MAX_STRING_BYTES;
+            while (end > 0 && (encoded[end] & 0xC0) == 0x80) {
+                end--;
+            }
+            return Arrays.copyOf(encoded, end);
+        }
+        return encoded;
+    }
+
+    private static int len(byte[] value) {
+        return value == null ? 0 : value.length;
+    }
+
+    private static void putString(ByteBuffer buffer, byte[] value) {
+        if (value == null) {
+            buffer.putShort((short) -1);
+            return;
+        }
+        buffer.putShort((short) value.length);
+        buffer.put(value);
+    }
+
+    private static String getString(ByteBuffer buffer) {
+        short length = buffer.getShort();
+        if (length < 0) {
+            return null;
+        }
+        byte[] value = new byte[length];
+        buffer.get(value);
+        return new String(value, StandardCharsets.UTF_8);
+    }
+}
@@ -0,0 +1,97 @@
+package com.certverify.verification.audit;
+
+import com.certverify.verification.model.VerificationEvent;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.time.Instant;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Compacts closed audit segments into gzipped CSV files under {@code <dir>/archive}
+ * and removes the binary segment. Runs in the background, off the verify path.
+ */
+@Component
+public class AuditCompactor {
+
+    private static final Logger logger = LoggerFactory.getLogger(AuditCompactor.class);
+    private static final String CSV_HEADER = "timestamp,clientId,certificateNumber,universityId,method,outcome\n";
+
+    private final AuditLog auditLog;
+    private final long retainMillis;
+
+    public AuditCompactor(AuditLog auditLog,
+                          @Value("${verification.audit.compact-after-hours:24}") long compactAfterHours) {
+        this.auditLog = auditLog;
+        this.retainMillis = TimeUnit.HOURS.toMillis(compactAfterHours);
+    }
+
+    @Scheduled(fixedDelayString = "${verification.audit.compact-interval-ms:600000}")
+    public void compact() {
+        long cutoff = System.currentTimeMillis() - retainMillis;
+        try {
+            Path archive = auditLog.getDirectory().resolve("archive");
+            for (Path segment : AuditSegments.list(auditLog.getDirectory())) {
+                if (segment.equals(auditLog.getActiveSegment()) || Files.getLastModifiedTime(segment).toMillis() > cutoff) {
+                    continue;
+                }
+                Files.createDirectories(archive);
+                compact(segment, archive);
+            }
+        } catch (IOException e) {
+            logger.error("Audit compaction failed: {}", e.getMessage());
+        }
+    }
+
+    private void compact(Path segment, Path archive) throws IOException {
+        String name = segment.getFileName().toString();
+        Path target = archive.resolve(name.substring(0, name.length() - AuditSegments.SUFFIX.length()) + ".csv.gz");
+        Path temp = archive.resolve(target.getFileName() + ".tmp");
+
+        List<VerificationEvent> events = AuditSegments.read(segment, event -> true);
+        try (Writer writer = new BufferedWriter(new OutputStreamWriter(
+                new GZIPOutputStream(Files.newOutputStream(temp)), StandardCharsets.UTF_8))) {
+            writer.write(CSV_HEADER);
+            for (VerificationEvent event : events) {
+                writer.write(Instant.ofEpochMilli(event.timestamp()).toString());
+                writer.write(',');
+                writer.write(csv(event.clientId()));
+                writer.write(',');
+                writer.write(csv(event.certificateNumber()));
+                writer.write(',');
+                writer.write(csv(event.universityId()));
+                writer.write(',');
+                writer.write(csv(event.method()));
+                writer.write(',');
+                writer.write(event.outcome().name());
+                writer.write('\n');
+            }
+        }
+        Files.move(temp, target, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        Files.delete(segment);
+        logger.info("Compacted audit segment {} ({} records) into {}", name, events.size(), target.getFileName());
+    }
+
+    private static String csv(String value) {
+        if (value == null) {
+            return "";
+        }
+        if (value.indexOf(',') >= 0 || value.indexOf('"') >= 0 || value.indexOf('\n') >= 0) {
+            return '"' + value.replace("\"", "\"\"") + '"';
+        }
+        return value;
+    }
+}
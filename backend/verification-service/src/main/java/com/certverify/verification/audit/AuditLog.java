@@ -0,0 +1,230 @@
+package com.certverify.verification.audit;
+
+import com.certverify.verification.model.VerificationEvent;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.MappedByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+import java.util.function.Predicate;
+
+/**
+ * Append-only audit log of every verification.
+ * <p>
+ * The verify path only enqueues the event into a lock-free ring buffer. A single
+ * writer thread encodes records into the current memory-mapped segment and rotates
+ * to a new segment by size or age. Closed segments are compacted to CSV by
+ * {@link AuditCompactor}.
+ */
+@Component
+public class AuditLog implements SmartLifecycle {
+
+    private static final Logger logger = LoggerFactory.getLogger(AuditLog.class);
+    // Records appended between time checks, so rotation and forcing keep up under sustained load
+    private static final int DRAIN_BATCH = 1024;
+
+    private final Path directory;
+    private final int segmentBytes;
+    private final long rotateMillis;
+    private final long forceMillis;
+    private final AuditRingBuffer<VerificationEvent> ring;
+
+    private final Counter appended;
+    private final Counter dropped;
+    private final Counter rotations;
+
+    private volatile boolean running;
+    private volatile Path activeSegment;
+    private Thread writer;
+
+    // Owned by the writer thread
+    private MappedByteBuffer buffer;
+    private long segmentStartedAt;
+    private long lastForceAt;
+    private boolean dirty;
+
+    public AuditLog(@Value("${verification.audit.dir:./audit-log}") String directory,
+                    @Value("${verification.audit.segment-mb:64}") int segmentMb,
+                    @Value("${verification.audit.rotate-minutes:60}") long rotateMinutes,
+                    @Value("${verification.audit.force-ms:1000}") long forceMillis,
+                    @Value("${verification.audit.buffer-size:65536}") int bufferSize,
+                    MeterRegistry meterRegistry) {
+        this.directory = Paths.get(directory);
+        this.segmentBytes = segmentMb * 1024 * 1024;
+        this.rotateMillis = TimeUnit.MINUTES.toMillis(rotateMinutes);
+        this.forceMillis = forceMillis;
+        this.ring = new AuditRingBuffer<>(bufferSize);
+
+        this.appended = Counter.builder("verification.audit.records").tag("outcome", "appended").register(meterRegistry);
+        this.dropped = Counter.builder("verification.audit.records").tag("outcome", "dropped").register(meterRegistry);
+        this.rotations = Counter.builder("verification.audit.rotations").register(meterRegistry);
+        meterRegistry.gauge("verification.audit.queue.size", ring, AuditRingBuffer::size);
+    }
+
+    /**
+     * Record a verification. Never blocks: if the writer has fallen behind by a full
+     * buffer the record is dropped and counted.
+     */
+    @EventListener
+    public void onVerification(VerificationEvent event) {
+        if (!ring.offer(event)) {
+            dropped.increment();
+        }
+    }
+
+    /**
+     * Scan the uncompacted segments, newest first, for matching records
+     */
+    public List<VerificationEvent> query(Predicate<VerificationEvent> filter, long fromMillis, int limit) {
+        List<VerificationEvent> matches = new ArrayList<>();
+        try {
+            List<Path> segments = AuditSegments.list(directory);
+            for (int i = segments.size() - 1; i >= 0 && matches.size() < limit; i--) {
+                List<VerificationEvent> events = AuditSegments.read(segments.get(i), filter);
+                for (int j = events.size() - 1; j >= 0 && matches.size() < limit; j--) {
+                    matches.add(events.get(j));
+                }
+                // Segments are chronological, so nothing older can match
+                if (AuditSegments.startMillis(segments.get(i)) < fromMillis) {
+                    break;
+                }
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to read audit segments", e);
+        }
+        return matches;
+    }
+
+    Path getDirectory() {
+        return directory;
+    }
+
+    Path getActiveSegment() {
+        return activeSegment;
+    }
+
+    @Override
+    public void start() {
+        try {
+            Files.createDirectories(directory);
+            openSegment(System.currentTimeMillis());
+        } catch (IOException e) {
+            throw new UncheckedIOException("Could not initialize audit log in " + directory, e);
+        }
+        running = true;
+        writer = new Thread(this::writeLoop, "audit-log-writer");
+        writer.setDaemon(true);
+        writer.start();
+        logger.info("Audit log writing to {}", directory.toAbsolutePath());
+    }
+
+    @Override
+    public void stop() {
+        running = false;
+        if (writer != null) {
+            LockSupport.unpark(writer);
+            try {
+                writer.join(TimeUnit.SECONDS.toMillis(5));
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    private void writeLoop() {
+        while (running) {
+            boolean wrote = drain();
+            housekeeping();
+            if (!wrote) {
+                LockSupport.parkNanos(TimeUnit.MICROSECONDS.toNanos(200));
+            }
+        }
+        // Flush whatever was queued before shutdown
+        while (drain()) {
+            // Until the ring is empty
+        }
+        if (buffer != null) {
+            buffer.force();
+        }
+    }
+
+    /**
+     * Append up to DRAIN_BATCH queued records
+     *
+     * @return true if at least one record was written
+     */
+    private boolean drain() {
+        boolean wrote = false;
+        VerificationEvent event;
+        for (int i = 0; i < DRAIN_BATCH && (event = ring.poll()) != null; i++) {
+            try {
+                if (!AuditCodec.write(buffer, event)) {
+                    rotate();
+                    if (!AuditCodec.write(buffer, event)) {
+                        logger.warn("Audit record larger than a segment, dropping it");
+                        dropped.increment();
+                        continue;
+                    }
+                }
+                appended.increment();
+                dirty = true;
+                wrote = true;
+            } catch (Exception e) {
+                logger.error("Failed to append audit record: {}", e.getMessage());
+                dropped.increment();
+            }
+        }
+        return wrote;
+    }
+
+    private void housekeeping() {
+        long now = System.currentTimeMillis();
+        try {
+            if (now - segmentStartedAt >= rotateMillis) {
+                rotate();
+            } else if (dirty && now - lastForceAt >= forceMillis) {
+                buffer.force();
+                dirty = false;
+                lastForceAt = now;
+            }
+        } catch (Exception e) {
+            logger.error("Audit log housekeeping failed: {}", e.getMessage());
+        }
+    }
+
+    private void rotate() throws IOException {
+        buffer.force();
+        long now = System.currentTimeMillis();
+        // Two rotations within the same millisecond would collide on the file name
+        openSegment(Math.max(now, segmentStartedAt + 1));
+        rotations.increment();
+    }
+
+    private void openSegment(long startMillis) throws IOException {
+        Path segment = AuditSegments.segmentPath(directory, startMillis);
+        buffer = AuditSegments.create(segment, segmentBytes);
+        activeSegment = segment;
+        segmentStartedAt = startMillis;
+        lastForceAt = startMillis;
+        dirty = false;
+    }
+}
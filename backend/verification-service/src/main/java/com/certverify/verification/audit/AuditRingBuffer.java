@@ -0,0 +1,63 @@
+package com.certverify.verification.audit;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * Bounded lock-free ring buffer with many producers and a single consumer.
+ * Producers claim a slot with a CAS on the tail and publish into it; the single
+ * writer thread consumes slots in order. When the buffer is full the record is
+ * rejected instead of blocking the verify path.
+ */
+class AuditRingBuffer<T> {
+
+    private final AtomicReferenceArray<T> slots;
+    private final int mask;
+    private final AtomicLong tail = new AtomicLong();
+    private volatile long head;
+
+    AuditRingBuffer(int requestedCapacity) {
+        int capacity = Integer.highestOneBit(Math.max(2, requestedCapacity - 1)) << 1;
+        this.slots = new AtomicReferenceArray<>(capacity);
+        this.mask = capacity - 1;
+    }
+
+    /**
+     * @return false when the buffer is full and the item was dropped
+     */
+    boolean offer(T item) {
+        while (true) {
+            long claimed = tail.get();
+            if (claimed - head >= slots.length()) {
+                return false;
+            }
+            if (tail.compareAndSet(claimed, claimed + 1)) {
+                slots.lazySet((int) (claimed & mask), item);
+                return true;
+            }
+        }
+    }
+
+    /**
+     * Single consumer only. Returns null when nothing has been published yet.
+     */
+    T poll() {
+        long current = head;
+        int index = (int) (current & mask);
+        T item = slots.get(index);
+        if (item == null) {
+            return null;
+        }
+        slots.lazySet(index, null);
+        head = current + 1;
+        return item;
+    }
+
+    int size() {
+        return (int) Math.max(0, tail.get() - head);
+    }
+
+    int capacity() {
+        return slots.length();
+    }
+}
@@ -0,0 +1,97 @@
+package com.certverify.verification.audit;
+
+import com.certverify.verification.model.VerificationEvent;
+
+import java.io.IOException;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.function.Predicate;
+import java.util.stream.Stream;
+
+/**
+ * File-level helpers for audit segments. Segments are named by their start time
+ * (audit-&lt;epochMillis&gt;.seg) so that lexical order is chronological order.
+ */
+final class AuditSegments {
+
+    static final String PREFIX = "audit-";
+    static final String SUFFIX = ".seg";
+
+    private AuditSegments() {
+    }
+
+    static Path segmentPath(Path dir, long startMillis) {
+        return dir.resolve(String.format("%s%020d%s", PREFIX, startMillis, SUFFIX));
+    }
+
+    static long startMillis(Path segment) {
+        String name = segment.getFileName().toString();
+        return Long.parseLong(name.substring(PREFIX.length(), name.length() - SUFFIX.length()));
+    }
+
+    /**
+     * All segments in the directory, oldest first
+     */
+    static List<Path> list(Path dir) throws IOException {
+        if (!Files.isDirectory(dir)) {
+            return List.of();
+        }
+        try (Stream<Path> files = Files.list(dir)) {
+            return files
+                    .filter(p -> {
+                        String name = p.getFileName().toString();
+                        return name.startsWith(PREFIX) && name.endsWith(SUFFIX);
+                    })
+                    .sorted(Comparator.comparing(p -> p.getFileName().toString()))
+                    .toList();
+        }
+    }
+
+    /**
+     * Map a new segment of the given size read-write and write its header
+     */
+    static MappedByteBuffer create(Path segment, int sizeBytes) throws IOException {
+        try (FileChannel channel = FileChannel.open(segment,
+                StandardOpenOption.CREATE_NEW, StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+            MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_WRITE, 0, sizeBytes);
+            buffer.putInt(AuditCodec.SEGMENT_MAGIC);
+            buffer.putInt(AuditCodec.SEGMENT_VERSION);
+            return buffer;
+        }
+    }
+
+    /**
+     * Decode the records of one segment that match the filter, in write order
+     */
+    static List<VerificationEvent> read(Path segment, Predicate<VerificationEvent> filter) throws IOException {
+        List<VerificationEvent> events = new ArrayList<>();
+        try (FileChannel channel = FileChannel.open(segment, StandardOpenOption.READ)) {
+            if (channel.size() < AuditCodec.SEGMENT_HEADER_BYTES) {
+                return events;
+            }
+            ByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+            if (buffer.getInt() != AuditCodec.SEGMENT_MAGIC || buffer.getInt() != AuditCodec.SEGMENT_VERSION) {
+                return events;
+            }
+            try {
+                VerificationEvent event;
+                while ((event = AuditCodec.read(buffer)) != null) {
+                    if (filter.test(event)) {
+                        events.add(event);
+                    }
+                }
+            } catch (BufferUnderflowException | IllegalArgumentException e) {
+                // Torn tail of the active segment: return what was fully written
+            }
+        }
+        return events;
+    }
+}
@@ -0,0 +1,51 @@
+package com.certverify.verification.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicInteger;
+
+@Configuration
+public class ExecutorConfig {
+
+    /**
+     * CPU-bound pool for RSA signature checks in bulk offline verification
+     */
+    @Bean(destroyMethod = "shutdown")
+    public ExecutorService signatureVerificationExecutor(
+            @Value("${verification.offline.threads:0}") int threads) {
+        int size = threads > 0 ? threads : Runtime.getRuntime().availableProcessors();
+        return Executors.newFixedThreadPool(size, namedThreads("signature-verify-"));
+    }
+
+    /**
+     * I/O-bound pool for streamed bulk verification; each task waits on Certificate Service
+     */
+    @Bean(destroyMethod = "shutdown")
+    public ExecutorService bulkVerificationExecutor(
+            @Value("${verification.bulk.threads:32}") int threads) {
+        return Executors.newFixedThreadPool(threads, namedThreads("bulk-verify-"));
+    }
+
+    /**
+     * Pool for hedged Certificate Service calls; only used when hedging is enabled
+     */
+    @Bean(destroyMethod = "shutdown")
+    public ExecutorService certificateClientExecutor(
+            @Value("${verification.certificate-client.hedging.threads:64}") int threads) {
+        return Executors.newFixedThreadPool(threads, namedThreads("certificate-client-"));
+    }
+
+    static ThreadFactory namedThreads(String prefix) {
+        AtomicInteger counter = new AtomicInteger();
+        return runnable -> {
+            Thread thread = new Thread(runnable, prefix + counter.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        };
+    }
+}
@@ -0,0 +1,52 @@
+package com.certverify.verification.config;
+
+import io.netty.channel.ChannelOption;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.client.reactive.ReactorClientHttpConnector;
+import org.springframework.web.reactive.function.client.WebClient;
+import reactor.netty.http.client.HttpClient;
+import reactor.netty.resources.ConnectionProvider;
+
+import java.time.Duration;
+
+/**
+ * Non-blocking HTTP client for Certificate Service, used when verification.mode=reactive.
+ * A small number of event-loop threads multiplex all in-flight lookups over a bounded pool.
+ */
+@Configuration
+@ConditionalOnProperty(name = "verification.mode", havingValue = "reactive")
+public class WebClientConfig {
+
+    @Bean(destroyMethod = "dispose")
+    public ConnectionProvider certificateConnectionProvider(
+            @Value("${verification.reactive.max-connections:500}") int maxConnections,
+            @Value("${verification.reactive.pending-acquire-max:10000}") int pendingAcquireMax) {
+        return ConnectionProvider.builder("certificate-service")
+                .maxConnections(maxConnections)
+                .pendingAcquireMaxCount(pendingAcquireMax)
+                .maxIdleTime(Duration.ofSeconds(30))
+                .evictInBackground(Duration.ofSeconds(60))
+                .build();
+    }
+
+    @Bean
+    public WebClient certificateWebClient(
+            ConnectionProvider certificateConnectionProvider,
+            WebClient.Builder builder,
+            @Value("${services.certificate.url}") String baseUrl,
+            @Value("${spring.cloud.openfeign.client.config.certificate-service.connect-timeout:1000}") int connectTimeoutMs,
+            @Value("${spring.cloud.openfeign.client.config.certificate-service.read-timeout:3000}") long readTimeoutMs) {
+
+        HttpClient httpClient = HttpClient.create(certificateConnectionProvider)
+                .option(ChannelOption.CONNECT_TIMEOUT_MILLIS, connectTimeoutMs)
+                .responseTimeout(Duration.ofMillis(readTimeoutMs));
+
+        return builder
+                .baseUrl(baseUrl)
+                .clientConnector(new ReactorClientHttpConnector(httpClient))
+                .build();
+    }
+}
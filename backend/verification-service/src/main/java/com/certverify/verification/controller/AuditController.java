@@ -0,0 +1,64 @@
+package com.certverify.verification.controller;
+
+import com.certverify.verification.audit.AuditLog;
+import com.certverify.verification.model.VerificationEvent;
+import com.certverify.verification.model.VerificationOutcome;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Predicate;
+
+@RestController
+@RequestMapping("/api/admin/audit")
+@RequiredArgsConstructor
+@Tag(name = "Audit", description = "Verification audit log")
+public class AuditController {
+
+    private static final int MAX_LIMIT = 1000;
+
+    private final AuditLog auditLog;
+
+    /**
+     * Query recent verifications, newest first
+     */
+    @GetMapping("/verifications")
+    @Operation(summary = "Query verification audit log",
+            description = "Search recent (not yet compacted) audit segments, newest first")
+    public ResponseEntity<Map<String, Object>> queryVerifications(
+            @RequestParam(required = false) String certificateNumber,
+            @RequestParam(required = false) String clientId,
+            @RequestParam(required = false) VerificationOutcome outcome,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime from,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime to,
+            @RequestParam(defaultValue = "100") int limit) {
+
+        long fromMillis = from != null ? from.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli() : 0L;
+        long toMillis = to != null ? to.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli() : Long.MAX_VALUE;
+
+        Predicate<VerificationEvent> filter = event -> event.timestamp() >= fromMillis
+                && event.timestamp() <= toMillis
+                && (certificateNumber == null || certificateNumber.equals(event.certificateNumber()))
+                && (clientId == null || clientId.equals(event.clientId()))
+                && (outcome == null || outcome == event.outcome());
+
+        List<VerificationEvent> records = auditLog.query(filter, fromMillis, Math.max(1, Math.min(limit, MAX_LIMIT)));
+
+        Map<String, Object> response = new HashMap<>();
+        response.put("success", true);
+        response.put("data", records);
+        response.put("message", String.format("Found %d audit records", records.size()));
+        return ResponseEntity.ok(response);
+    }
+}
@@ -0,0 +1,97 @@
+package com.certverify.verification.controller;
+
+import com.certverify.verification.dto.CodeVerificationResponse;
+import com.certverify.verification.model.VerificationOutcome;
+import com.certverify.verification.service.CodeVerificationService;
+import com.certverify.verification.service.QrCodeService;
+import com.certverify.verification.service.VerificationCodeIndex;
+import com.certverify.verification.service.VerificationEventPublisher;
+import com.certverify.verification.util.ClientIdentity;
+import io.github.resilience4j.circuitbreaker.CallNotPermittedException;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.servlet.http.HttpServletRequest;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.concurrent.TimeUnit;
+
+@RestController
+@RequestMapping("/api/verify/code")
+@RequiredArgsConstructor
+@Tag(name = "Verification", description = "Certificate verification endpoints")
+public class CodeVerificationController {
+
+    private static final String METHOD = "verificationCode";
+
+    private final CodeVerificationService codeVerificationService;
+    private final QrCodeService qrCodeService;
+    private final VerificationEventPublisher eventPublisher;
+    private final ClientIdentity clientIdentity;
+
+    /**
+     * Verify by certificate number and verification code (the URL printed as a QR code)
+     */
+    @GetMapping("/{certificateNumber}/{verificationCode}")
+    @Operation(summary = "Verify by code", description = "Fast verification using certificate number and verification code")
+    public ResponseEntity<CodeVerificationResponse> verifyByCode(@PathVariable String certificateNumber,
+                                                                 @PathVariable String verificationCode,
+                                                                 HttpServletRequest httpRequest) {
+
+        String clientId = clientIdentity.resolve(httpRequest);
+        VerificationCodeIndex.Entry entry;
+        try {
+            entry = codeVerificationService.verify(certificateNumber, verificationCode);
+        } catch (CallNotPermittedException e) {
+            eventPublisher.publish(clientId, certificateNumber, null, METHOD, VerificationOutcome.ERROR);
+            return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE).build();
+        }
+
+        if (entry == null) {
+            eventPublisher.publish(clientId, certificateNumber, null, METHOD, VerificationOutcome.NOT_FOUND);
+            return ResponseEntity.status(HttpStatus.NOT_FOUND).body(
+                    CodeVerificationResponse.builder()
+                            .certificateNumber(certificateNumber)
+                            .valid(false)
+                            .status("NOT_FOUND")
+                            .build()
+            );
+        }
+
+        eventPublisher.publish(clientId, certificateNumber, entry.universityId(), METHOD, entry.outcome());
+        return ResponseEntity.ok()
+                .cacheControl(CacheControl.noStore())
+                .body(entry.response());
+    }
+
+    /**
+     * QR code image for a certificate, encoding its verify-by-code URL
+     */
+    @GetMapping(value = "/{certificateNumber}/{verificationCode}/qr", produces = MediaType.IMAGE_PNG_VALUE)
+    @Operation(summary = "Certificate QR code", description = "PNG QR code linking to the verify-by-code endpoint")
+    public ResponseEntity<byte[]> qrCode(@PathVariable String certificateNumber,
+                                         @PathVariable String verificationCode) {
+
+        // Only render for a valid pair, so the endpoint cannot be used to mint QR codes
+        VerificationCodeIndex.Entry entry;
+        try {
+            entry = codeVerificationService.verify(certificateNumber, verificationCode);
+        } catch (CallNotPermittedException e) {
+            return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE).build();
+        }
+        if (entry == null) {
+            return ResponseEntity.notFound().build();
+        }
+        return ResponseEntity.ok()
+                .contentType(MediaType.IMAGE_PNG)
+                .cacheControl(CacheControl.maxAge(1, TimeUnit.DAYS))
+                .body(qrCodeService.png(certificateNumber, verificationCode));
+    }
+}
@@ -0,0 +1,98 @@
+package com.certverify.verification.controller;
+
+import com.certverify.verification.dto.BulkOfflineVerificationRequest;
+import com.certverify.verification.dto.OfflineVerificationRequest;
+import com.certverify.verification.dto.VerificationResponse;
+import com.certverify.verification.model.VerificationResult;
+import com.certverify.verification.ratelimit.ClientRateLimiter;
+import com.certverify.verification.ratelimit.WorkClass;
+import com.certverify.verification.service.VerificationEventPublisher;
+import com.certverify.verification.service.VerificationService;
+import com.certverify.verification.util.ClientIdentity;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.validation.annotation.Validated;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+@RestController
+@RequestMapping("/api/verify")
+@RequiredArgsConstructor
+@Validated
+@Tag(name = "Verification", description = "Certificate verification endpoints")
+public class OfflineVerificationController {
+
+    private final VerificationService verificationService;
+    private final VerificationEventPublisher eventPublisher;
+    private final ClientRateLimiter rateLimiter;
+    private final ClientIdentity clientIdentity;
+
+    /**
+     * Offline verification of a signed certificate payload
+     */
+    @PostMapping("/offline")
+    @Operation(summary = "Offline verification",
+            description = "Verify a signed certificate payload against the issuing university's public key")
+    public ResponseEntity<VerificationResponse> verifyOffline(@Valid @RequestBody OfflineVerificationRequest request,
+                                                              HttpServletRequest httpRequest) {
+
+        VerificationResult result = verificationService.verifyOffline(request);
+        eventPublisher.publish(clientIdentity.resolve(httpRequest), null, result);
+
+        String message = result.getValid()
+                ? "Certificate verified successfully"
+                : "Certificate verification failed";
+
+        return ResponseEntity.ok(
+                VerificationResponse.builder()
+                        .success(true)
+                        .data(result)
+                        .message(message)
+                        .build()
+        );
+    }
+
+    /**
+     * Bulk offline verification
+     */
+    @PostMapping("/offline/bulk")
+    @Operation(summary = "Bulk offline verification", description = "Verify multiple signed certificate payloads at once")
+    public ResponseEntity<Map<String, Object>> bulkVerifyOffline(@Valid @RequestBody BulkOfflineVerificationRequest request,
+                                                                 HttpServletRequest httpRequest) {
+
+        String clientId = clientIdentity.resolve(httpRequest);
+        long wait = rateLimiter.tryAcquire(clientId, WorkClass.BULK, request.getCertificates().size());
+        if (wait > 0) {
+            return VerificationResponses.tooManyRequests(wait);
+        }
+
+        List<VerificationResult> results = verificationService.verifyOfflineBulk(request.getCertificates());
+        results.forEach(result -> eventPublisher.publish(clientId, null, result));
+        long validCount = results.stream().filter(VerificationResult::getValid).count();
+
+        Map<String, Object> response = new HashMap<>();
+        response.put("success", true);
+
+        Map<String, Object> data = new HashMap<>();
+        data.put("totalRequested", results.size());
+        data.put("validCertificates", validCount);
+        data.put("invalidCertificates", results.size() - validCount);
+        data.put("results", results);
+
+        response.put("data", data);
+        response.put("message", String.format("Bulk offline verification completed. %d/%d certificates are valid.",
+                validCount, results.size()));
+
+        return ResponseEntity.ok(response);
+    }
+}
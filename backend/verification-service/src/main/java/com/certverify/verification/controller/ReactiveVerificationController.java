@@ -0,0 +1,131 @@
+package com.certverify.verification.controller;
+
+import com.certverify.verification.dto.BulkVerificationItem;
+import com.certverify.verification.dto.BulkVerificationRequest;
+import com.certverify.verification.dto.VerificationRequest;
+import com.certverify.verification.dto.VerificationViewResponse;
+import com.certverify.verification.ratelimit.ClientRateLimiter;
+import com.certverify.verification.ratelimit.WorkClass;
+import com.certverify.verification.service.ReactiveVerificationService;
+import com.certverify.verification.service.VerificationEventPublisher;
+import com.certverify.verification.service.VerificationResponseCache;
+import com.certverify.verification.util.ClientIdentity;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotBlank;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.ResponseEntity;
+import org.springframework.validation.annotation.Validated;
+import org.springframework.web.bind.annotation.*;
+import reactor.core.publisher.Mono;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Non-blocking verification endpoints, active with verification.mode=reactive.
+ * Same contract as VerificationController, but the servlet thread is released while
+ * the Certificate Service lookup is in flight (async request processing).
+ */
+@RestController
+@RequestMapping("/api/verify")
+@RequiredArgsConstructor
+@Validated
+@ConditionalOnProperty(name = "verification.mode", havingValue = "reactive")
+@Tag(name = "Verification", description = "Certificate verification endpoints")
+public class ReactiveVerificationController {
+
+    private final ReactiveVerificationService verificationService;
+    private final VerificationEventPublisher eventPublisher;
+    private final VerificationResponseCache responseCache;
+    private final ClientRateLimiter rateLimiter;
+    private final ClientIdentity clientIdentity;
+
+    /**
+     * Verify certificate by certificate number
+     */
+    @PostMapping
+    @Operation(summary = "Verify certificate", description = "Verify certificate by certificate number")
+    @ApiResponse(responseCode = "200", content = @Content(schema = @Schema(implementation = VerificationViewResponse.class)))
+    public Mono<ResponseEntity<byte[]>> verify(@Valid @RequestBody VerificationRequest request,
+                                               HttpServletRequest httpRequest) {
+
+        // Resolve before going async: the request object must not be touched from the event loop
+        String clientId = clientIdentity.resolve(httpRequest);
+        return verificationService.verifyByCertificateNumber(request.getCertificateNumber())
+                .doOnNext(result -> eventPublisher.publish(clientId, request.getCertificateNumber(), result))
+                .map(result -> VerificationResponses.conditional(responseCache.render(result), null));
+    }
+
+    /**
+     * Verify certificate by certificate number (GET).
+     * Responses for valid certificates carry an ETag; a matching If-None-Match gets a 304.
+     */
+    @GetMapping("/{certificateNumber}")
+    @Operation(summary = "Verify by certificate number", description = "Quick verification using certificate number")
+    @ApiResponse(responseCode = "200", content = @Content(schema = @Schema(implementation = VerificationViewResponse.class)))
+    public Mono<ResponseEntity<byte[]>> verifyByCertificateNumber(
+            @PathVariable @NotBlank String certificateNumber,
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch,
+            HttpServletRequest httpRequest) {
+
+        String clientId = clientIdentity.resolve(httpRequest);
+        return verificationService.verifyByCertificateNumber(certificateNumber)
+                .doOnNext(result -> eventPublisher.publish(clientId, certificateNumber, result))
+                .map(result -> VerificationResponses.conditional(responseCache.render(result), ifNoneMatch));
+    }
+
+    /**
+     * Bulk verification
+     */
+    @PostMapping("/bulk")
+    @Operation(summary = "Bulk verification", description = "Verify multiple certificates at once")
+    public Mono<ResponseEntity<Map<String, Object>>> bulkVerify(@Valid @RequestBody BulkVerificationRequest request,
+                                                                HttpServletRequest httpRequest) {
+
+        String clientId = clientIdentity.resolve(httpRequest);
+        long wait = rateLimiter.tryAcquire(clientId, WorkClass.BULK, request.getCertificates().size());
+        if (wait > 0) {
+            return Mono.just(VerificationResponses.tooManyRequests(wait));
+        }
+
+        List<String> numbers = request.getCertificates().stream()
+                .map(VerificationRequest::getCertificateNumber)
+                .toList();
+
+        return verificationService.verifyAll(numbers)
+                .index()
+                .map(indexed -> {
+                    String certificateNumber = numbers.get(indexed.getT1().intValue());
+                    eventPublisher.publish(clientId, certificateNumber, indexed.getT2());
+                    return BulkVerificationItem.from(certificateNumber, indexed.getT2());
+                })
+                .collectList()
+                .map(results -> {
+                    long validCount = results.stream().filter(item -> Boolean.TRUE.equals(item.getValid())).count();
+
+                    Map<String, Object> response = new HashMap<>();
+                    response.put("success", true);
+
+                    Map<String, Object> data = new HashMap<>();
+                    data.put("totalRequested", numbers.size());
+                    data.put("validCertificates", validCount);
+                    data.put("invalidCertificates", numbers.size() - validCount);
+                    data.put("results", results);
+
+                    response.put("data", data);
+                    response.put("message", String.format("Bulk verification completed. %d/%d certificates are valid.",
+                            validCount, numbers.size()));
+
+                    return ResponseEntity.ok(response);
+                });
+    }
+}
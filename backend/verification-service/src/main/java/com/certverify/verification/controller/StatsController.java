@@ -0,0 +1,47 @@
+package com.certverify.verification.controller;
+
+import com.certverify.verification.dto.VerificationStats;
+import com.certverify.verification.stats.VerificationStatsService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.HashMap;
+import java.util.Map;
+
+@RestController
+@RequestMapping("/api/admin/stats")
+@RequiredArgsConstructor
+@Tag(name = "Statistics", description = "Verification statistics for the admin dashboard")
+public class StatsController {
+
+    private final VerificationStatsService statsService;
+
+    /**
+     * Verification statistics for a period
+     */
+    @GetMapping("/verifications")
+    @Operation(summary = "Verification statistics",
+            description = "Counts by outcome, university and employer as a day (hourly), week or month (daily) series")
+    public ResponseEntity<Map<String, Object>> getVerificationStats(
+            @RequestParam(defaultValue = "month") String period) {
+
+        Map<String, Object> response = new HashMap<>();
+        try {
+            VerificationStats stats = statsService.getStats(period);
+            response.put("success", true);
+            response.put("data", stats);
+            response.put("message", "Verification statistics retrieved successfully");
+            return ResponseEntity.ok(response);
+        } catch (IllegalArgumentException e) {
+            response.put("success", false);
+            response.put("message", e.getMessage());
+            return ResponseEntity.badRequest().body(response);
+        }
+    }
+}
@@ -0,0 +1,54 @@
+package com.certverify.verification.controller;
+
+import com.certverify.verification.service.StreamingVerificationService;
+import com.certverify.verification.util.ClientIdentity;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.MediaType;
+import org.springframework.validation.annotation.Validated;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+
+@RestController
+@RequestMapping("/api/verify")
+@RequiredArgsConstructor
+@Validated
+@Tag(name = "Verification", description = "Certificate verification endpoints")
+public class StreamingVerificationController {
+
+    private static final String NDJSON = "application/x-ndjson";
+
+    private final StreamingVerificationService streamingVerificationService;
+    private final ClientIdentity clientIdentity;
+
+    /**
+     * Streaming bulk verification for very large batches.
+     * Reads NDJSON or CSV certificate numbers from the body and writes one NDJSON result per line.
+     */
+    @PostMapping(value = "/bulk/stream", consumes = {NDJSON, "text/csv", MediaType.TEXT_PLAIN_VALUE}, produces = NDJSON)
+    @Operation(summary = "Streaming bulk verification",
+            description = "Verify an NDJSON or CSV stream of certificate numbers, streaming NDJSON results back")
+    public void bulkVerifyStream(HttpServletRequest request, HttpServletResponse response) throws IOException {
+
+        boolean csv = request.getContentType() != null && request.getContentType().startsWith("text/csv");
+
+        response.setStatus(HttpServletResponse.SC_OK);
+        response.setContentType(NDJSON);
+        response.setCharacterEncoding(StandardCharsets.UTF_8.name());
+
+        try (BufferedReader reader = new BufferedReader(
+                new InputStreamReader(request.getInputStream(), StandardCharsets.UTF_8))) {
+            streamingVerificationService.verifyStream(reader, response.getOutputStream(), csv,
+                    clientIdentity.resolve(request));
+        }
+    }
+}
@@ -1,15 +1,28 @@
 package com.certverify.verification.controller;
 
+import com.certverify.verification.dto.BulkVerificationItem;
 import com.certverify.verification.dto.BulkVerificationRequest;
 import com.certverify.verification.dto.VerificationRequest;
-import com.certverify.verification.dto.VerificationResponse;
+import com.certverify.verification.dto.VerificationViewResponse;
 import com.certverify.verification.model.VerificationResult;
+import com.certverify.verification.ratelimit.ClientRateLimiter;
+import com.certverify.verification.ratelimit.WorkClass;
+import com.certverify.verification.service.VerificationEventPublisher;
+import com.certverify.verification.service.VerificationResponseCache;
 import com.certverify.verification.service.VerificationService;
+import com.certverify.verification.util.ClientIdentity;
 import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.servlet.http.HttpServletRequest;
 import jakarta.validation.Valid;
 import jakarta.validation.constraints.NotBlank;
 import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.validation.annotation.Validated;
 import org.springframework.web.bind.annotation.*;
@@ -19,58 +32,61 @@ import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 
+/**
+ * Blocking (servlet thread per request) verification endpoints; the default mode.
+ * See ReactiveVerificationController for verification.mode=reactive.
+ */
 @RestController
 @RequestMapping("/api/verify")
 @RequiredArgsConstructor
 @Validated
+@ConditionalOnProperty(name = "verification.mode", havingValue = "blocking", matchIfMissing = true)
 @Tag(name = "Verification", description = "Certificate verification endpoints")
 public class VerificationController {
 
     private final VerificationService verificationService;
+    private final VerificationEventPublisher eventPublisher;
+    private final VerificationResponseCache responseCache;
+    private final ClientRateLimiter rateLimiter;
+    private final ClientIdentity clientIdentity;
 
     /**
      * Verify certificate by certificate number
      */
     @PostMapping
     @Operation(summary = "Verify certificate", description = "Verify certificate by certificate number")
-    public ResponseEntity<VerificationResponse> verify(@Valid @RequestBody VerificationRequest request) {
-
-        VerificationResult result = verificationService.verifyByCertificateNumber(request.getCertificateNumber());
-
-        String message = result.getValid()
-                ? "Certificate verified successfully"
-                : "Certificate verification failed";
-
-        return ResponseEntity.ok(
-                VerificationResponse.builder()
-                        .success(true)
-                        .data(result)
-                        .message(message)
-                        .build()
-        );
+    @ApiResponse(responseCode = "200", content = @Content(schema = @Schema(implementation = VerificationViewResponse.class)))
+    public ResponseEntity<byte[]> verify(@Valid @RequestBody VerificationRequest request,
+                                         HttpServletRequest httpRequest) {
+
+        String clientId = clientIdentity.resolve(httpRequest);
+        VerificationResult result = verificationService.verifyByCertificateNumber(
+                request.getCertificateNumber(), WorkClass.INTERACTIVE, clientId);
+        eventPublisher.publish(clientId, request.getCertificateNumber(), result);
+
+        return ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_JSON)
+                .body(responseCache.render(result).body());
     }
 
     /**
-     * Verify certificate by certificate number (GET)
+     * Verify certificate by certificate number (GET).
+     * Responses for valid certificates carry an ETag; a matching If-None-Match gets a 304.
      */
     @GetMapping("/{certificateNumber}")
     @Operation(summary = "Verify by certificate number", description = "Quick verification using certificate number")
-    public ResponseEntity<VerificationResponse> verifyByCertificateNumber(
-            @PathVariable @NotBlank String certificateNumber) {
-
-        VerificationResult result = verificationService.verifyByCertificateNumber(certificateNumber);
-
-        String message = result.getValid()
-                ? "Certificate verified successfully"
-                : "Certificate verification failed";
-
-        return ResponseEntity.ok(
-                VerificationResponse.builder()
-                        .success(true)
-                        .data(result)
-                        .message(message)
-                        .build()
-        );
+    @ApiResponse(responseCode = "200", content = @Content(schema = @Schema(implementation = VerificationViewResponse.class)))
+    public ResponseEntity<byte[]> verifyByCertificateNumber(
+            @PathVariable @NotBlank String certificateNumber,
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch,
+            HttpServletRequest httpRequest) {
+
+        String clientId = clientIdentity.resolve(httpRequest);
+        VerificationResult result = verificationService.verifyByCertificateNumber(
+                certificateNumber, WorkClass.INTERACTIVE, clientId);
+        eventPublisher.publish(clientId, certificateNumber, result);
+
+        return VerificationResponses.conditional(responseCache.render(result), ifNoneMatch);
     }
 
     /**
@@ -78,17 +94,25 @@ public class VerificationController {
      */
     @PostMapping("/bulk")
     @Operation(summary = "Bulk verification", description = "Verify multiple certificates at once")
-    public ResponseEntity<Map<String, Object>> bulkVerify(@Valid @RequestBody BulkVerificationRequest request) {
+    public ResponseEntity<Map<String, Object>> bulkVerify(@Valid @RequestBody BulkVerificationRequest request,
+                                                          HttpServletRequest httpRequest) {
+
+        String clientId = clientIdentity.resolve(httpRequest);
+        long wait = rateLimiter.tryAcquire(clientId, WorkClass.BULK, request.getCertificates().size());
+        if (wait > 0) {
+            return VerificationResponses.tooManyRequests(wait);
+        }
 
-        List<Map<String, Object>> results = new ArrayList<>();
+        List<BulkVerificationItem> results = new ArrayList<>();
         int validCount = 0;
         int invalidCount = 0;
 
         for (VerificationRequest certRequest : request.getCertificates()) {
             try {
                 VerificationResult result = verificationService.verifyByCertificateNumber(
-                        certRequest.getCertificateNumber()
+                        certRequest.getCertificateNumber(), WorkClass.BULK, clientId
                 );
+                eventPublisher.publish(clientId, certRequest.getCertificateNumber(), result);
 
                 if (result.getValid()) {
                     validCount++;
@@ -96,27 +120,11 @@ public class VerificationController {
                     invalidCount++;
                 }
 
-                Map<String, Object> resultMap = new HashMap<>();
-                resultMap.put("certificateNumber", certRequest.getCertificateNumber());
-                resultMap.put("valid", result.getValid());
-                resultMap.put("reason", result.getReason());
-
-                // Include certificate details if available
-                if (result.getCertificate() != null) {
-                    resultMap.put("studentName", result.getCertificate().getStudentName());
-                    resultMap.put("courseName", result.getCertificate().getCourseName());
-                    resultMap.put("issueDate", result.getCertificate().getIssueDate());
-                }
-
-                results.add(resultMap);
+                results.add(BulkVerificationItem.from(certRequest.getCertificateNumber(), result));
 
             } catch (Exception e) {
                 invalidCount++;
-                Map<String, Object> errorResult = new HashMap<>();
-                errorResult.put("certificateNumber", certRequest.getCertificateNumber());
-                errorResult.put("valid", false);
-                errorResult.put("reason", "Verification failed due to internal error: " + e.getMessage());
-                results.add(errorResult);
+                results.add(BulkVerificationItem.error(certRequest.getCertificateNumber(), e.getMessage()));
             }
         }
 
@@ -135,4 +143,4 @@ public class VerificationController {
 
         return ResponseEntity.ok(response);
     }
-}
\ No newline at end of file
+}
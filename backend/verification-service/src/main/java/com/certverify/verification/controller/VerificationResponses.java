@@ -0,0 +1,59 @@
+package com.certverify.verification.controller;
+
+import com.certverify.verification.ratelimit.RateLimitFilter;
+import com.certverify.verification.service.VerificationResponseCache;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Shared HTTP rendering of pre-serialized verification responses
+ */
+final class VerificationResponses {
+
+    private VerificationResponses() {
+    }
+
+    /**
+     * 304 when the client already holds the current representation, otherwise the cached bytes.
+     * no-cache: clients may keep the body but must revalidate, since a revocation changes it.
+     */
+    static ResponseEntity<byte[]> conditional(VerificationResponseCache.Rendered rendered, String ifNoneMatch) {
+        if (rendered.etag() == null) {
+            return ResponseEntity.ok()
+                    .contentType(MediaType.APPLICATION_JSON)
+                    .body(rendered.body());
+        }
+        if (rendered.matches(ifNoneMatch)) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED)
+                    .eTag(rendered.etag())
+                    .cacheControl(CacheControl.noCache())
+                    .build();
+        }
+        return ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_JSON)
+                .eTag(rendered.etag())
+                .cacheControl(CacheControl.noCache())
+                .body(rendered.body());
+    }
+
+    /**
+     * 429 for a bulk request that exceeds the client's bulk rate limit
+     */
+    static ResponseEntity<Map<String, Object>> tooManyRequests(long waitNanos) {
+        long retryAfter = RateLimitFilter.retryAfterSeconds(waitNanos);
+
+        Map<String, Object> response = new HashMap<>();
+        response.put("success", false);
+        response.put("message", "Bulk rate limit exceeded, retry after " + retryAfter + " s");
+
+        return ResponseEntity.status(HttpStatus.TOO_MANY_REQUESTS)
+                .header(HttpHeaders.RETRY_AFTER, Long.toString(retryAfter))
+                .body(response);
+    }
+}
@@ -0,0 +1,47 @@
+package com.certverify.verification.dto;
+
+import com.certverify.verification.model.VerificationResult;
+import com.fasterxml.jackson.annotation.JsonInclude;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * One line of a bulk verification result
+ */
+@Data
+@Builder
+@JsonInclude(JsonInclude.Include.NON_NULL)
+@NoArgsConstructor
+@AllArgsConstructor
+public class BulkVerificationItem {
+    private String certificateNumber;
+    private Boolean valid;
+    private String reason;
+    private String studentName;
+    private String courseName;
+    private String issueDate;
+
+    public static BulkVerificationItem from(String certificateNumber, VerificationResult result) {
+        BulkVerificationItemBuilder builder = BulkVerificationItem.builder()
+                .certificateNumber(certificateNumber)
+                .valid(result.getValid())
+                .reason(result.getReason());
+
+        if (result.getCertificate() != null) {
+            builder.studentName(result.getCertificate().getStudentName())
+                    .courseName(result.getCertificate().getCourseName())
+                    .issueDate(result.getCertificate().getIssueDate());
+        }
+        return builder.build();
+    }
+
+    public static BulkVerificationItem error(String certificateNumber, String message) {
+        return BulkVerificationItem.builder()
+                .certificateNumber(certificateNumber)
+                .valid(false)
+                .reason("Verification failed due to internal error: " + message)
+                .build();
+    }
+}
@@ -0,0 +1,21 @@
+package com.certverify.verification.dto;
+
+import lombok.Data;
+
+import java.time.LocalDateTime;
+
+/**
+ * One entry of Certificate Service's change feed
+ */
+@Data
+public class CertificateChange {
+    private String certificateId;
+    private String certificateNumber;
+    private String verificationCode;
+    private String universityId;
+    private String studentName;
+    private String courseName;
+    private String issueDate;
+    private String status;
+    private LocalDateTime updatedAt;
+}
@@ -0,0 +1,24 @@
+package com.certverify.verification.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Minimal verify-by-code answer for QR scans
+ */
+@Data
+@Builder
+@JsonInclude(JsonInclude.Include.NON_NULL)
+@NoArgsConstructor
+@AllArgsConstructor
+public class CodeVerificationResponse {
+    private String certificateNumber;
+    private boolean valid;
+    private String status;
+    private String studentName;
+    private String courseName;
+    private String issueDate;
+}
@@ -0,0 +1,23 @@
+package com.certverify.verification.dto;
+
+import jakarta.validation.constraints.NotBlank;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class OfflineVerificationRequest {
+    /**
+     * Certificate JSON exactly as it was signed by the issuing university
+     */
+    @NotBlank(message = "Certificate payload is required")
+    private String payload;
+
+    /**
+     * Base64 encoded SHA256withRSA signature over the payload bytes
+     */
+    @NotBlank(message = "Signature is required")
+    private String signature;
+}
@@ -0,0 +1,36 @@
+package com.certverify.verification.dto;
+
+import com.certverify.verification.model.VerificationOutcome;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class OutcomeCounts {
+    private long valid;
+    private long invalid;
+    private long notFound;
+    private long revoked;
+    private long errors;
+    private long total;
+
+    /**
+     * @param counts per-outcome counts indexed by VerificationOutcome ordinal
+     */
+    public static OutcomeCounts of(long[] counts) {
+        long total = 0;
+        for (long count : counts) {
+            total += count;
+        }
+        return new OutcomeCounts(
+                counts[VerificationOutcome.VALID.ordinal()],
+                counts[VerificationOutcome.INVALID.ordinal()],
+                counts[VerificationOutcome.NOT_FOUND.ordinal()],
+                counts[VerificationOutcome.REVOKED.ordinal()],
+                counts[VerificationOutcome.ERROR.ordinal()],
+                total
+        );
+    }
+}
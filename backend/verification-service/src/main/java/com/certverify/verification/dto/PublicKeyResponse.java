@@ -0,0 +1,10 @@
+package com.certverify.verification.dto;
+
+import lombok.Data;
+
+@Data
+public class PublicKeyResponse {
+    private String universityId;
+    private String universityName;
+    private String publicKey;
+}
@@ -0,0 +1,37 @@
+package com.certverify.verification.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class VerificationStats {
+    private String period;
+    private String interval;
+    private OutcomeCounts totals;
+    private List<Point> series;
+    private List<KeyCount> topUniversities;
+    private List<KeyCount> topEmployers;
+
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class Point {
+        private long start; // epoch millis of the bucket start
+        private OutcomeCounts counts;
+    }
+
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class KeyCount {
+        private String id;
+        private OutcomeCounts counts;
+    }
+}
@@ -0,0 +1,73 @@
+package com.certverify.verification.dto;
+
+import com.certverify.verification.model.Certificate;
+import com.certverify.verification.model.VerificationResult;
+import com.fasterxml.jackson.annotation.JsonInclude;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Lean verification answer: only the fields an employer needs, none of the
+ * certificate's internal fields (hash, signature, PDF path, audit timestamps)
+ */
+@Data
+@Builder
+@JsonInclude(JsonInclude.Include.NON_NULL)
+@NoArgsConstructor
+@AllArgsConstructor
+public class VerificationView {
+    private Boolean valid;
+    private String reason;
+    private String verificationMethod;
+    private CertificateSummary certificate;
+
+    public static VerificationView from(VerificationResult result) {
+        return VerificationView.builder()
+                .valid(result.getValid())
+                .reason(result.getReason())
+                .verificationMethod(result.getVerificationMethod())
+                .certificate(CertificateSummary.from(result))
+                .build();
+    }
+
+    @Data
+    @Builder
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class CertificateSummary {
+        private String certificateNumber;
+        private String studentName;
+        private String courseName;
+        private String specialization;
+        private String grade;
+        private String issueDate;
+        private String completionDate;
+        private String universityId;
+        private String universityName;
+        private String status;
+        private String revocationReason;
+
+        static CertificateSummary from(VerificationResult result) {
+            Certificate certificate = result.getCertificate();
+            if (certificate == null) {
+                return null;
+            }
+            return CertificateSummary.builder()
+                    .certificateNumber(certificate.getCertificateNumber())
+                    .studentName(certificate.getStudentName())
+                    .courseName(certificate.getCourseName())
+                    .specialization(certificate.getSpecialization())
+                    .grade(certificate.getGrade())
+                    .issueDate(certificate.getIssueDate())
+                    .completionDate(certificate.getCompletionDate())
+                    .universityId(certificate.getUniversityId())
+                    .universityName(result.getUniversity() != null ? result.getUniversity().getName() : null)
+                    .status(certificate.getStatus())
+                    .revocationReason(certificate.getRevocationReason())
+                    .build();
+        }
+    }
+}
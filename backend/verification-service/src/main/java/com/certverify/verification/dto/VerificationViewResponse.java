@@ -0,0 +1,16 @@
+package com.certverify.verification.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class VerificationViewResponse {
+    private Boolean success;
+    private VerificationView data;
+    private String message;
+}
@@ -0,0 +1,39 @@
+package com.certverify.verification.model;
+
+/**
+ * Published once per completed verification (who, what, when, result)
+ *
+ * @param timestamp         epoch millis when the verification completed
+ * @param clientId          caller identity (authenticated account or client address)
+ * @param certificateNumber certificate that was verified, if known
+ * @param universityId      issuing university, if known
+ * @param method            verification method (certificateNumber, offlineSignature, ...)
+ * @param outcome           classified result
+ */
+public record VerificationEvent(
+        long timestamp,
+        String clientId,
+        String certificateNumber,
+        String universityId,
+        String method,
+        VerificationOutcome outcome
+) {
+
+    public static VerificationEvent of(String clientId, String certificateNumber, VerificationResult result) {
+        String universityId = null;
+        if (result.getCertificate() != null) {
+            universityId = result.getCertificate().getUniversityId();
+            if (certificateNumber == null) {
+                certificateNumber = result.getCertificate().getCertificateNumber();
+            }
+        }
+        return new VerificationEvent(
+                System.currentTimeMillis(),
+                clientId,
+                certificateNumber,
+                universityId,
+                result.getVerificationMethod(),
+                result.getOutcome() != null ? result.getOutcome() : VerificationOutcome.ERROR
+        );
+    }
+}
@@ -0,0 +1,12 @@
+package com.certverify.verification.model;
+
+/**
+ * Classified outcome of a single verification, used for auditing and statistics
+ */
+public enum VerificationOutcome {
+    VALID,
+    INVALID,
+    NOT_FOUND,
+    REVOKED,
+    ERROR
+}
@@ -1,5 +1,6 @@
 package com.certverify.verification.model;
 
+import com.fasterxml.jackson.annotation.JsonIgnore;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
@@ -17,4 +18,7 @@ public class VerificationResult {
     private String verificationMethod;
     private LocalDateTime timestamp;
     private String reason;
+
+    @JsonIgnore
+    private VerificationOutcome outcome;
 }
\ No newline at end of file
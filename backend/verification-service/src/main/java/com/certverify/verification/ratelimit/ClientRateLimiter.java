@@ -0,0 +1,158 @@
+package com.certverify.verification.ratelimit;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Per-client token buckets, one set per {@link WorkClass}, so a client's bulk jobs
+ * and its interactive lookups are limited independently.
+ * <p>
+ * Admission is a single CAS on the client's bucket. Idle buckets are dropped in the
+ * background; beyond max-clients, unseen clients share one overflow bucket.
+ */
+@Service
+public class ClientRateLimiter {
+
+    private static final Logger logger = LoggerFactory.getLogger(ClientRateLimiter.class);
+    static final String OVERFLOW_KEY = "other";
+
+    private final boolean enabled;
+    private final int maxClients;
+    private final Map<WorkClass, Limit> limits = new EnumMap<>(WorkClass.class);
+
+    public ClientRateLimiter(MeterRegistry meterRegistry,
+                             @Value("${verification.rate-limit.enabled:true}") boolean enabled,
+                             @Value("${verification.rate-limit.max-clients:100000}") int maxClients,
+                             @Value("${verification.rate-limit.interactive.rate:50}") double interactiveRate,
+                             @Value("${verification.rate-limit.interactive.burst:100}") int interactiveBurst,
+                             @Value("${verification.rate-limit.bulk.rate:500}") double bulkRate,
+                             @Value("${verification.rate-limit.bulk.burst:1000}") int bulkBurst) {
+        this.enabled = enabled;
+        this.maxClients = maxClients;
+        limits.put(WorkClass.INTERACTIVE, new Limit(WorkClass.INTERACTIVE, interactiveRate, interactiveBurst, meterRegistry));
+        limits.put(WorkClass.BULK, new Limit(WorkClass.BULK, bulkRate, bulkBurst, meterRegistry));
+    }
+
+    /**
+     * Take permits (one per certificate) for the client.
+     *
+     * @return 0 when admitted, otherwise nanoseconds until the request would be admitted
+     */
+    public long tryAcquire(String clientId, WorkClass workClass, int permits) {
+        if (!enabled) {
+            return 0;
+        }
+        Limit limit = limits.get(workClass);
+        long wait = limit.bucket(clientId).tryAcquire(permits, System.nanoTime());
+        if (wait == 0) {
+            limit.allowed.increment(permits);
+        } else {
+            limit.rejected.increment(permits);
+        }
+        return wait;
+    }
+
+    /**
+     * Take permits, pacing the caller until they are available (streamed bulk work).
+     *
+     * @return false if the client would have to wait longer than maxWait
+     */
+    public boolean acquire(String clientId, WorkClass workClass, int permits, long maxWait, TimeUnit unit)
+            throws InterruptedException {
+        if (!enabled) {
+            return true;
+        }
+        Limit limit = limits.get(workClass);
+        TokenBucket bucket = limit.bucket(clientId);
+        long deadline = System.nanoTime() + unit.toNanos(maxWait);
+        while (true) {
+            long now = System.nanoTime();
+            long wait = bucket.tryAcquire(permits, now);
+            if (wait == 0) {
+                limit.allowed.increment(permits);
+                return true;
+            }
+            if (now + wait > deadline) {
+                limit.rejected.increment(permits);
+                return false;
+            }
+            limit.paced.increment();
+            TimeUnit.NANOSECONDS.sleep(wait);
+        }
+    }
+
+    /**
+     * Forget clients whose buckets have refilled; they start again from a full bucket
+     */
+    @Scheduled(fixedDelayString = "${verification.rate-limit.evict-ms:60000}")
+    public void evictIdle() {
+        long now = System.nanoTime();
+        int evicted = 0;
+        for (Limit limit : limits.values()) {
+            int before = limit.buckets.size();
+            limit.buckets.values().removeIf(bucket -> bucket.isIdle(now));
+            evicted += before - limit.buckets.size();
+        }
+        if (evicted > 0) {
+            logger.debug("Evicted {} idle rate-limit buckets", evicted);
+        }
+    }
+
+    private final class Limit {
+        final double rate;
+        final int burst;
+        final Map<String, TokenBucket> buckets = new ConcurrentHashMap<>();
+        final Counter allowed;
+        final Counter rejected;
+        final Counter paced;
+
+        Limit(WorkClass workClass, double rate, int burst, MeterRegistry meterRegistry) {
+            this.rate = rate;
+            this.burst = burst;
+            this.allowed = Counter.builder("verification.ratelimit.permits")
+                    .tag("class", workClass.tag())
+                    .tag("result", "allowed")
+                    .register(meterRegistry);
+            this.rejected = Counter.builder("verification.ratelimit.permits")
+                    .tag("class", workClass.tag())
+                    .tag("result", "rejected")
+                    .register(meterRegistry);
+            this.paced = Counter.builder("verification.ratelimit.paced")
+                    .tag("class", workClass.tag())
+                    .register(meterRegistry);
+            Gauge.builder("verification.ratelimit.clients", buckets, Map::size)
+                    .tag("class", workClass.tag())
+                    .tag("state", "tracked")
+                    .register(meterRegistry);
+            Gauge.builder("verification.ratelimit.clients", this, Limit::limitedClients)
+                    .tag("class", workClass.tag())
+                    .tag("state", "limited")
+                    .register(meterRegistry);
+        }
+
+        TokenBucket bucket(String clientId) {
+            TokenBucket bucket = buckets.get(clientId);
+            if (bucket != null) {
+                return bucket;
+            }
+            String key = buckets.size() >= maxClients ? OVERFLOW_KEY : clientId;
+            return buckets.computeIfAbsent(key, k -> new TokenBucket(rate, burst, System.nanoTime()));
+        }
+
+        double limitedClients() {
+            long now = System.nanoTime();
+            return buckets.values().stream().filter(bucket -> bucket.isLimited(now)).count();
+        }
+    }
+}
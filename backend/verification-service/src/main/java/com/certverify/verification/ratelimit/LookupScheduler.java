@@ -0,0 +1,227 @@
+package com.certverify.verification.ratelimit;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.EnumMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Weighted fair queuing of Certificate Service lookups.
+ * <p>
+ * A fixed number of lookups may be in flight. While there is a free slot any work
+ * runs immediately, so bulk jobs use all spare capacity. When slots are contended,
+ * freed slots are handed out by stride scheduling between the two classes
+ * (interactive:bulk = weight ratio), and round-robin between clients within bulk, so
+ * one employer's batch can neither starve interactive lookups nor other batches.
+ */
+@Service
+public class LookupScheduler {
+
+    private static final long STRIDE_BASE = 1L << 20;
+
+    private final ReentrantLock lock = new ReentrantLock();
+    private final Map<WorkClass, ClassQueue> queues = new EnumMap<>(WorkClass.class);
+    private final Map<WorkClass, Long> timeoutMillis = new EnumMap<>(WorkClass.class);
+    private final int concurrency;
+    private int available;
+
+    public LookupScheduler(MeterRegistry meterRegistry,
+                           @Value("${verification.scheduler.concurrency:64}") int concurrency,
+                           @Value("${verification.scheduler.interactive.weight:8}") int interactiveWeight,
+                           @Value("${verification.scheduler.bulk.weight:1}") int bulkWeight,
+                           @Value("${verification.scheduler.interactive.timeout-ms:2000}") long interactiveTimeoutMs,
+                           @Value("${verification.scheduler.bulk.timeout-ms:60000}") long bulkTimeoutMs) {
+        this.concurrency = concurrency;
+        this.available = concurrency;
+        queues.put(WorkClass.INTERACTIVE, new ClassQueue(WorkClass.INTERACTIVE, interactiveWeight, meterRegistry));
+        queues.put(WorkClass.BULK, new ClassQueue(WorkClass.BULK, bulkWeight, meterRegistry));
+        timeoutMillis.put(WorkClass.INTERACTIVE, interactiveTimeoutMs);
+        timeoutMillis.put(WorkClass.BULK, bulkTimeoutMs);
+        Gauge.builder("verification.scheduler.in_flight", this, LookupScheduler::inFlight).register(meterRegistry);
+    }
+
+    /**
+     * Wait for a lookup slot. Every successful acquire must be paired with {@link #release()}.
+     *
+     * @return false if no slot was granted within the class timeout
+     */
+    public boolean acquire(WorkClass workClass, String clientId) throws InterruptedException {
+        ClassQueue queue = queues.get(workClass);
+        Waiter waiter;
+        lock.lock();
+        try {
+            if (available > 0 && !hasWaiters()) {
+                available--;
+                queue.waitTime.record(0, TimeUnit.NANOSECONDS);
+                return true;
+            }
+            waiter = new Waiter(clientId);
+            queue.enqueue(waiter, minPass());
+        } finally {
+            lock.unlock();
+        }
+
+        long start = System.nanoTime();
+        try {
+            waiter.granted.get(timeoutMillis.get(workClass), TimeUnit.MILLISECONDS);
+            queue.waitTime.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+            return true;
+        } catch (TimeoutException | InterruptedException e) {
+            lock.lock();
+            try {
+                if (!queue.remove(waiter)) {
+                    // Granted concurrently with the timeout: the slot is ours, hand it on
+                    releaseLocked();
+                }
+            } finally {
+                lock.unlock();
+            }
+            queue.timeouts.increment();
+            if (e instanceof InterruptedException interrupted) {
+                throw interrupted;
+            }
+            return false;
+        } catch (ExecutionException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    public void release() {
+        lock.lock();
+        try {
+            releaseLocked();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private void releaseLocked() {
+        ClassQueue next = null;
+        for (ClassQueue queue : queues.values()) {
+            if (!queue.isEmpty() && (next == null || queue.pass < next.pass)) {
+                next = queue;
+            }
+        }
+        if (next == null) {
+            available++;
+            return;
+        }
+        next.pass += next.stride;
+        next.dequeue().granted.complete(null);
+    }
+
+    private boolean hasWaiters() {
+        for (ClassQueue queue : queues.values()) {
+            if (!queue.isEmpty()) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private long minPass() {
+        long min = Long.MAX_VALUE;
+        for (ClassQueue queue : queues.values()) {
+            if (!queue.isEmpty()) {
+                min = Math.min(min, queue.pass);
+            }
+        }
+        return min == Long.MAX_VALUE ? 0 : min;
+    }
+
+    private double inFlight() {
+        lock.lock();
+        try {
+            return concurrency - available;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private static final class Waiter {
+        final String clientId;
+        final CompletableFuture<Void> granted = new CompletableFuture<>();
+
+        Waiter(String clientId) {
+            this.clientId = clientId;
+        }
+    }
+
+    /**
+     * Waiters of one class, FIFO per client and round-robin across clients. Guarded by the lock.
+     */
+    private static final class ClassQueue {
+        final long stride;
+        final Map<String, Deque<Waiter>> byClient = new LinkedHashMap<>();
+        final Timer waitTime;
+        final Counter timeouts;
+        long pass;
+        int size;
+
+        ClassQueue(WorkClass workClass, int weight, MeterRegistry meterRegistry) {
+            this.stride = STRIDE_BASE / Math.max(1, weight);
+            this.waitTime = Timer.builder("verification.scheduler.wait")
+                    .tag("class", workClass.tag())
+                    .publishPercentiles(0.5, 0.99)
+                    .register(meterRegistry);
+            this.timeouts = Counter.builder("verification.scheduler.timeouts")
+                    .tag("class", workClass.tag())
+                    .register(meterRegistry);
+            Gauge.builder("verification.scheduler.queued", this, queue -> queue.size)
+                    .tag("class", workClass.tag())
+                    .register(meterRegistry);
+        }
+
+        boolean isEmpty() {
+            return size == 0;
+        }
+
+        void enqueue(Waiter waiter, long minPass) {
+            if (size == 0) {
+                // A class that was idle does not bank credit for the time it had no work
+                pass = Math.max(pass, minPass);
+            }
+            byClient.computeIfAbsent(waiter.clientId, k -> new ArrayDeque<>()).addLast(waiter);
+            size++;
+        }
+
+        Waiter dequeue() {
+            Iterator<Map.Entry<String, Deque<Waiter>>> clients = byClient.entrySet().iterator();
+            Map.Entry<String, Deque<Waiter>> first = clients.next();
+            Waiter waiter = first.getValue().pollFirst();
+            clients.remove();
+            if (!first.getValue().isEmpty()) {
+                // Move the client to the back of the rotation
+                byClient.put(first.getKey(), first.getValue());
+            }
+            size--;
+            return waiter;
+        }
+
+        boolean remove(Waiter waiter) {
+            Deque<Waiter> waiters = byClient.get(waiter.clientId);
+            if (waiters == null || !waiters.remove(waiter)) {
+                return false;
+            }
+            if (waiters.isEmpty()) {
+                byClient.remove(waiter.clientId);
+            }
+            size--;
+            return true;
+        }
+    }
+}
@@ -0,0 +1,58 @@
+package com.certverify.verification.ratelimit;
+
+import com.certverify.verification.util.ClientIdentity;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Interactive rate limit: one permit per verification request, per client.
+ * Bulk endpoints are skipped here and charge one bulk permit per certificate instead.
+ */
+@Component
+@RequiredArgsConstructor
+public class RateLimitFilter extends OncePerRequestFilter {
+
+    private final ClientRateLimiter rateLimiter;
+    private final ClientIdentity clientIdentity;
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        String path = request.getRequestURI();
+        return !path.startsWith("/api/verify") || path.contains("/bulk") || "OPTIONS".equals(request.getMethod());
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+            throws ServletException, IOException {
+
+        long wait = rateLimiter.tryAcquire(clientIdentity.resolve(request), WorkClass.INTERACTIVE, 1);
+        if (wait == 0) {
+            chain.doFilter(request, response);
+            return;
+        }
+
+        long retryAfter = retryAfterSeconds(wait);
+        response.setStatus(HttpStatus.TOO_MANY_REQUESTS.value());
+        response.setHeader(HttpHeaders.RETRY_AFTER, Long.toString(retryAfter));
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        response.getOutputStream().write(
+                ("{\"success\":false,\"message\":\"Rate limit exceeded, retry after " + retryAfter + " s\"}")
+                        .getBytes(StandardCharsets.UTF_8));
+    }
+
+    public static long retryAfterSeconds(long waitNanos) {
+        return Math.max(1, (waitNanos + TimeUnit.SECONDS.toNanos(1) - 1) / TimeUnit.SECONDS.toNanos(1));
+    }
+}
@@ -0,0 +1,60 @@
+package com.certverify.verification.ratelimit;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Lock-free token bucket, implemented as GCRA: the whole state is one "theoretical
+ * arrival time", updated with a CAS. A bucket whose arrival time is in the past is full.
+ */
+final class TokenBucket {
+
+    private final long intervalNanos;
+    private final long burstNanos;
+    private final AtomicLong theoreticalArrival;
+
+    /**
+     * @param ratePerSecond sustained permits per second
+     * @param burst         permits that may be taken at once from a full bucket
+     */
+    TokenBucket(double ratePerSecond, int burst, long now) {
+        this.intervalNanos = (long) (1_000_000_000L / ratePerSecond);
+        this.burstNanos = intervalNanos * Math.max(1, burst);
+        this.theoreticalArrival = new AtomicLong(now);
+    }
+
+    /**
+     * Take permits if available.
+     *
+     * @return 0 when admitted, otherwise nanoseconds until the request would be admitted
+     */
+    long tryAcquire(int permits, long now) {
+        long increment = intervalNanos * permits;
+        while (true) {
+            long tat = theoreticalArrival.get();
+            boolean full = tat <= now;
+            long next = Math.max(tat, now) + increment;
+            long wait = next - now - burstNanos;
+            // A request larger than the burst is let through from a full bucket and paid back later
+            if (wait > 0 && !full) {
+                return wait;
+            }
+            if (theoreticalArrival.compareAndSet(tat, next)) {
+                return 0;
+            }
+        }
+    }
+
+    /**
+     * Whether a single permit would be refused right now
+     */
+    boolean isLimited(long now) {
+        return theoreticalArrival.get() + intervalNanos - now > burstNanos;
+    }
+
+    /**
+     * Whether the bucket is full again, i.e. indistinguishable from a new one
+     */
+    boolean isIdle(long now) {
+        return theoreticalArrival.get() <= now;
+    }
+}
@@ -0,0 +1,14 @@
+package com.certverify.verification.ratelimit;
+
+/**
+ * Scheduling class of a verification: interactive (single lookups a person is
+ * waiting on) or bulk (batch and streamed background checks)
+ */
+public enum WorkClass {
+    INTERACTIVE,
+    BULK;
+
+    public String tag() {
+        return name().toLowerCase();
+    }
+}
@@ -0,0 +1,106 @@
+package com.certverify.verification.security;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.web.client.RestTemplateBuilder;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.web.client.RestClientException;
+import org.springframework.web.client.RestTemplate;
+
+import java.math.BigInteger;
+import java.security.GeneralSecurityException;
+import java.security.KeyFactory;
+import java.security.PublicKey;
+import java.security.spec.RSAPublicKeySpec;
+import java.time.Duration;
+import java.util.Base64;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Local copy of auth-service's token signing keys, fetched from its JWKS endpoint.
+ * Refreshed in the background, and on demand (at most once per
+ * {@code jwt.jwks.min-refresh-ms}) when a token names a kid we have not seen.
+ */
+@Component
+public class JwksKeyProvider {
+
+    private static final Logger logger = LoggerFactory.getLogger(JwksKeyProvider.class);
+
+    private final RestTemplate restTemplate;
+    private final String jwksUri;
+    private final long minRefreshMillis;
+
+    private volatile Map<String, PublicKey> keys = Map.of();
+    private volatile long lastRefresh;
+
+    public JwksKeyProvider(RestTemplateBuilder restTemplateBuilder,
+                           @Value("${jwt.jwks.uri:http://localhost:8081/api/auth/.well-known/jwks.json}") String jwksUri,
+                           @Value("${jwt.jwks.min-refresh-ms:30000}") long minRefreshMillis) {
+        this.restTemplate = restTemplateBuilder
+                .setConnectTimeout(Duration.ofSeconds(2))
+                .setReadTimeout(Duration.ofSeconds(2))
+                .build();
+        this.jwksUri = jwksUri;
+        this.minRefreshMillis = minRefreshMillis;
+    }
+
+    /**
+     * Public key for the kid, or null if auth-service does not publish it
+     */
+    public PublicKey get(String kid) {
+        PublicKey key = keys.get(kid);
+        if (key == null && refreshIfStale()) {
+            key = keys.get(kid);
+        }
+        return key;
+    }
+
+    @Scheduled(fixedDelayString = "${jwt.jwks.refresh-ms:300000}", initialDelayString = "${jwt.jwks.refresh-ms:300000}")
+    public synchronized void refresh() {
+        lastRefresh = System.currentTimeMillis();
+        try {
+            JsonNode jwks = restTemplate.getForObject(jwksUri, JsonNode.class);
+            Map<String, PublicKey> fetched = parse(jwks);
+            if (!fetched.isEmpty()) {
+                keys = Map.copyOf(fetched);
+                logger.debug("Loaded {} token signing keys from {}", fetched.size(), jwksUri);
+            }
+        } catch (RestClientException e) {
+            // Keep the keys we have; tokens signed with them still validate
+            logger.warn("Could not refresh token signing keys from {}: {}", jwksUri, e.getMessage());
+        }
+    }
+
+    private synchronized boolean refreshIfStale() {
+        if (System.currentTimeMillis() - lastRefresh < minRefreshMillis) {
+            return false;
+        }
+        refresh();
+        return true;
+    }
+
+    static Map<String, PublicKey> parse(JsonNode jwks) {
+        Map<String, PublicKey> parsed = new HashMap<>();
+        if (jwks == null || !jwks.path("keys").isArray()) {
+            return parsed;
+        }
+        for (JsonNode jwk : jwks.path("keys")) {
+            if (!"RSA".equals(jwk.path("kty").asText()) || !jwk.hasNonNull("kid")) {
+                continue;
+            }
+            try {
+                BigInteger modulus = new BigInteger(1, Base64.getUrlDecoder().decode(jwk.path("n").asText()));
+                BigInteger exponent = new BigInteger(1, Base64.getUrlDecoder().decode(jwk.path("e").asText()));
+                parsed.put(jwk.get("kid").asText(),
+                        KeyFactory.getInstance("RSA").generatePublic(new RSAPublicKeySpec(modulus, exponent)));
+            } catch (GeneralSecurityException | IllegalArgumentException e) {
+                logger.warn("Skipping invalid JWK {}: {}", jwk.path("kid").asText(), e.getMessage());
+            }
+        }
+        return parsed;
+    }
+}
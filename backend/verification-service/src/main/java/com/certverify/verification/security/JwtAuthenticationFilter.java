@@ -0,0 +1,88 @@
+package com.certverify.verification.security;
+
+import io.jsonwebtoken.JwtException;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Authenticates bearer tokens locally and stores the caller's principal as a request
+ * attribute. Verification endpoints stay public: an invalid token there is ignored
+ * and the caller treated as anonymous. Admin endpoints require a valid ADMIN token.
+ * Runs before the rate limiter so that authenticated callers are limited per account.
+ */
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE + 10)
+public class JwtAuthenticationFilter extends OncePerRequestFilter {
+
+    private static final Logger logger = LoggerFactory.getLogger(JwtAuthenticationFilter.class);
+    private static final String BEARER = "Bearer ";
+
+    private final JwtVerifier jwtVerifier;
+    private final boolean adminRequired;
+
+    public JwtAuthenticationFilter(JwtVerifier jwtVerifier,
+                                   @Value("${verification.auth.admin-required:true}") boolean adminRequired) {
+        this.jwtVerifier = jwtVerifier;
+        this.adminRequired = adminRequired;
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return "OPTIONS".equals(request.getMethod());
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+            throws ServletException, IOException {
+
+        JwtPrincipal principal = null;
+        String authHeader = request.getHeader(HttpHeaders.AUTHORIZATION);
+        if (authHeader != null && authHeader.startsWith(BEARER)) {
+            try {
+                principal = jwtVerifier.verify(authHeader.substring(BEARER.length()));
+                request.setAttribute(JwtPrincipal.ATTRIBUTE, principal);
+            } catch (JwtException | IllegalArgumentException e) {
+                logger.debug("Ignoring invalid bearer token: {}", e.getMessage());
+            }
+        }
+
+        // The servlet path is decoded and normalized, unlike the raw URI ("/api/%61dmin", "/api//admin")
+        if (adminRequired && isAdminPath(request.getServletPath())) {
+            if (principal == null) {
+                reject(response, HttpStatus.UNAUTHORIZED, "Authentication required");
+                return;
+            }
+            if (!principal.hasRole("ADMIN")) {
+                reject(response, HttpStatus.FORBIDDEN, "Admin role required");
+                return;
+            }
+        }
+        chain.doFilter(request, response);
+    }
+
+    private static boolean isAdminPath(String path) {
+        return path.equals("/api/admin") || path.startsWith("/api/admin/");
+    }
+
+    private static void reject(HttpServletResponse response, HttpStatus status, String message) throws IOException {
+        response.setStatus(status.value());
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        response.getOutputStream().write(
+                ("{\"success\":false,\"message\":\"" + message + "\"}").getBytes(StandardCharsets.UTF_8));
+    }
+}
@@ -0,0 +1,60 @@
+package com.certverify.verification.security;
+
+import java.util.Iterator;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Bounded, short-lived cache of already verified tokens, so that a client
+ * replaying the same token does not pay for signature verification on every request.
+ * An entry never outlives the token's own expiry.
+ */
+public class JwtClaimsCache {
+
+    private final Map<String, Entry> entries = new ConcurrentHashMap<>();
+    private final int maxEntries;
+    private final long ttlMillis;
+
+    public JwtClaimsCache(int maxEntries, long ttlMillis) {
+        this.maxEntries = maxEntries;
+        this.ttlMillis = ttlMillis;
+    }
+
+    public JwtPrincipal get(String token, long now) {
+        Entry entry = entries.get(token);
+        if (entry == null) {
+            return null;
+        }
+        if (entry.validUntil() <= now) {
+            entries.remove(token, entry);
+            return null;
+        }
+        return entry.principal();
+    }
+
+    public void put(String token, JwtPrincipal principal, long now) {
+        if (maxEntries <= 0 || ttlMillis <= 0) {
+            return;
+        }
+        long validUntil = Math.min(now + ttlMillis, principal.expiresAt().toEpochMilli());
+        if (validUntil <= now) {
+            return;
+        }
+        if (entries.size() >= maxEntries) {
+            // Bound memory: drop an arbitrary entry, it is only a shortcut around re-verification
+            Iterator<String> keys = entries.keySet().iterator();
+            if (keys.hasNext()) {
+                keys.next();
+                keys.remove();
+            }
+        }
+        entries.put(token, new Entry(principal, validUntil));
+    }
+
+    public void clear() {
+        entries.clear();
+    }
+
+    private record Entry(JwtPrincipal principal, long validUntil) {
+    }
+}
@@ -0,0 +1,28 @@
+package com.certverify.verification.security;
+
+import io.jsonwebtoken.Claims;
+
+import java.time.Instant;
+
+/**
+ * Verified claims of the caller's access token
+ */
+public record JwtPrincipal(String email, String role, Long userId, String uid, Instant expiresAt) {
+
+    /** Request attribute under which an authenticated caller's principal is stored */
+    public static final String ATTRIBUTE = JwtPrincipal.class.getName();
+
+    public static JwtPrincipal from(Claims claims) {
+        Object userId = claims.get("userId");
+        return new JwtPrincipal(
+                claims.getSubject(),
+                claims.get("role", String.class),
+                userId instanceof Number number ? number.longValue() : null,
+                claims.get("uid", String.class),
+                claims.getExpiration().toInstant());
+    }
+
+    public boolean hasRole(String expected) {
+        return expected.equalsIgnoreCase(role);
+    }
+}
@@ -0,0 +1,71 @@
+package com.certverify.verification.security;
+
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwsHeader;
+import io.jsonwebtoken.JwtException;
+import io.jsonwebtoken.JwtParser;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.SigningKeyResolverAdapter;
+import io.jsonwebtoken.UnsupportedJwtException;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.security.Key;
+
+/**
+ * Validates access tokens locally against auth-service's published signing keys,
+ * selecting the key by the token's kid. Only RS256 tokens are accepted: this
+ * service never held the old shared secret.
+ */
+@Component
+public class JwtVerifier {
+
+    private final JwksKeyProvider keyProvider;
+    private final JwtParser parser;
+    private final JwtClaimsCache claimsCache;
+
+    public JwtVerifier(JwksKeyProvider keyProvider,
+                       @Value("${jwt.cache.max-entries:10000}") int cacheMaxEntries,
+                       @Value("${jwt.cache.ttl-ms:60000}") long cacheTtlMillis) {
+        this.keyProvider = keyProvider;
+        this.parser = Jwts.parserBuilder()
+                .setSigningKeyResolver(new SigningKeyResolverAdapter() {
+                    @Override
+                    public Key resolveSigningKey(JwsHeader header, Claims claims) {
+                        return verificationKey(header);
+                    }
+                })
+                .build();
+        this.claimsCache = new JwtClaimsCache(cacheMaxEntries, cacheTtlMillis);
+    }
+
+    /**
+     * @throws JwtException if the token is malformed, tampered with, expired, signed with an unknown key or a refresh token
+     */
+    public JwtPrincipal verify(String token) {
+        long now = System.currentTimeMillis();
+        JwtPrincipal cached = claimsCache.get(token, now);
+        if (cached != null) {
+            return cached;
+        }
+        Claims claims = parser.parseClaimsJws(token).getBody();
+        if ("refresh".equals(claims.get("typ"))) {
+            throw new UnsupportedJwtException("Refresh tokens cannot authenticate requests");
+        }
+        JwtPrincipal principal = JwtPrincipal.from(claims);
+        claimsCache.put(token, principal, now);
+        return principal;
+    }
+
+    private Key verificationKey(JwsHeader header) {
+        if (!"RS256".equals(header.getAlgorithm())) {
+            throw new UnsupportedJwtException("Unsupported token algorithm: " + header.getAlgorithm());
+        }
+        String kid = header.getKeyId();
+        Key key = kid != null ? keyProvider.get(kid) : null;
+        if (key == null) {
+            throw new JwtException("Unknown signing key: " + kid);
+        }
+        return key;
+    }
+}
@@ -3,8 +3,12 @@ package com.certverify.verification.service;
 import org.springframework.cloud.openfeign.FeignClient;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RequestParam;
+import com.certverify.verification.dto.CertificateChange;
 import com.certverify.verification.model.Certificate;
 
+import java.util.List;
 import java.util.Map;
 
 @FeignClient(name = "certificate-service", url = "${services.certificate.url}")
@@ -14,4 +18,12 @@ public interface CertificateServiceClient {
     Certificate getCertificateByCertificateNumber(
             @PathVariable("certificateNumber") String certificateNumber
     );
-}
\ No newline at end of file
+
+    @GetMapping("/api/certificates/changes")
+    List<CertificateChange> getChanges(
+            @RequestParam("since") String since,
+            @RequestParam(value = "after", required = false) String after,
+            @RequestParam("limit") int limit,
+            @RequestHeader("X-Service-Token") String serviceToken
+    );
+}
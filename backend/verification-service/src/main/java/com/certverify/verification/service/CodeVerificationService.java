@@ -0,0 +1,84 @@
+package com.certverify.verification.service;
+
+import com.certverify.verification.model.Certificate;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.util.Iterator;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Verify-by-code fast path for printed QR codes.
+ * Answers from {@link VerificationCodeIndex}; only certificates issued since the last
+ * index sync fall back to a Certificate Service lookup. A number that lookup did not find
+ * is remembered for miss-ttl-ms, so guessing unknown numbers does not turn into one
+ * Certificate Service call per request; the index sync still picks up new certificates.
+ */
+@Service
+public class CodeVerificationService {
+
+    private final VerificationCodeIndex codeIndex;
+    private final ResilientCertificateClient certificateClient;
+    private final long missTtlMillis;
+    private final int maxMisses;
+    // certificateNumber -> time the remembered miss expires
+    private final Map<String, Long> recentMisses = new ConcurrentHashMap<>();
+
+    public CodeVerificationService(VerificationCodeIndex codeIndex,
+                                   ResilientCertificateClient certificateClient,
+                                   MeterRegistry meterRegistry,
+                                   @Value("${verification.code-index.miss-ttl-ms:5000}") long missTtlMillis,
+                                   @Value("${verification.code-index.miss-max-entries:100000}") int maxMisses) {
+        this.codeIndex = codeIndex;
+        this.certificateClient = certificateClient;
+        this.missTtlMillis = missTtlMillis;
+        this.maxMisses = maxMisses;
+        meterRegistry.gaugeMapSize("verification.code.index.recent.misses", Tags.empty(), recentMisses);
+    }
+
+    /**
+     * @return the matching entry, or null when the number is unknown or the code does not match
+     * @throws io.github.resilience4j.circuitbreaker.CallNotPermittedException on a miss while
+     *         Certificate Service is unavailable
+     */
+    public VerificationCodeIndex.Entry verify(String certificateNumber, String verificationCode) {
+        VerificationCodeIndex.Entry entry = codeIndex.get(certificateNumber);
+        if (entry == null) {
+            entry = lookup(certificateNumber);
+        }
+        // Unknown number and wrong code look the same to the caller
+        return entry != null && entry.matches(verificationCode) ? entry : null;
+    }
+
+    private VerificationCodeIndex.Entry lookup(String certificateNumber) {
+        long now = System.currentTimeMillis();
+        Long missExpiresAt = recentMisses.get(certificateNumber);
+        if (missExpiresAt != null) {
+            if (missExpiresAt > now) {
+                return null;
+            }
+            recentMisses.remove(certificateNumber, missExpiresAt);
+        }
+        Certificate certificate = certificateClient.getCertificate(certificateNumber);
+        if (certificate == null) {
+            rememberMiss(certificateNumber, now);
+            return null;
+        }
+        return codeIndex.put(certificate);
+    }
+
+    private void rememberMiss(String certificateNumber, long now) {
+        if (recentMisses.size() >= maxMisses) {
+            // Arbitrary victim: the worst case is one extra lookup for it
+            Iterator<String> numbers = recentMisses.keySet().iterator();
+            if (numbers.hasNext()) {
+                numbers.next();
+                numbers.remove();
+            }
+        }
+        recentMisses.put(certificateNumber, now + missTtlMillis);
+    }
+}
@@ -0,0 +1,83 @@
+package com.certverify.verification.service;
+
+import com.google.zxing.BarcodeFormat;
+import com.google.zxing.EncodeHintType;
+import com.google.zxing.WriterException;
+import com.google.zxing.client.j2se.MatrixToImageWriter;
+import com.google.zxing.common.BitMatrix;
+import com.google.zxing.qrcode.QRCodeWriter;
+import com.google.zxing.qrcode.decoder.ErrorCorrectionLevel;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Renders the QR code printed on a certificate. The image only depends on the
+ * certificate number and verification code, so rendered PNGs are kept in a
+ * bounded LRU cache per certificate.
+ */
+@Service
+public class QrCodeService {
+
+    private final String verifyBaseUrl;
+    private final int size;
+    private final Map<String, byte[]> cache;
+
+    private final Counter cacheHits;
+    private final Counter rendered;
+
+    public QrCodeService(@Value("${verification.qr.base-url:http://localhost:8080}") String verifyBaseUrl,
+                         @Value("${verification.qr.size:256}") int size,
+                         @Value("${verification.qr.cache-size:10000}") int cacheSize,
+                         MeterRegistry meterRegistry) {
+        this.verifyBaseUrl = verifyBaseUrl.endsWith("/")
+                ? verifyBaseUrl.substring(0, verifyBaseUrl.length() - 1)
+                : verifyBaseUrl;
+        this.size = size;
+        this.cache = Collections.synchronizedMap(new LinkedHashMap<>(256, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, byte[]> eldest) {
+                return size() > cacheSize;
+            }
+        });
+        this.cacheHits = Counter.builder("verification.qr.images").tag("source", "cache").register(meterRegistry);
+        this.rendered = Counter.builder("verification.qr.images").tag("source", "rendered").register(meterRegistry);
+    }
+
+    /**
+     * PNG QR code linking to the verify-by-code endpoint for this certificate
+     */
+    public byte[] png(String certificateNumber, String verificationCode) {
+        byte[] image = cache.get(certificateNumber);
+        if (image != null) {
+            cacheHits.increment();
+            return image;
+        }
+        image = render(verifyBaseUrl + "/verify/code/" + certificateNumber + "/" + verificationCode);
+        rendered.increment();
+        cache.put(certificateNumber, image);
+        return image;
+    }
+
+    private byte[] render(String content) {
+        try {
+            BitMatrix matrix = new QRCodeWriter().encode(content, BarcodeFormat.QR_CODE, size, size,
+                    Map.of(EncodeHintType.ERROR_CORRECTION, ErrorCorrectionLevel.M, EncodeHintType.MARGIN, 1));
+            ByteArrayOutputStream out = new ByteArrayOutputStream();
+            MatrixToImageWriter.writeToStream(matrix, "PNG", out);
+            return out.toByteArray();
+        } catch (WriterException e) {
+            throw new IllegalArgumentException("Cannot encode QR content", e);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
@@ -0,0 +1,99 @@
+package com.certverify.verification.service;
+
+import com.certverify.verification.model.Certificate;
+import io.github.resilience4j.circuitbreaker.CallNotPermittedException;
+import io.github.resilience4j.circuitbreaker.CircuitBreaker;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Service;
+import org.springframework.web.reactive.function.client.WebClient;
+import org.springframework.web.reactive.function.client.WebClientResponseException;
+import reactor.core.publisher.Mono;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Non-blocking Certificate Service lookups for the reactive verification mode.
+ * Shares the circuit breaker of {@link ResilientCertificateClient} and records
+ * to the same call metrics, so dashboards do not depend on the mode.
+ */
+@Service
+@ConditionalOnProperty(name = "verification.mode", havingValue = "reactive")
+public class ReactiveCertificateClient {
+
+    private final WebClient certificateWebClient;
+    private final CircuitBreaker circuitBreaker;
+    private final Timer latency;
+
+    private final Counter success;
+    private final Counter notFound;
+    private final Counter error;
+    private final Counter rejected;
+
+    public ReactiveCertificateClient(WebClient certificateWebClient,
+                                     ResilientCertificateClient resilientCertificateClient,
+                                     MeterRegistry meterRegistry) {
+        this.certificateWebClient = certificateWebClient;
+        this.circuitBreaker = resilientCertificateClient.circuitBreaker();
+        this.latency = Timer.builder("verification.certificate.client.latency")
+                .publishPercentiles(0.95)
+                .register(meterRegistry);
+        this.success = outcome(meterRegistry, "success");
+        this.notFound = outcome(meterRegistry, "not_found");
+        this.error = outcome(meterRegistry, "error");
+        this.rejected = outcome(meterRegistry, "circuit_open");
+    }
+
+    /**
+     * Fetch a certificate by number.
+     *
+     * @return the certificate, empty when Certificate Service does not know it, or an
+     * error signal with CallNotPermittedException while the circuit breaker is open
+     */
+    public Mono<Certificate> getCertificate(String certificateNumber) {
+        return Mono.defer(() -> {
+            if (!circuitBreaker.tryAcquirePermission()) {
+                rejected.increment();
+                return Mono.error(CallNotPermittedException.createCallNotPermittedException(circuitBreaker));
+            }
+            long start = System.nanoTime();
+            return certificateWebClient.get()
+                    .uri("/api/certificates/{certificateNumber}", certificateNumber)
+                    .retrieve()
+                    .bodyToMono(Certificate.class)
+                    .doOnSuccess(certificate -> {
+                        long elapsed = System.nanoTime() - start;
+                        circuitBreaker.onSuccess(elapsed, TimeUnit.NANOSECONDS);
+                        latency.record(elapsed, TimeUnit.NANOSECONDS);
+                        success.increment();
+                    })
+                    .onErrorResume(WebClientResponseException.class, e -> {
+                        if (e.getStatusCode() != HttpStatus.NOT_FOUND) {
+                            return Mono.error(e);
+                        }
+                        // A missing certificate is a valid answer, not a sign of an unhealthy service
+                        long elapsed = System.nanoTime() - start;
+                        circuitBreaker.onSuccess(elapsed, TimeUnit.NANOSECONDS);
+                        latency.record(elapsed, TimeUnit.NANOSECONDS);
+                        notFound.increment();
+                        return Mono.empty();
+                    })
+                    .doOnError(e -> {
+                        long elapsed = System.nanoTime() - start;
+                        circuitBreaker.onError(elapsed, TimeUnit.NANOSECONDS, e);
+                        latency.record(elapsed, TimeUnit.NANOSECONDS);
+                        error.increment();
+                    })
+                    .doOnCancel(circuitBreaker::releasePermission);
+        });
+    }
+
+    private static Counter outcome(MeterRegistry meterRegistry, String outcome) {
+        return Counter.builder("verification.certificate.client.calls")
+                .tag("outcome", outcome)
+                .register(meterRegistry);
+    }
+}
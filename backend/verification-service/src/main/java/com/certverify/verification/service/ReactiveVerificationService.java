@@ -0,0 +1,47 @@
+package com.certverify.verification.service;
+
+import com.certverify.verification.model.VerificationResult;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.List;
+
+/**
+ * Reactive counterpart of the certificate-number verification in {@link VerificationService}.
+ * The lookup is non-blocking; the verification rules themselves are shared.
+ */
+@Service
+@ConditionalOnProperty(name = "verification.mode", havingValue = "reactive")
+public class ReactiveVerificationService {
+
+    private final ReactiveCertificateClient certificateClient;
+    private final VerificationService verificationService;
+    private final int bulkConcurrency;
+
+    public ReactiveVerificationService(ReactiveCertificateClient certificateClient,
+                                       VerificationService verificationService,
+                                       @Value("${verification.reactive.bulk-concurrency:64}") int bulkConcurrency) {
+        this.certificateClient = certificateClient;
+        this.verificationService = verificationService;
+        this.bulkConcurrency = bulkConcurrency;
+    }
+
+    public Mono<VerificationResult> verifyByCertificateNumber(String certificateNumber) {
+        return certificateClient.getCertificate(certificateNumber)
+                .map(verificationService::evaluate)
+                .switchIfEmpty(Mono.fromSupplier(() -> verificationService.evaluate(null)))
+                .onErrorResume(e -> Mono.just(verificationService.failureResult(certificateNumber, e)));
+    }
+
+    /**
+     * Verify many certificates with at most bulk-concurrency lookups in flight,
+     * emitting results in request order
+     */
+    public Flux<VerificationResult> verifyAll(List<String> certificateNumbers) {
+        return Flux.fromIterable(certificateNumbers)
+                .flatMapSequential(this::verifyByCertificateNumber, bulkConcurrency);
+    }
+}
@@ -0,0 +1,222 @@
+package com.certverify.verification.service;
+
+import com.certverify.verification.model.Certificate;
+import feign.FeignException;
+import io.github.resilience4j.circuitbreaker.CallNotPermittedException;
+import io.github.resilience4j.circuitbreaker.CircuitBreaker;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerConfig;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerRegistry;
+import io.github.resilience4j.micrometer.tagged.TaggedCircuitBreakerMetrics;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.distribution.ValueAtPercentile;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * Certificate Service access for the verify path.
+ * Wraps the Feign client with a circuit breaker that fails fast while Certificate
+ * Service is unhealthy, optional hedged requests once the observed p95 latency is
+ * exceeded, and per-outcome call metrics.
+ */
+@Service
+public class ResilientCertificateClient {
+
+    private static final Logger logger = LoggerFactory.getLogger(ResilientCertificateClient.class);
+    private static final String METRIC_CALLS = "verification.certificate.client.calls";
+
+    private final CertificateServiceClient certificateClient;
+    private final ExecutorService certificateClientExecutor;
+    private final CircuitBreaker circuitBreaker;
+    private final Timer latency;
+
+    private final Counter success;
+    private final Counter notFound;
+    private final Counter error;
+    private final Counter rejected;
+    private final Counter hedged;
+
+    private final boolean hedgingEnabled;
+    private final long minHedgeDelayNanos;
+    private volatile long hedgeDelayNanos;
+    private final long hedgeTimeoutMillis;
+
+    public ResilientCertificateClient(
+            CertificateServiceClient certificateClient,
+            ExecutorService certificateClientExecutor,
+            MeterRegistry meterRegistry,
+            @Value("${verification.certificate-client.circuit-breaker.failure-rate-threshold:50}") float failureRateThreshold,
+            @Value("${verification.certificate-client.circuit-breaker.slow-call-ms:2000}") long slowCallMs,
+            @Value("${verification.certificate-client.circuit-breaker.window-size:50}") int windowSize,
+            @Value("${verification.certificate-client.circuit-breaker.open-ms:10000}") long openMs,
+            @Value("${verification.certificate-client.hedging.enabled:false}") boolean hedgingEnabled,
+            @Value("${verification.certificate-client.hedging.min-delay-ms:50}") long minHedgeDelayMs,
+            @Value("${verification.certificate-client.hedging.timeout-ms:5000}") long hedgeTimeoutMs) {
+
+        this.certificateClient = certificateClient;
+        this.certificateClientExecutor = certificateClientExecutor;
+        this.hedgingEnabled = hedgingEnabled;
+        this.minHedgeDelayNanos = TimeUnit.MILLISECONDS.toNanos(minHedgeDelayMs);
+        this.hedgeDelayNanos = minHedgeDelayNanos;
+        this.hedgeTimeoutMillis = hedgeTimeoutMs;
+
+        CircuitBreakerConfig config = CircuitBreakerConfig.custom()
+                .failureRateThreshold(failureRateThreshold)
+                .slowCallRateThreshold(failureRateThreshold)
+                .slowCallDurationThreshold(Duration.ofMillis(slowCallMs))
+                .slidingWindowSize(windowSize)
+                .minimumNumberOfCalls(Math.min(10, windowSize))
+                .waitDurationInOpenState(Duration.ofMillis(openMs))
+                // A missing certificate is a valid answer, not a sign of an unhealthy service
+                .ignoreExceptions(FeignException.NotFound.class)
+                .build();
+        CircuitBreakerRegistry registry = CircuitBreakerRegistry.of(config);
+        this.circuitBreaker = registry.circuitBreaker("certificate-service");
+        TaggedCircuitBreakerMetrics.ofCircuitBreakerRegistry(registry).bindTo(meterRegistry);
+
+        this.latency = Timer.builder("verification.certificate.client.latency")
+                .publishPercentiles(0.95)
+                .register(meterRegistry);
+        this.success = outcome(meterRegistry, "success");
+        this.notFound = outcome(meterRegistry, "not_found");
+        this.error = outcome(meterRegistry, "error");
+        this.rejected = outcome(meterRegistry, "circuit_open");
+        this.hedged = outcome(meterRegistry, "hedged");
+    }
+
+    /**
+     * Fetch a certificate by number.
+     *
+     * @return the certificate, or null when Certificate Service does not know it
+     * @throws CallNotPermittedException while the circuit breaker is open
+     */
+    public Certificate getCertificate(String certificateNumber) {
+        long start = System.nanoTime();
+        try {
+            Certificate certificate = circuitBreaker.executeSupplier(() -> fetch(certificateNumber));
+            success.increment();
+            return certificate;
+        } catch (FeignException.NotFound e) {
+            notFound.increment();
+            return null;
+        } catch (CallNotPermittedException e) {
+            rejected.increment();
+            throw e;
+        } catch (RuntimeException e) {
+            error.increment();
+            throw e;
+        } finally {
+            latency.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+        }
+    }
+
+    /**
+     * Breaker shared with ReactiveCertificateClient, so both modes see the same health state
+     */
+    CircuitBreaker circuitBreaker() {
+        return circuitBreaker;
+    }
+
+    /**
+     * Recompute the hedge delay from the recent p95 latency
+     */
+    @Scheduled(fixedDelayString = "${verification.certificate-client.hedging.recompute-ms:5000}")
+    public void updateHedgeDelay() {
+        if (!hedgingEnabled) {
+            return;
+        }
+        for (ValueAtPercentile percentile : latency.takeSnapshot().percentileValues()) {
+            if (percentile.percentile() == 0.95) {
+                long p95 = (long) percentile.value(TimeUnit.NANOSECONDS);
+                hedgeDelayNanos = Math.max(minHedgeDelayNanos, p95);
+            }
+        }
+    }
+
+    private Certificate fetch(String certificateNumber) {
+        if (!hedgingEnabled) {
+            return certificateClient.getCertificateByCertificateNumber(certificateNumber);
+        }
+
+        CompletableFuture<Certificate> primary = CompletableFuture.supplyAsync(
+                () -> certificateClient.getCertificateByCertificateNumber(certificateNumber), certificateClientExecutor);
+        try {
+            return primary.get(hedgeDelayNanos, TimeUnit.NANOSECONDS);
+        } catch (TimeoutException slow) {
+            // The primary is slower than p95: race it against a second request and take whichever
+            // answers first. This helps with a stalled request or connection, not a slow instance:
+            // the backup goes to the same URL, usually over an idle pooled connection.
+            hedged.increment();
+            logger.debug("Hedging certificate lookup for {}", certificateNumber);
+            CompletableFuture<Certificate> backup = CompletableFuture.supplyAsync(
+                    () -> certificateClient.getCertificateByCertificateNumber(certificateNumber), certificateClientExecutor);
+            return firstSuccessful(primary, backup);
+        } catch (ExecutionException e) {
+            throw unwrap(e.getCause());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while fetching certificate", e);
+        }
+    }
+
+    private Certificate firstSuccessful(CompletableFuture<Certificate> primary, CompletableFuture<Certificate> backup) {
+        CompletableFuture<Certificate> winner = new CompletableFuture<>();
+        for (CompletableFuture<Certificate> call : List.of(primary, backup)) {
+            call.whenComplete((certificate, failure) -> {
+                if (failure == null) {
+                    winner.complete(certificate);
+                } else if (unwrap(failure) instanceof FeignException.NotFound) {
+                    // A 404 is a definitive answer, no need to wait for the other call
+                    winner.completeExceptionally(failure);
+                }
+            });
+        }
+        // Once both have finished, fail if neither won (no-op when one already did)
+        CompletableFuture.allOf(primary, backup).whenComplete((ignored, failure) -> {
+            if (failure != null) {
+                winner.completeExceptionally(failure);
+            }
+        });
+        try {
+            return winner.get(hedgeTimeoutMillis, TimeUnit.MILLISECONDS);
+        } catch (ExecutionException e) {
+            throw unwrap(e.getCause());
+        } catch (TimeoutException e) {
+            throw new IllegalStateException("Certificate lookup timed out after hedging", e);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while fetching certificate", e);
+        } finally {
+            primary.cancel(false);
+            backup.cancel(false);
+        }
+    }
+
+    private RuntimeException unwrap(Throwable cause) {
+        while (cause instanceof CompletionException && cause.getCause() != null) {
+            cause = cause.getCause();
+        }
+        return cause instanceof RuntimeException runtime
+                ? runtime
+                : new IllegalStateException("Failed to fetch certificate", cause);
+    }
+
+    private static Counter outcome(MeterRegistry meterRegistry, String outcome) {
+        return Counter.builder(METRIC_CALLS)
+                .tag("outcome", outcome)
+                .register(meterRegistry);
+    }
+}
@@ -0,0 +1,174 @@
+package com.certverify.verification.service;
+
+import com.certverify.verification.dto.BulkVerificationItem;
+import com.certverify.verification.model.VerificationEvent;
+import com.certverify.verification.model.VerificationResult;
+import com.certverify.verification.ratelimit.ClientRateLimiter;
+import com.certverify.verification.ratelimit.WorkClass;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Service;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Streams bulk verification: certificate numbers are read one line at a time,
+ * verified with a bounded number in flight, and written back in input order
+ * as soon as each one completes. Memory is bounded by the window size, not by
+ * the size of the batch.
+ */
+@Service
+public class StreamingVerificationService {
+
+    private static final Logger logger = LoggerFactory.getLogger(StreamingVerificationService.class);
+    private static final byte NEWLINE = '\n';
+
+    private final VerificationService verificationService;
+    private final ObjectMapper objectMapper;
+    private final ExecutorService bulkVerificationExecutor;
+    private final ApplicationEventPublisher eventPublisher;
+    private final ClientRateLimiter rateLimiter;
+    private final int window;
+    private final long maxPaceMillis;
+
+    public StreamingVerificationService(VerificationService verificationService,
+                                        ObjectMapper objectMapper,
+                                        ExecutorService bulkVerificationExecutor,
+                                        ApplicationEventPublisher eventPublisher,
+                                        ClientRateLimiter rateLimiter,
+                                        @Value("${verification.bulk.window:64}") int window,
+                                        @Value("${verification.rate-limit.bulk.max-pace-ms:30000}") long maxPaceMillis) {
+        this.verificationService = verificationService;
+        this.objectMapper = objectMapper;
+        this.bulkVerificationExecutor = bulkVerificationExecutor;
+        this.eventPublisher = eventPublisher;
+        this.rateLimiter = rateLimiter;
+        this.window = window;
+        this.maxPaceMillis = maxPaceMillis;
+    }
+
+    /**
+     * Verify every certificate number in the input and write one NDJSON line per result
+     *
+     * @param reader   NDJSON ({"certificateNumber": "..."} or "...") or CSV (number in first column)
+     * @param csv      whether the input is CSV rather than NDJSON
+     * @param clientId caller identity recorded with each verification
+     * @return number of certificates processed
+     */
+    public long verifyStream(BufferedReader reader, OutputStream out, boolean csv, String clientId) throws IOException {
+        Deque<CompletableFuture<BulkVerificationItem>> inFlight = new ArrayDeque<>(window);
+        long processed = 0;
+        long lineNumber = 0;
+        String line;
+
+        while ((line = reader.readLine()) != null) {
+            lineNumber++;
+            String certificateNumber;
+            try {
+                certificateNumber = csv ? parseCsvLine(line, lineNumber) : parseJsonLine(line);
+            } catch (IOException e) {
+                certificateNumber = null;
+                inFlight.addLast(CompletableFuture.completedFuture(
+                        BulkVerificationItem.builder()
+                                .valid(false)
+                                .reason("Line " + lineNumber + " could not be parsed")
+                                .build()));
+            }
+
+            if (certificateNumber != null) {
+                // Over the client's bulk rate the stream is slowed down rather than rejected
+                if (pace(clientId)) {
+                    inFlight.addLast(submit(certificateNumber, clientId));
+                } else {
+                    inFlight.addLast(CompletableFuture.completedFuture(
+                            BulkVerificationItem.error(certificateNumber, "bulk rate limit exceeded")));
+                }
+            }
+
+            // Drain whatever has already completed, and block only when the window is full
+            boolean wrote = false;
+            while (!inFlight.isEmpty() && (inFlight.size() >= window || inFlight.peekFirst().isDone())) {
+                write(inFlight.pollFirst().join(), out);
+                processed++;
+                wrote = true;
+            }
+            // Push completed lines to the client while the next results are still pending
+            if (wrote) {
+                out.flush();
+            }
+        }
+
+        while (!inFlight.isEmpty()) {
+            write(inFlight.pollFirst().join(), out);
+            processed++;
+        }
+        out.flush();
+
+        logger.info("Streamed bulk verification completed for {} certificates", processed);
+        return processed;
+    }
+
+    private CompletableFuture<BulkVerificationItem> submit(String certificateNumber, String clientId) {
+        return CompletableFuture
+                .supplyAsync(() -> {
+                    VerificationResult result = verificationService.verifyByCertificateNumber(
+                            certificateNumber, WorkClass.BULK, clientId);
+                    eventPublisher.publishEvent(VerificationEvent.of(clientId, certificateNumber, result));
+                    return BulkVerificationItem.from(certificateNumber, result);
+                }, bulkVerificationExecutor)
+                .exceptionally(e -> BulkVerificationItem.error(certificateNumber, e.getMessage()));
+    }
+
+    private boolean pace(String clientId) throws IOException {
+        try {
+            return rateLimiter.acquire(clientId, WorkClass.BULK, 1, maxPaceMillis, TimeUnit.MILLISECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IOException("Interrupted while pacing bulk stream", e);
+        }
+    }
+
+    private void write(BulkVerificationItem item, OutputStream out) throws IOException {
+        out.write(objectMapper.writeValueAsBytes(item));
+        out.write(NEWLINE);
+    }
+
+    private String parseJsonLine(String line) throws IOException {
+        if (line.isBlank()) {
+            return null;
+        }
+        JsonNode node = objectMapper.readTree(line);
+        if (node.isTextual()) {
+            return node.asText();
+        }
+        JsonNode number = node.get("certificateNumber");
+        if (number == null || number.asText().isBlank()) {
+            throw new IOException("Missing certificateNumber");
+        }
+        return number.asText();
+    }
+
+    private String parseCsvLine(String line, long lineNumber) {
+        int comma = line.indexOf(',');
+        String value = (comma >= 0 ? line.substring(0, comma) : line).trim();
+        if (value.startsWith("\"") && value.endsWith("\"") && value.length() >= 2) {
+            value = value.substring(1, value.length() - 1);
+        }
+        // Skip blank lines and an optional header row
+        if (value.isEmpty() || (lineNumber == 1 && "certificateNumber".equalsIgnoreCase(value))) {
+            return null;
+        }
+        return value;
+    }
+}
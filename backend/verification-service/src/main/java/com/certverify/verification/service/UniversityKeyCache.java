@@ -0,0 +1,195 @@
+package com.certverify.verification.service;
+
+import com.certverify.verification.dto.PublicKeyResponse;
+import feign.FeignException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.Timer;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.security.KeyFactory;
+import java.security.PublicKey;
+import java.security.spec.X509EncodedKeySpec;
+import java.util.Base64;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Local cache of university public keys used for offline signature verification.
+ * Keys are loaded on first use and refreshed in the background, so the verify
+ * path never waits on university-service once a key is cached. Concurrent misses
+ * for one university share a single load, made outside any map lock; a university
+ * that university-service does not know is remembered as unknown for key-miss-ttl-ms.
+ * <p>
+ * Only the signature is checked here: a certificate revoked after it was signed still
+ * carries a valid signature and its original status, so offline verification cannot see
+ * revocations. Callers that need them must verify online.
+ */
+@Service
+public class UniversityKeyCache {
+
+    private static final Logger logger = LoggerFactory.getLogger(UniversityKeyCache.class);
+
+    private final UniversityServiceClient universityClient;
+    private final Map<String, CachedKey> keys = new ConcurrentHashMap<>();
+    private final Map<String, CompletableFuture<CachedKey>> loading = new ConcurrentHashMap<>();
+    // universityId -> time the remembered miss expires
+    private final Map<String, Long> unknown = new ConcurrentHashMap<>();
+    private final long missTtlMillis;
+    private final int maxUnknown;
+
+    private final Counter refreshSuccess;
+    private final Counter refreshFailure;
+    private final Counter cacheMiss;
+    private final Timer refreshTimer;
+
+    public UniversityKeyCache(UniversityServiceClient universityClient, MeterRegistry meterRegistry,
+                              @Value("${verification.offline.key-miss-ttl-ms:60000}") long missTtlMillis,
+                              @Value("${verification.offline.key-miss-max-entries:10000}") int maxUnknown) {
+        this.universityClient = universityClient;
+        this.missTtlMillis = missTtlMillis;
+        this.maxUnknown = maxUnknown;
+        this.refreshSuccess = Counter.builder("verification.university.keys.refresh")
+                .tag("outcome", "success")
+                .register(meterRegistry);
+        this.refreshFailure = Counter.builder("verification.university.keys.refresh")
+                .tag("outcome", "failure")
+                .register(meterRegistry);
+        this.cacheMiss = Counter.builder("verification.university.keys.miss")
+                .register(meterRegistry);
+        this.refreshTimer = Timer.builder("verification.university.keys.refresh.duration")
+                .register(meterRegistry);
+        meterRegistry.gaugeMapSize("verification.university.keys.cached", Tags.empty(), keys);
+    }
+
+    /**
+     * Get the cached key for a university, loading it on a miss.
+     * Returns null when university-service does not know the university.
+     */
+    public CachedKey getKey(String universityId) {
+        CachedKey cached = keys.get(universityId);
+        if (cached != null) {
+            return cached;
+        }
+        cacheMiss.increment();
+        Long unknownUntil = unknown.get(universityId);
+        if (unknownUntil != null) {
+            if (unknownUntil > System.currentTimeMillis()) {
+                return null;
+            }
+            unknown.remove(universityId, unknownUntil);
+        }
+
+        CompletableFuture<CachedKey> mine = new CompletableFuture<>();
+        CompletableFuture<CachedKey> inFlight = loading.putIfAbsent(universityId, mine);
+        if (inFlight != null) {
+            return await(inFlight);
+        }
+        try {
+            CachedKey key = load(universityId);
+            if (key != null) {
+                keys.put(universityId, key);
+            } else {
+                rememberUnknown(universityId);
+            }
+            mine.complete(key);
+            return key;
+        } catch (RuntimeException e) {
+            mine.completeExceptionally(e);
+            throw e;
+        } finally {
+            loading.remove(universityId, mine);
+        }
+    }
+
+    private static CachedKey await(CompletableFuture<CachedKey> load) {
+        try {
+            return load.join();
+        } catch (CompletionException e) {
+            throw e.getCause() instanceof RuntimeException cause ? cause : e;
+        }
+    }
+
+    private void rememberUnknown(String universityId) {
+        if (unknown.size() >= maxUnknown) {
+            // Arbitrary victim: the worst case is one extra lookup for it
+            Iterator<String> ids = unknown.keySet().iterator();
+            if (ids.hasNext()) {
+                ids.next();
+                ids.remove();
+            }
+        }
+        unknown.put(universityId, System.currentTimeMillis() + missTtlMillis);
+    }
+
+    /**
+     * Periodically re-fetch every cached key so rotated keys are picked up
+     */
+    @Scheduled(fixedDelayString = "${verification.offline.key-refresh-ms:300000}",
+            initialDelayString = "${verification.offline.key-refresh-ms:300000}")
+    public void refreshAll() {
+        refreshTimer.record(() -> {
+            for (String universityId : keys.keySet()) {
+                try {
+                    CachedKey fresh = load(universityId);
+                    if (fresh == null) {
+                        keys.remove(universityId);
+                    } else {
+                        keys.put(universityId, fresh);
+                    }
+                } catch (Exception e) {
+                    // Keep serving the previous key until university-service recovers
+                    logger.warn("Failed to refresh public key for university {}: {}", universityId, e.getMessage());
+                }
+            }
+        });
+        logger.debug("Refreshed {} university public keys", keys.size());
+    }
+
+    private CachedKey load(String universityId) {
+        try {
+            PublicKeyResponse response = universityClient.getPublicKey(universityId);
+            if (response == null || response.getPublicKey() == null) {
+                return null;
+            }
+            CachedKey key = new CachedKey(
+                    response.getUniversityId(),
+                    response.getUniversityName(),
+                    response.getPublicKey(),
+                    decode(response.getPublicKey())
+            );
+            refreshSuccess.increment();
+            return key;
+        } catch (FeignException.NotFound e) {
+            logger.warn("University not found while loading public key: {}", universityId);
+            return null;
+        } catch (FeignException e) {
+            refreshFailure.increment();
+            throw new RuntimeException("Failed to fetch public key", e);
+        }
+    }
+
+    private PublicKey decode(String encodedKey) {
+        try {
+            String base64 = encodedKey
+                    .replace("-----BEGIN PUBLIC KEY-----", "")
+                    .replace("-----END PUBLIC KEY-----", "")
+                    .replaceAll("\\s", "");
+            byte[] der = Base64.getDecoder().decode(base64);
+            return KeyFactory.getInstance("RSA").generatePublic(new X509EncodedKeySpec(der));
+        } catch (Exception e) {
+            throw new IllegalStateException("Invalid public key format", e);
+        }
+    }
+
+    public record CachedKey(String universityId, String universityName, String encodedKey, PublicKey publicKey) {
+    }
+}
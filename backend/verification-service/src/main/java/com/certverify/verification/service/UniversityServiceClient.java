@@ -0,0 +1,13 @@
+package com.certverify.verification.service;
+
+import com.certverify.verification.dto.PublicKeyResponse;
+import org.springframework.cloud.openfeign.FeignClient;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+
+@FeignClient(name = "university-service", url = "${services.university.url}")
+public interface UniversityServiceClient {
+
+    @GetMapping("/api/universities/{universityId}/public-key")
+    PublicKeyResponse getPublicKey(@PathVariable("universityId") String universityId);
+}
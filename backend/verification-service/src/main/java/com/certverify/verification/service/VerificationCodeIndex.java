@@ -0,0 +1,174 @@
+package com.certverify.verification.service;
+
+import com.certverify.verification.dto.CertificateChange;
+import com.certverify.verification.dto.CodeVerificationResponse;
+import com.certverify.verification.model.Certificate;
+import com.certverify.verification.model.VerificationOutcome;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * In-memory certificateNumber -> (verificationCode, status) index behind the QR fast path.
+ * <p>
+ * Loaded from Certificate Service's change feed and kept current by polling it for
+ * certificates issued, updated or revoked since the last sync. Each entry carries its
+ * precomputed response, so a lookup is one hash probe and a constant-time code compare.
+ * The feed carries verification codes and is served only to callers presenting
+ * Certificate Service's service token.
+ */
+@Service
+public class VerificationCodeIndex {
+
+    private static final Logger logger = LoggerFactory.getLogger(VerificationCodeIndex.class);
+    private static final LocalDateTime EPOCH = LocalDateTime.of(1970, 1, 1, 0, 0);
+
+    private final CertificateServiceClient certificateClient;
+    private final int pageSize;
+    private final String serviceToken;
+    private final Map<String, Entry> entries = new ConcurrentHashMap<>();
+
+    private final Counter hits;
+    private final Counter misses;
+    private final Counter syncFailures;
+
+    // Keyset position in the feed, owned by the scheduler thread: updatedAt and
+    // certificateId of the last applied change, or no id before the first page
+    private LocalDateTime cursor = EPOCH;
+    private String cursorId;
+    private volatile boolean warm;
+
+    public VerificationCodeIndex(CertificateServiceClient certificateClient,
+                                 MeterRegistry meterRegistry,
+                                 @Value("${verification.code-index.page-size:1000}") int pageSize,
+                                 @Value("${verification.code-index.service-token:}") String serviceToken) {
+        this.certificateClient = certificateClient;
+        this.pageSize = pageSize;
+        this.serviceToken = serviceToken;
+        this.hits = Counter.builder("verification.code.index.lookups").tag("result", "hit").register(meterRegistry);
+        this.misses = Counter.builder("verification.code.index.lookups").tag("result", "miss").register(meterRegistry);
+        this.syncFailures = Counter.builder("verification.code.index.sync.failures").register(meterRegistry);
+        meterRegistry.gaugeMapSize("verification.code.index.size", Tags.empty(), entries);
+    }
+
+    /**
+     * Indexed entry for the certificate, or null if it has not been seen yet
+     */
+    public Entry get(String certificateNumber) {
+        Entry entry = entries.get(certificateNumber);
+        if (entry != null) {
+            hits.increment();
+        } else {
+            misses.increment();
+        }
+        return entry;
+    }
+
+    /**
+     * Index a certificate fetched outside the change feed (e.g. on a miss)
+     */
+    public Entry put(Certificate certificate) {
+        Entry entry = Entry.of(certificate.getCertificateNumber(), certificate.getVerificationCode(),
+                certificate.getUniversityId(), certificate.getStatus(), certificate.getStudentName(),
+                certificate.getCourseName(), certificate.getIssueDate());
+        entries.put(entry.certificateNumber(), entry);
+        return entry;
+    }
+
+    public boolean isWarm() {
+        return warm;
+    }
+
+    /**
+     * Apply every change since the last sync. The first run loads the full index.
+     */
+    @Scheduled(fixedDelayString = "${verification.code-index.poll-ms:2000}")
+    public void sync() {
+        int applied = 0;
+        try {
+            while (true) {
+                List<CertificateChange> page = certificateClient.getChanges(cursor.toString(), cursorId, pageSize, serviceToken);
+                for (CertificateChange change : page) {
+                    apply(change);
+                }
+                applied += page.size();
+                // The feed is ordered by (updatedAt, certificateId), so its last entry is the next cursor
+                if (!page.isEmpty()) {
+                    CertificateChange last = page.get(page.size() - 1);
+                    cursor = last.getUpdatedAt();
+                    cursorId = last.getCertificateId();
+                }
+                if (page.size() < pageSize) {
+                    break;
+                }
+            }
+            if (!warm) {
+                warm = true;
+                logger.info("Verification code index loaded with {} certificates", entries.size());
+            } else if (applied > 0) {
+                logger.debug("Applied {} certificate changes to the verification code index", applied);
+            }
+        } catch (Exception e) {
+            syncFailures.increment();
+            logger.warn("Verification code index sync failed, retrying next cycle: {}", e.getMessage());
+        }
+    }
+
+    private void apply(CertificateChange change) {
+        if (change.getCertificateNumber() == null) {
+            return;
+        }
+        Entry entry = Entry.of(change.getCertificateNumber(), change.getVerificationCode(), change.getUniversityId(),
+                change.getStatus(), change.getStudentName(), change.getCourseName(), change.getIssueDate());
+        entries.put(entry.certificateNumber(), entry);
+    }
+
+    /**
+     * Precomputed verification answer for one certificate
+     */
+    public record Entry(String certificateNumber, byte[] code, String universityId,
+                        VerificationOutcome outcome, CodeVerificationResponse response) {
+
+        static Entry of(String certificateNumber, String verificationCode, String universityId, String status,
+                        String studentName, String courseName, String issueDate) {
+            VerificationOutcome outcome = "active".equalsIgnoreCase(status) ? VerificationOutcome.VALID
+                    : "revoked".equalsIgnoreCase(status) ? VerificationOutcome.REVOKED
+                    : VerificationOutcome.INVALID;
+            CodeVerificationResponse response = CodeVerificationResponse.builder()
+                    .certificateNumber(certificateNumber)
+                    .valid(outcome == VerificationOutcome.VALID)
+                    .status(status == null ? null : status.toUpperCase(Locale.ROOT))
+                    .studentName(studentName)
+                    .courseName(courseName)
+                    .issueDate(issueDate)
+                    .build();
+            return new Entry(certificateNumber, normalize(verificationCode), universityId, outcome, response);
+        }
+
+        /**
+         * Constant-time code comparison, so response timing does not leak valid prefixes
+         */
+        public boolean matches(String verificationCode) {
+            return code.length > 0 && MessageDigest.isEqual(code, normalize(verificationCode));
+        }
+
+        private static byte[] normalize(String verificationCode) {
+            return verificationCode == null
+                    ? new byte[0]
+                    : verificationCode.trim().toLowerCase(Locale.ROOT).getBytes(StandardCharsets.UTF_8);
+        }
+    }
+}
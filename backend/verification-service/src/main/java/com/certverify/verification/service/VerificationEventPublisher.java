@@ -0,0 +1,28 @@
+package com.certverify.verification.service;
+
+import com.certverify.verification.model.VerificationEvent;
+import com.certverify.verification.model.VerificationOutcome;
+import com.certverify.verification.model.VerificationResult;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Component;
+
+/**
+ * Publishes one VerificationEvent per completed verification (audit log, statistics)
+ */
+@Component
+@RequiredArgsConstructor
+public class VerificationEventPublisher {
+
+    private final ApplicationEventPublisher eventPublisher;
+
+    public void publish(String clientId, String certificateNumber, VerificationResult result) {
+        eventPublisher.publishEvent(VerificationEvent.of(clientId, certificateNumber, result));
+    }
+
+    public void publish(String clientId, String certificateNumber, String universityId,
+                        String method, VerificationOutcome outcome) {
+        eventPublisher.publishEvent(new VerificationEvent(
+                System.currentTimeMillis(), clientId, certificateNumber, universityId, method, outcome));
+    }
+}
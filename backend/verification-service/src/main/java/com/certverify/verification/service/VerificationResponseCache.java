@@ -0,0 +1,129 @@
+package com.certverify.verification.service;
+
+import com.certverify.verification.dto.VerificationView;
+import com.certverify.verification.dto.VerificationViewResponse;
+import com.certverify.verification.model.VerificationOutcome;
+import com.certverify.verification.model.VerificationResult;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Serialized verification responses.
+ * <p>
+ * The answer for an active certificate only changes when the certificate does, so it
+ * is serialized once and the bytes (with a strong ETag) are reused for as long as the
+ * certificate's projected fields are unchanged. Other outcomes are serialized per call.
+ */
+@Service
+public class VerificationResponseCache {
+
+    private static final String VALID_MESSAGE = "Certificate verified successfully";
+    private static final String INVALID_MESSAGE = "Certificate verification failed";
+
+    private final ObjectMapper objectMapper;
+    private final int maxEntries;
+    private final Map<String, Rendered> cache = new ConcurrentHashMap<>();
+
+    private final Counter hits;
+    private final Counter misses;
+
+    public VerificationResponseCache(ObjectMapper objectMapper,
+                                     MeterRegistry meterRegistry,
+                                     @Value("${verification.response-cache.max-entries:100000}") int maxEntries) {
+        this.objectMapper = objectMapper;
+        this.maxEntries = maxEntries;
+        this.hits = Counter.builder("verification.response.cache").tag("result", "hit").register(meterRegistry);
+        this.misses = Counter.builder("verification.response.cache").tag("result", "miss").register(meterRegistry);
+        meterRegistry.gaugeMapSize("verification.response.cache.size", Tags.empty(), cache);
+    }
+
+    /**
+     * Response body for a verification result; cached and ETag'd for valid certificates
+     */
+    public Rendered render(VerificationResult result) {
+        VerificationView view = VerificationView.from(result);
+        if (result.getOutcome() != VerificationOutcome.VALID || view.getCertificate() == null) {
+            return new Rendered(view, serialize(view), null);
+        }
+
+        String certificateNumber = view.getCertificate().getCertificateNumber();
+        Rendered cached = cache.get(certificateNumber);
+        // Comparing the projection (not a timestamp) means any field change re-renders
+        if (cached != null && cached.view().equals(view)) {
+            hits.increment();
+            return cached;
+        }
+        misses.increment();
+
+        byte[] body = serialize(view);
+        Rendered fresh = new Rendered(view, body, etag(body));
+        if (cache.size() >= maxEntries && !cache.containsKey(certificateNumber)) {
+            evictOne();
+        }
+        cache.put(certificateNumber, fresh);
+        return fresh;
+    }
+
+    private byte[] serialize(VerificationView view) {
+        VerificationViewResponse response = VerificationViewResponse.builder()
+                .success(true)
+                .data(view)
+                .message(Boolean.TRUE.equals(view.getValid()) ? VALID_MESSAGE : INVALID_MESSAGE)
+                .build();
+        try {
+            return objectMapper.writeValueAsBytes(response);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Failed to serialize verification response", e);
+        }
+    }
+
+    private void evictOne() {
+        // Arbitrary victim: cheap, and hot certificates are simply re-rendered on their next hit
+        Iterator<String> keys = cache.keySet().iterator();
+        if (keys.hasNext()) {
+            keys.next();
+            keys.remove();
+        }
+    }
+
+    private static String etag(byte[] body) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(body);
+            return "\"" + Base64.getUrlEncoder().withoutPadding().encodeToString(Arrays.copyOf(digest, 12)) + "\"";
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    /**
+     * @param etag strong entity tag, or null when the response is not cacheable
+     */
+    public record Rendered(VerificationView view, byte[] body, String etag) {
+
+        public boolean matches(String ifNoneMatch) {
+            if (etag == null || ifNoneMatch == null) {
+                return false;
+            }
+            for (String candidate : ifNoneMatch.split(",")) {
+                String tag = candidate.trim();
+                if (tag.equals("*") || tag.equals(etag) || tag.equals("W/" + etag)) {
+                    return true;
+                }
+            }
+            return false;
+        }
+    }
+}
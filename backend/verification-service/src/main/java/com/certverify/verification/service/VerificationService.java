@@ -1,16 +1,30 @@
 package com.certverify.verification.service;
 
+import com.certverify.verification.dto.OfflineVerificationRequest;
 import com.certverify.verification.model.Certificate;
+import com.certverify.verification.model.University;
+import com.certverify.verification.model.VerificationOutcome;
 import com.certverify.verification.model.VerificationResult;
+import com.certverify.verification.ratelimit.LookupScheduler;
+import com.certverify.verification.ratelimit.WorkClass;
+import com.fasterxml.jackson.databind.DeserializationFeature;
 import com.fasterxml.jackson.databind.ObjectMapper;
-import feign.FeignException;
+import io.github.resilience4j.circuitbreaker.CallNotPermittedException;
 import lombok.RequiredArgsConstructor;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.stereotype.Service;
 
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.Signature;
+import java.security.SignatureException;
 import java.time.LocalDateTime;
+import java.util.Base64;
+import java.util.List;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
 
 @Service
 @RequiredArgsConstructor
@@ -18,8 +32,14 @@ public class VerificationService {
 
     private static final Logger logger = LoggerFactory.getLogger(VerificationService.class);
 
-    private final CertificateServiceClient certificateClient;
+    private static final String OFFLINE_METHOD = "offlineSignature";
+    private static final String SIGNATURE_ALGORITHM = "SHA256withRSA";
+
+    private final ResilientCertificateClient certificateClient;
     private final ObjectMapper objectMapper;
+    private final UniversityKeyCache universityKeyCache;
+    private final ExecutorService signatureVerificationExecutor;
+    private final LookupScheduler lookupScheduler;
 
     /**
      * Verify certificate by certificate number
@@ -30,31 +50,150 @@ public class VerificationService {
         try {
             // Fetch certificate
             Certificate certificate = fetchCertificateByCertificateNumber(certificateNumber);
+            return evaluate(certificate);
 
-            if (certificate == null) {
-                return buildInvalidResult("Certificate not found with provided certificate number");
+        } catch (Exception e) {
+            return failureResult(certificateNumber, e);
+        }
+    }
+
+    /**
+     * Verify certificate by certificate number, queued fairly against other clients' lookups
+     */
+    public VerificationResult verifyByCertificateNumber(String certificateNumber, WorkClass workClass, String clientId) {
+        try {
+            if (!lookupScheduler.acquire(workClass, clientId)) {
+                logger.warn("No lookup slot for {} ({}) within timeout", certificateNumber, workClass);
+                return buildErrorResult("Verification service is busy, please retry");
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return buildErrorResult("Verification was interrupted");
+        }
+        try {
+            return verifyByCertificateNumber(certificateNumber);
+        } finally {
+            lookupScheduler.release();
+        }
+    }
+
+    /**
+     * Turn a fetched certificate (or null when not found) into a verification result
+     */
+    public VerificationResult evaluate(Certificate certificate) {
+        if (certificate == null) {
+            return buildInvalidResult("Certificate not found with provided certificate number", VerificationOutcome.NOT_FOUND);
+        }
+
+        // Check certificate status
+        if (!"active".equalsIgnoreCase(certificate.getStatus())) {
+            boolean revoked = "revoked".equalsIgnoreCase(certificate.getStatus());
+            String reason = revoked
+                    ? "Certificate has been revoked. Reason: " + certificate.getRevocationReason()
+                    : "Certificate is currently suspended";
+            return buildInvalidResult(reason, certificate,
+                    revoked ? VerificationOutcome.REVOKED : VerificationOutcome.INVALID);
+        }
+
+        // Build successful result
+        return VerificationResult.builder()
+                .valid(true)
+                .certificate(certificate)
+                .verificationMethod("certificateNumber")
+                .timestamp(LocalDateTime.now())
+                .reason("Certificate is valid and active")
+                .outcome(VerificationOutcome.VALID)
+                .build();
+    }
+
+    /**
+     * Error result for a lookup that could not be completed
+     */
+    public VerificationResult failureResult(String certificateNumber, Throwable error) {
+        if (error instanceof CallNotPermittedException) {
+            logger.warn("Certificate Service circuit is open, rejecting verification of {}", certificateNumber);
+            return buildErrorResult("Certificate Service is temporarily unavailable");
+        }
+        logger.error("Verification failed: {}", error.getMessage());
+        return buildErrorResult("Verification failed due to internal error");
+    }
+
+    /**
+     * Verify a signed certificate payload against the issuing university's cached
+     * public key, without a round-trip to Certificate Service. The status is the one
+     * signed into the payload, so a later revocation is not seen.
+     */
+    public VerificationResult verifyOffline(OfflineVerificationRequest request) {
+        Certificate certificate;
+        try {
+            certificate = objectMapper.readerFor(Certificate.class)
+                    .without(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES)
+                    .readValue(request.getPayload());
+        } catch (Exception e) {
+            return buildOfflineResult(VerificationOutcome.INVALID, "Certificate payload is not valid JSON", null, null);
+        }
+
+        if (certificate.getUniversityId() == null || certificate.getUniversityId().isBlank()) {
+            return buildOfflineResult(VerificationOutcome.INVALID, "Certificate payload has no issuing university", certificate, null);
+        }
+
+        try {
+            UniversityKeyCache.CachedKey key = universityKeyCache.getKey(certificate.getUniversityId());
+            if (key == null) {
+                return buildOfflineResult(VerificationOutcome.INVALID, "Issuing university is not registered", certificate, null);
+            }
+
+            University university = new University();
+            university.setId(key.universityId());
+            university.setName(key.universityName());
+            university.setPublicKey(key.encodedKey());
+
+            if (!signatureMatches(request, key)) {
+                return buildOfflineResult(VerificationOutcome.INVALID, "Digital signature does not match the issuing university",
+                        certificate, university);
             }
 
-            // Check certificate status
             if (!"active".equalsIgnoreCase(certificate.getStatus())) {
-                String reason = "revoked".equalsIgnoreCase(certificate.getStatus())
+                boolean revoked = "revoked".equalsIgnoreCase(certificate.getStatus());
+                String reason = revoked
                         ? "Certificate has been revoked. Reason: " + certificate.getRevocationReason()
                         : "Certificate is currently suspended";
-                return buildInvalidResult(reason, certificate);
+                return buildOfflineResult(revoked ? VerificationOutcome.REVOKED : VerificationOutcome.INVALID,
+                        reason, certificate, university);
             }
 
-            // Build successful result
-            return VerificationResult.builder()
-                    .valid(true)
-                    .certificate(certificate)
-                    .verificationMethod("certificateNumber")
-                    .timestamp(LocalDateTime.now())
-                    .reason("Certificate is valid and active")
-                    .build();
+            return buildOfflineResult(VerificationOutcome.VALID, "Certificate signature is valid", certificate, university);
 
         } catch (Exception e) {
-            logger.error("Verification failed: {}", e.getMessage());
-            return buildErrorResult("Verification failed due to internal error");
+            logger.error("Offline verification failed: {}", e.getMessage());
+            return buildOfflineResult(VerificationOutcome.ERROR, "Verification failed due to internal error", certificate, null);
+        }
+    }
+
+    /**
+     * Verify many signed payloads, running the RSA checks in parallel
+     */
+    public List<VerificationResult> verifyOfflineBulk(List<OfflineVerificationRequest> requests) {
+        List<CompletableFuture<VerificationResult>> futures = requests.stream()
+                .map(request -> CompletableFuture.supplyAsync(() -> verifyOffline(request), signatureVerificationExecutor))
+                .toList();
+
+        return futures.stream()
+                .map(CompletableFuture::join)
+                .toList();
+    }
+
+    private boolean signatureMatches(OfflineVerificationRequest request, UniversityKeyCache.CachedKey key) {
+        try {
+            Signature verifier = Signature.getInstance(SIGNATURE_ALGORITHM);
+            verifier.initVerify(key.publicKey());
+            verifier.update(request.getPayload().getBytes(StandardCharsets.UTF_8));
+            return verifier.verify(Base64.getDecoder().decode(request.getSignature()));
+        } catch (IllegalArgumentException | SignatureException e) {
+            // Malformed Base64 or signature bytes are simply a mismatch
+            return false;
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException("Signature verification unavailable", e);
         }
     }
 
@@ -84,11 +223,13 @@ public class VerificationService {
 
     private Certificate fetchCertificateByCertificateNumber(String certificateNumber) {
         try {
-            Certificate certificate = certificateClient.getCertificateByCertificateNumber(certificateNumber);
+            Certificate certificate = certificateClient.getCertificate(certificateNumber);
+            if (certificate == null) {
+                logger.warn("Certificate not found: {}", certificateNumber);
+            }
             return certificate;
-        } catch (FeignException.NotFound e) {
-            logger.warn("Certificate not found: {}", certificateNumber);
-            return null;
+        } catch (CallNotPermittedException e) {
+            throw e;
         } catch (Exception e) {
             logger.error("Failed to fetch certificate: {}", e.getMessage());
             throw new RuntimeException("Failed to fetch certificate", e);
@@ -99,22 +240,37 @@ public class VerificationService {
     /**
      * Build invalid result
      */
-    private VerificationResult buildInvalidResult(String reason) {
+    private VerificationResult buildInvalidResult(String reason, VerificationOutcome outcome) {
         return VerificationResult.builder()
                 .valid(false)
                 .verificationMethod("certificateNumber")
                 .timestamp(LocalDateTime.now())
                 .reason(reason)
+                .outcome(outcome)
                 .build();
     }
 
-    private VerificationResult buildInvalidResult(String reason, Certificate certificate) {
+    private VerificationResult buildInvalidResult(String reason, Certificate certificate, VerificationOutcome outcome) {
         return VerificationResult.builder()
                 .valid(false)
                 .certificate(certificate)
                 .verificationMethod("certificateNumber")
                 .timestamp(LocalDateTime.now())
                 .reason(reason)
+                .outcome(outcome)
+                .build();
+    }
+
+    private VerificationResult buildOfflineResult(VerificationOutcome outcome, String reason,
+                                                  Certificate certificate, University university) {
+        return VerificationResult.builder()
+                .valid(outcome == VerificationOutcome.VALID)
+                .outcome(outcome)
+                .certificate(certificate)
+                .university(university)
+                .verificationMethod(OFFLINE_METHOD)
+                .timestamp(LocalDateTime.now())
+                .reason(reason)
                 .build();
     }
 
@@ -127,6 +283,7 @@ public class VerificationService {
                 .verificationMethod("certificateNumber")
                 .timestamp(LocalDateTime.now())
                 .reason(reason)
+                .outcome(VerificationOutcome.ERROR)
                 .build();
     }
 }
\ No newline at end of file
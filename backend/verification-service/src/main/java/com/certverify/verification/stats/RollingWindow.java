@@ -0,0 +1,126 @@
+package com.certverify.verification.stats;
+
+import com.certverify.verification.model.VerificationOutcome;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * Fixed ring of time buckets. Each bucket holds per-outcome counters and per-key
+ * (university / client) counters for one bucket-length interval. A slot that holds
+ * a stale bucket is replaced with a CAS, so recording never takes a lock.
+ */
+class RollingWindow {
+
+    static final int OUTCOMES = VerificationOutcome.values().length;
+    static final String OTHER_KEY = "other";
+
+    private final long bucketMillis;
+    private final int maxKeysPerBucket;
+    private final AtomicReferenceArray<Bucket> slots;
+
+    RollingWindow(long bucketMillis, int buckets, int maxKeysPerBucket) {
+        this.bucketMillis = bucketMillis;
+        this.maxKeysPerBucket = maxKeysPerBucket;
+        this.slots = new AtomicReferenceArray<>(buckets);
+    }
+
+    void record(long timestamp, VerificationOutcome outcome, String universityId, String clientId) {
+        Bucket bucket = bucketFor(timestamp / bucketMillis);
+        if (bucket == null) {
+            return;
+        }
+        int index = outcome.ordinal();
+        bucket.counts.incrementAndGet(index);
+        if (universityId != null) {
+            bucket.counter(bucket.byUniversity, universityId, maxKeysPerBucket).incrementAndGet(index);
+        }
+        if (clientId != null) {
+            bucket.counter(bucket.byClient, clientId, maxKeysPerBucket).incrementAndGet(index);
+        }
+    }
+
+    /**
+     * Bucket for the given interval, or null if a newer interval already owns the slot
+     */
+    Bucket bucketFor(long epoch) {
+        int index = slotIndex(epoch);
+        while (true) {
+            Bucket current = slots.get(index);
+            if (current != null && current.epoch == epoch) {
+                return current;
+            }
+            if (current != null && current.epoch > epoch) {
+                // Late event for an interval that has already rolled out of the window
+                return null;
+            }
+            if (slots.compareAndSet(index, current, new Bucket(epoch))) {
+                return slots.get(index);
+            }
+        }
+    }
+
+    /**
+     * Bucket for the interval if it is still in the window, without creating one
+     */
+    Bucket peek(long epoch) {
+        Bucket bucket = slots.get(slotIndex(epoch));
+        return bucket != null && bucket.epoch == epoch ? bucket : null;
+    }
+
+    /**
+     * Restore a persisted bucket, unless a newer one already occupies its slot
+     */
+    void restore(Bucket bucket) {
+        int index = slotIndex(bucket.epoch);
+        Bucket current = slots.get(index);
+        if (current == null || current.epoch < bucket.epoch) {
+            slots.compareAndSet(index, current, bucket);
+        }
+    }
+
+    long currentEpoch(long now) {
+        return now / bucketMillis;
+    }
+
+    long getBucketMillis() {
+        return bucketMillis;
+    }
+
+    int size() {
+        return slots.length();
+    }
+
+    private int slotIndex(long epoch) {
+        return (int) Math.floorMod(epoch, (long) slots.length());
+    }
+
+    static final class Bucket {
+        final long epoch;
+        final AtomicLongArray counts;
+        final Map<String, AtomicLongArray> byUniversity = new ConcurrentHashMap<>();
+        final Map<String, AtomicLongArray> byClient = new ConcurrentHashMap<>();
+
+        Bucket(long epoch) {
+            this.epoch = epoch;
+            this.counts = new AtomicLongArray(OUTCOMES);
+        }
+
+        Bucket(long epoch, long[] counts) {
+            this.epoch = epoch;
+            this.counts = new AtomicLongArray(counts.length == OUTCOMES ? counts : new long[OUTCOMES]);
+        }
+
+        AtomicLongArray counter(Map<String, AtomicLongArray> counters, String key, int maxKeys) {
+            AtomicLongArray counter = counters.get(key);
+            if (counter != null) {
+                return counter;
+            }
+            // Bound memory: once a bucket tracks maxKeys distinct keys, fold the rest into "other"
+            String effectiveKey = counters.size() >= maxKeys ? OTHER_KEY : key;
+            return counters.computeIfAbsent(effectiveKey, k -> new AtomicLongArray(OUTCOMES));
+        }
+    }
+}
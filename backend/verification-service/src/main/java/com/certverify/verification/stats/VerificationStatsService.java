@@ -0,0 +1,202 @@
+package com.certverify.verification.stats;
+
+import com.certverify.verification.dto.OutcomeCounts;
+import com.certverify.verification.dto.VerificationStats;
+import com.certverify.verification.model.VerificationEvent;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Time-bucketed verification counters behind the admin statistics endpoint.
+ * <p>
+ * Every verification increments an hourly and a daily rolling window, by outcome,
+ * university and client. Reads walk a fixed number of buckets (24 hourly, or 7/30
+ * daily), so the cost does not grow with traffic. Daily rollups are written to a
+ * local file periodically and on shutdown, and reloaded on startup.
+ */
+@Service
+public class VerificationStatsService {
+
+    private static final Logger logger = LoggerFactory.getLogger(VerificationStatsService.class);
+    private static final long HOUR = TimeUnit.HOURS.toMillis(1);
+    private static final long DAY = TimeUnit.DAYS.toMillis(1);
+
+    private final ObjectMapper objectMapper;
+    private final Path rollupFile;
+    private final int topN;
+    private final RollingWindow hourly;
+    private final RollingWindow daily;
+
+    public VerificationStatsService(ObjectMapper objectMapper,
+                                    @Value("${verification.stats.file:./stats/daily-rollups.json}") String rollupFile,
+                                    @Value("${verification.stats.max-keys-per-bucket:5000}") int maxKeys,
+                                    @Value("${verification.stats.top:10}") int topN) {
+        this.objectMapper = objectMapper;
+        this.rollupFile = Paths.get(rollupFile);
+        this.topN = topN;
+        this.hourly = new RollingWindow(HOUR, 48, maxKeys);
+        this.daily = new RollingWindow(DAY, 62, maxKeys);
+    }
+
+    @EventListener
+    public void onVerification(VerificationEvent event) {
+        hourly.record(event.timestamp(), event.outcome(), event.universityId(), event.clientId());
+        daily.record(event.timestamp(), event.outcome(), event.universityId(), event.clientId());
+    }
+
+    /**
+     * @param period day (24 hourly points), week (7 daily points) or month (30 daily points)
+     */
+    public VerificationStats getStats(String period) {
+        return switch (period == null ? "month" : period.toLowerCase()) {
+            case "day" -> build("day", "hour", hourly, 24);
+            case "week" -> build("week", "day", daily, 7);
+            case "month" -> build("month", "day", daily, 30);
+            default -> throw new IllegalArgumentException("Unsupported period: " + period);
+        };
+    }
+
+    private VerificationStats build(String period, String interval, RollingWindow window, int points) {
+        long current = window.currentEpoch(System.currentTimeMillis());
+        long[] totals = new long[RollingWindow.OUTCOMES];
+        Map<String, long[]> universities = new HashMap<>();
+        Map<String, long[]> clients = new HashMap<>();
+        List<VerificationStats.Point> series = new ArrayList<>(points);
+
+        for (long epoch = current - points + 1; epoch <= current; epoch++) {
+            long[] counts = new long[RollingWindow.OUTCOMES];
+            RollingWindow.Bucket bucket = window.peek(epoch);
+            if (bucket != null) {
+                copy(bucket.counts, counts);
+                merge(bucket.byUniversity, universities);
+                merge(bucket.byClient, clients);
+            }
+            for (int i = 0; i < counts.length; i++) {
+                totals[i] += counts[i];
+            }
+            series.add(new VerificationStats.Point(epoch * window.getBucketMillis(), OutcomeCounts.of(counts)));
+        }
+
+        return VerificationStats.builder()
+                .period(period)
+                .interval(interval)
+                .totals(OutcomeCounts.of(totals))
+                .series(series)
+                .topUniversities(top(universities))
+                .topEmployers(top(clients))
+                .build();
+    }
+
+    private List<VerificationStats.KeyCount> top(Map<String, long[]> counters) {
+        return counters.entrySet().stream()
+                .map(e -> new VerificationStats.KeyCount(e.getKey(), OutcomeCounts.of(e.getValue())))
+                .sorted(Comparator.comparingLong((VerificationStats.KeyCount k) -> k.getCounts().getTotal()).reversed())
+                .limit(topN)
+                .toList();
+    }
+
+    private static void merge(Map<String, AtomicLongArray> source, Map<String, long[]> target) {
+        source.forEach((key, counter) -> {
+            long[] sum = target.computeIfAbsent(key, k -> new long[RollingWindow.OUTCOMES]);
+            for (int i = 0; i < sum.length; i++) {
+                sum[i] += counter.get(i);
+            }
+        });
+    }
+
+    private static void copy(AtomicLongArray source, long[] target) {
+        for (int i = 0; i < target.length; i++) {
+            target[i] = source.get(i);
+        }
+    }
+
+    /**
+     * Persist the daily rollups so that week/month series survive restarts
+     */
+    @Scheduled(fixedDelayString = "${verification.stats.persist-ms:300000}",
+            initialDelayString = "${verification.stats.persist-ms:300000}")
+    @PreDestroy
+    public void persist() {
+        long current = daily.currentEpoch(System.currentTimeMillis());
+        List<Rollup> rollups = new ArrayList<>();
+        for (long epoch = current - daily.size() + 1; epoch <= current; epoch++) {
+            RollingWindow.Bucket bucket = daily.peek(epoch);
+            if (bucket != null) {
+                rollups.add(Rollup.of(bucket));
+            }
+        }
+        try {
+            if (rollupFile.getParent() != null) {
+                Files.createDirectories(rollupFile.getParent());
+            }
+            Path temp = rollupFile.resolveSibling(rollupFile.getFileName() + ".tmp");
+            objectMapper.writeValue(temp.toFile(), rollups);
+            Files.move(temp, rollupFile, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            logger.debug("Persisted {} daily verification rollups", rollups.size());
+        } catch (IOException e) {
+            logger.error("Failed to persist verification rollups: {}", e.getMessage());
+        }
+    }
+
+    @PostConstruct
+    public void load() {
+        if (!Files.exists(rollupFile)) {
+            return;
+        }
+        try {
+            List<Rollup> rollups = objectMapper.readValue(rollupFile.toFile(), new TypeReference<List<Rollup>>() {});
+            rollups.forEach(rollup -> daily.restore(rollup.toBucket()));
+            logger.info("Restored {} daily verification rollups from {}", rollups.size(), rollupFile);
+        } catch (IOException e) {
+            logger.error("Failed to load verification rollups: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * Serialized form of one daily bucket
+     */
+    record Rollup(long epochDay, long[] counts, Map<String, long[]> byUniversity, Map<String, long[]> byClient) {
+
+        static Rollup of(RollingWindow.Bucket bucket) {
+            long[] counts = new long[RollingWindow.OUTCOMES];
+            copy(bucket.counts, counts);
+            Map<String, long[]> universities = new HashMap<>();
+            Map<String, long[]> clients = new HashMap<>();
+            merge(bucket.byUniversity, universities);
+            merge(bucket.byClient, clients);
+            return new Rollup(bucket.epoch, counts, universities, clients);
+        }
+
+        RollingWindow.Bucket toBucket() {
+            RollingWindow.Bucket bucket = new RollingWindow.Bucket(epochDay, counts);
+            if (byUniversity != null) {
+                byUniversity.forEach((key, value) -> bucket.byUniversity.put(key, new AtomicLongArray(value)));
+            }
+            if (byClient != null) {
+                byClient.forEach((key, value) -> bucket.byClient.put(key, new AtomicLongArray(value)));
+            }
+            return bucket;
+        }
+    }
+}
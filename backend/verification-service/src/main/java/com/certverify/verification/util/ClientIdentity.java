@@ -0,0 +1,45 @@
+package com.certverify.verification.util;
+
+import com.certverify.verification.security.JwtPrincipal;
+import jakarta.servlet.http.HttpServletRequest;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.Set;
+
+/**
+ * Identifies the calling client. Rate limits and fair-queue shares are keyed by this,
+ * so it never comes from anything the caller can choose freely.
+ */
+@Component
+public class ClientIdentity {
+
+    private final Set<String> trustedProxies;
+
+    public ClientIdentity(@Value("${verification.client-identity.trusted-proxies:}") Set<String> trustedProxies) {
+        this.trustedProxies = trustedProxies;
+    }
+
+    /**
+     * The authenticated account when a valid token was presented, otherwise the originating
+     * address. Only a connection from a trusted proxy (the gateway) may name another address,
+     * as the last X-Forwarded-For entry it appended; the portals also reach this service
+     * directly, and then the header is whatever the caller chose to send.
+     */
+    public String resolve(HttpServletRequest request) {
+        if (request.getAttribute(JwtPrincipal.ATTRIBUTE) instanceof JwtPrincipal principal) {
+            if (principal.uid() != null) {
+                return principal.uid();
+            }
+            if (principal.userId() != null) {
+                return "user-" + principal.userId();
+            }
+        }
+        String remoteAddr = request.getRemoteAddr();
+        String forwarded = request.getHeader("X-Forwarded-For");
+        if (trustedProxies.contains(remoteAddr) && forwarded != null && !forwarded.isBlank()) {
+            return forwarded.substring(forwarded.lastIndexOf(',') + 1).trim();
+        }
+        return remoteAddr;
+    }
+}
@@ -6,12 +6,36 @@ import {
   Certificate, 
   SystemHealth, 
   PaginatedResponse, 
-  ApiResponse 
+  ApiResponse,
+  UserStats
 } from '../types';
 
+// Keyset cursors of user-list pages already fetched, per filter: moving to the next page
+// continues from the previous one instead of skipping rows by offset
+const userPageCursors = new Map<string, Map<number, string>>();
+// Same for university-list pages, per page size
+const universityPageCursors = new Map<number, Map<number, string>>();
+
 export const adminService = {
   // Dashboard data
   async getDashboardStats(): Promise<DashboardStats> {
+    const stats = await this.getDashboardMockStats();
+    try {
+      // User figures come from auth-service's counters; the rest is still mock data
+      const userStats = await this.getUserStats();
+      stats.totalUsers = userStats.totalUsers;
+      stats.usersByRole = Object.entries(userStats.usersByRole).map(([role, count]) => ({
+        role: role.toLowerCase(),
+        count,
+        percentage: userStats.totalUsers > 0 ? Math.round((count / userStats.totalUsers) * 100) : 0
+      }));
+    } catch (err) {
+      console.error('Failed to load user statistics:', err);
+    }
+    return stats;
+  },
+
+  async getDashboardMockStats(): Promise<DashboardStats> {
     // Mock data for development
     return {
       totalCertificates: 1247,
@@ -80,8 +104,19 @@ export const adminService = {
     if (role && role !== 'all') {
       params.append('role', role.toUpperCase());
     }
+
+    const filterKey = `${params.get('search') ?? ''}|${params.get('role') ?? ''}|${limit}`;
+    const cursors = userPageCursors.get(filterKey) ?? new Map<number, string>();
+    userPageCursors.set(filterKey, cursors);
+    const cursor = cursors.get(page);
+    if (cursor) {
+      params.append('cursor', cursor);
+    }
     
     const response = await authApi.get<PaginatedResponse<User>>(`/admin/users?${params}`);
+    if (response.data.nextCursor) {
+      cursors.set(page + 1, response.data.nextCursor);
+    }
     return response.data;
   },
 
@@ -116,7 +151,22 @@ export const adminService = {
 
   // University management
   async getUniversities(page = 1, limit = 20): Promise<PaginatedResponse<University>> {
-    const response = await api.get<PaginatedResponse<University>>(`/universities?page=${page}&limit=${limit}`);
+    const params = new URLSearchParams({
+      page: (page - 1).toString(), // Backend expects 0-based indexing
+      limit: limit.toString()
+    });
+
+    const cursors = universityPageCursors.get(limit) ?? new Map<number, string>();
+    universityPageCursors.set(limit, cursors);
+    const cursor = cursors.get(page);
+    if (cursor) {
+      params.append('cursor', cursor);
+    }
+
+    const response = await api.get<PaginatedResponse<University>>(`/universities?${params}`);
+    if (response.data.nextCursor) {
+      cursors.set(page + 1, response.data.nextCursor);
+    }
     return response.data;
   },
 
@@ -183,8 +233,8 @@ export const adminService = {
     return response.data.data;
   },
 
-  async getUserStats(): Promise<any> {
-    const response = await api.get<ApiResponse<any>>('/admin/stats/users');
+  async getUserStats(): Promise<UserStats> {
+    const response = await authApi.get<ApiResponse<UserStats>>('/admin/stats/users');
     return response.data.data;
   },
 
@@ -14,6 +14,7 @@ export const authService = {
       
       // Store auth data
       localStorage.setItem('admin_token', userData.token);
+      localStorage.setItem('admin_refresh_token', userData.refreshToken);
       localStorage.setItem('admin_user', JSON.stringify(userData));
       
       return userData;
@@ -33,11 +34,12 @@ export const authService = {
 
   async logout(): Promise<void> {
     try {
-      await authApi.post('/auth/logout');
+      await authApi.post('/auth/logout', { refreshToken: localStorage.getItem('admin_refresh_token') });
     } catch (error) {
       // Continue with logout even if API call fails
     } finally {
       localStorage.removeItem('admin_token');
+      localStorage.removeItem('admin_refresh_token');
       localStorage.removeItem('admin_user');
     }
   },
@@ -54,6 +56,7 @@ export const authService = {
       return userData;
     } catch (error) {
       localStorage.removeItem('admin_token');
+      localStorage.removeItem('admin_refresh_token');
       localStorage.removeItem('admin_user');
       return null;
     }
@@ -67,6 +70,7 @@ export const authService = {
       const userData = JSON.parse(storedUser);
       if (userData.role !== 'ADMIN' && userData.role !== 'admin') {
         localStorage.removeItem('admin_token');
+        localStorage.removeItem('admin_refresh_token');
         localStorage.removeItem('admin_user');
         return null;
       }
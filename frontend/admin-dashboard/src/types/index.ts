@@ -78,6 +78,17 @@ export interface MonthlyData {
   verifications: number;
 }
 
+export interface UserStats {
+  totalUsers: number;
+  usersByRole: Record<string, number>;
+  verifiedUsers: number;
+  unverifiedUsers: number;
+  activeUsers: number;
+  inactiveUsers: number;
+  registrationsPerDay: Record<string, number>;
+  reconciledAt: string;
+}
+
 export interface UserRoleData {
   role: string;
   count: number;
@@ -107,6 +118,8 @@ export interface PaginatedResponse<T> {
   first: boolean;
   last: boolean;
   empty: boolean;
+  nextCursor?: string;
+  totalEstimated?: boolean;
 }
 
 export interface ApiResponse<T> {
@@ -126,4 +139,5 @@ export interface AuthUser {
   fullName: string;
   role: string;
   token: string;
+  refreshToken: string;
 }
\ No newline at end of file
@@ -31,6 +31,7 @@ const App: React.FC = () => {
       setIsAuthenticated(!!user);
     } catch (error) {
       localStorage.removeItem('employer_token');
+      localStorage.removeItem('employer_refresh_token');
       localStorage.removeItem('employer_user');
       setIsAuthenticated(false);
     }
@@ -1,4 +1,5 @@
 import axios from 'axios';
+import { clearSession, retryWithFreshToken } from './tokenRefresh';
 
 // Get token for requests
 const getToken = () => localStorage.getItem('employer_token');
@@ -23,11 +24,13 @@ authApi.interceptors.request.use((config) => {
 // Handle response errors
 authApi.interceptors.response.use(
   (response) => response,
-  (error) => {
+  async (error) => {
     if (error.response?.status === 401) {
-      // Unauthorized - clear auth data
-      localStorage.removeItem('employer_token');
-      localStorage.removeItem('employer_user');
+      const retried = await retryWithFreshToken(error, authApi);
+      if (retried) {
+        return retried;
+      }
+      clearSession();
       window.location.href = '/login';
     }
     return Promise.reject(error);
@@ -26,6 +26,7 @@ export const authService = {
       
       // Store auth data
       localStorage.setItem('employer_token', userData.token);
+      localStorage.setItem('employer_refresh_token', userData.refreshToken);
       localStorage.setItem('employer_user', JSON.stringify(userData));
       
       return userData;
@@ -103,11 +104,12 @@ export const authService = {
 
   async logout(): Promise<void> {
     try {
-      await authApi.post('/api/auth/logout');
+      await authApi.post('/api/auth/logout', { refreshToken: localStorage.getItem('employer_refresh_token') });
     } catch (error) {
       // Continue with logout even if API call fails
     } finally {
       localStorage.removeItem('employer_token');
+      localStorage.removeItem('employer_refresh_token');
       localStorage.removeItem('employer_user');
     }
   },
@@ -129,6 +131,7 @@ export const authService = {
       return userData;
     } catch (error) {
       localStorage.removeItem('employer_token');
+      localStorage.removeItem('employer_refresh_token');
       localStorage.removeItem('employer_user');
       return null;
     }
@@ -142,6 +145,7 @@ export const authService = {
       const userData = JSON.parse(storedUser);
       if (userData.role !== 'employer') {
         localStorage.removeItem('employer_token');
+        localStorage.removeItem('employer_refresh_token');
         localStorage.removeItem('employer_user');
         return null;
       }
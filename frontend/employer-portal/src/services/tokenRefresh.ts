@@ -0,0 +1,69 @@
+import axios, { AxiosError, AxiosInstance, AxiosResponse, InternalAxiosRequestConfig } from 'axios';
+
+const AUTH_API_BASE_URL = process.env.REACT_APP_AUTH_API_BASE_URL || 'http://localhost:8081';
+
+export const TOKEN_KEY = 'employer_token';
+export const REFRESH_TOKEN_KEY = 'employer_refresh_token';
+export const USER_KEY = 'employer_user';
+
+type RetriableRequest = InternalAxiosRequestConfig & { _retried?: boolean };
+
+// One refresh at a time: requests failing together all wait for the same new token
+let pendingRefresh: Promise<string | null> | null = null;
+
+/**
+ * Exchange the stored refresh token for a new access/refresh token pair.
+ * Resolves to the new access token, or null when the session cannot be renewed.
+ */
+export function refreshAccessToken(): Promise<string | null> {
+  if (!pendingRefresh) {
+    pendingRefresh = renew().finally(() => {
+      pendingRefresh = null;
+    });
+  }
+  return pendingRefresh;
+}
+
+async function renew(): Promise<string | null> {
+  const refreshToken = localStorage.getItem(REFRESH_TOKEN_KEY);
+  if (!refreshToken) {
+    return null;
+  }
+  try {
+    // Plain axios, so a failed refresh does not go through the 401 interceptors again
+    const response = await axios.post(`${AUTH_API_BASE_URL}/api/auth/refresh`, { refreshToken }, { timeout: 10000 });
+    const data = response.data?.data;
+    if (!data?.token || !data?.refreshToken) {
+      return null;
+    }
+    localStorage.setItem(TOKEN_KEY, data.token);
+    localStorage.setItem(REFRESH_TOKEN_KEY, data.refreshToken);
+    return data.token;
+  } catch {
+    return null;
+  }
+}
+
+/**
+ * After a 401, renew the access token and replay the request once.
+ * Resolves to null when the caller should end the session instead.
+ */
+export async function retryWithFreshToken(error: AxiosError, client: AxiosInstance): Promise<AxiosResponse | null> {
+  const request = error.config as RetriableRequest | undefined;
+  if (!request || request._retried || /\/auth\/(login|register|refresh)/.test(request.url || '')) {
+    return null;
+  }
+  request._retried = true;
+  const token = await refreshAccessToken();
+  if (!token) {
+    return null;
+  }
+  request.headers.Authorization = `Bearer ${token}`;
+  return client(request);
+}
+
+export function clearSession(): void {
+  localStorage.removeItem(TOKEN_KEY);
+  localStorage.removeItem(REFRESH_TOKEN_KEY);
+  localStorage.removeItem(USER_KEY);
+}
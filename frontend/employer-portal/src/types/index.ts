@@ -14,6 +14,7 @@ export interface AuthUser {
   email: string;
   role: 'employer';
   token: string;
+  refreshToken: string;
   companyName?: string;
   verified?: boolean;
 }
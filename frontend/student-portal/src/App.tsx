@@ -32,6 +32,7 @@ const App: React.FC = () => {
       setIsAuthenticated(!!user);
     } catch (error) {
       localStorage.removeItem('student_token');
+      localStorage.removeItem('student_refresh_token');
       localStorage.removeItem('student_user');
       setIsAuthenticated(false);
     }
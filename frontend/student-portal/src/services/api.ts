@@ -1,4 +1,5 @@
 import axios from 'axios';
+import { clearSession, retryWithFreshToken } from './tokenRefresh';
 
 // Create axios instance with base configuration for student portal
 export const authApi = axios.create({
@@ -28,12 +29,13 @@ authApi.interceptors.response.use(
   (response) => {
     return response;
   },
-  (error) => {
+  async (error) => {
     if (error.response?.status === 401) {
-      // Token expired or invalid, clear auth data
-      localStorage.removeItem('student_token');
-      localStorage.removeItem('student_user');
-      // Redirect to login page
+      const retried = await retryWithFreshToken(error, authApi);
+      if (retried) {
+        return retried;
+      }
+      clearSession();
       window.location.href = '/login';
     }
     return Promise.reject(error);
@@ -19,6 +19,7 @@ export const authService = {
       
       // Store auth data
       localStorage.setItem('student_token', userData.token);
+      localStorage.setItem('student_refresh_token', userData.refreshToken);
       localStorage.setItem('student_user', JSON.stringify(userData));
       
       return userData;
@@ -85,11 +86,12 @@ export const authService = {
 
   async logout(): Promise<void> {
     try {
-      await authApi.post('/auth/logout');
+      await authApi.post('/auth/logout', { refreshToken: localStorage.getItem('student_refresh_token') });
     } catch (error) {
       // Continue with logout even if API call fails
     } finally {
       localStorage.removeItem('student_token');
+      localStorage.removeItem('student_refresh_token');
       localStorage.removeItem('student_user');
     }
   },
@@ -111,6 +113,7 @@ export const authService = {
       return userData;
     } catch (error) {
       localStorage.removeItem('student_token');
+      localStorage.removeItem('student_refresh_token');
       localStorage.removeItem('student_user');
       return null;
     }
@@ -124,6 +127,7 @@ export const authService = {
       const userData = JSON.parse(storedUser);
       if (userData.role !== 'student') {
         localStorage.removeItem('student_token');
+        localStorage.removeItem('student_refresh_token');
         localStorage.removeItem('student_user');
         return null;
       }
@@ -1,5 +1,6 @@
 import axios, { AxiosResponse, AxiosError } from 'axios';
 import { Certificate, CertificateIssueRequest, CertificateUpdateRequest, CertificateRevocationRequest, FileUploadResponse } from '../types/certificate';
+import { clearSession, retryWithFreshToken } from './tokenRefresh';
 
 // API Base URL - should be configured via environment variables
 const API_BASE_URL = process.env.REACT_APP_API_URL || 'http://localhost:3003/api';
@@ -31,11 +32,13 @@ apiClient.interceptors.request.use(
 // Response interceptor for error handling
 apiClient.interceptors.response.use(
   (response) => response,
-  (error: AxiosError) => {
+  async (error: AxiosError) => {
     if (error.response?.status === 401) {
-      // Handle unauthorized access
-      localStorage.removeItem('student_token');
-      localStorage.removeItem('student_user');
+      const retried = await retryWithFreshToken(error, apiClient);
+      if (retried) {
+        return retried;
+      }
+      clearSession();
       window.location.href = '/login';
     }
     return Promise.reject(error);
@@ -20,6 +20,7 @@ export interface AuthUser {
   fullName: string;
   role: string;
   token: string;
+  refreshToken: string;
 }
 
 export interface AuthResponse {
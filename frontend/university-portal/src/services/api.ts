@@ -1,4 +1,5 @@
 import axios from 'axios';
+import { clearSession, retryWithFreshToken } from './tokenRefresh';
 
 // Auth service runs on port 8081, other services on port 3000
 const AUTH_API_BASE_URL = process.env.REACT_APP_AUTH_API_BASE_URL || 'http://localhost:8081';
@@ -43,15 +44,18 @@ authApi.interceptors.request.use((config) => {
 // Handle auth errors for main API
 api.interceptors.response.use(
   (response) => response,
-  (error) => {
+  async (error) => {
     // Handle network errors
     if (error.code === 'ECONNREFUSED' || error.code === 'ERR_NETWORK') {
       error.message = 'Unable to connect to server. Please ensure the backend services are running.';
     } else if (error.code === 'ECONNABORTED') {
       error.message = 'Request timeout. Please try again.';
     } else if (error.response?.status === 401) {
-      localStorage.removeItem('university_token');
-      localStorage.removeItem('university_user');
+      const retried = await retryWithFreshToken(error, api);
+      if (retried) {
+        return retried;
+      }
+      clearSession();
       window.location.href = '/login';
     }
     return Promise.reject(error);
@@ -61,15 +65,18 @@ api.interceptors.response.use(
 // Handle auth errors for auth API
 authApi.interceptors.response.use(
   (response) => response,
-  (error) => {
+  async (error) => {
     // Handle network errors
     if (error.code === 'ECONNREFUSED' || error.code === 'ERR_NETWORK') {
       error.message = 'Unable to connect to auth service. Please ensure the auth service is running on http://localhost:8081';
     } else if (error.code === 'ECONNABORTED') {
       error.message = 'Request timeout. Please try again.';
     } else if (error.response?.status === 401) {
-      localStorage.removeItem('university_token');
-      localStorage.removeItem('university_user');
+      const retried = await retryWithFreshToken(error, authApi);
+      if (retried) {
+        return retried;
+      }
+      clearSession();
       window.location.href = '/login';
     }
     return Promise.reject(error);
@@ -26,6 +26,7 @@ export const authService = {
       
       // Store auth data
       localStorage.setItem('university_token', userData.token);
+      localStorage.setItem('university_refresh_token', userData.refreshToken);
       localStorage.setItem('university_user', JSON.stringify(userData));
       
       return userData;
@@ -73,6 +74,7 @@ export const authService = {
       
       // Store auth data
       localStorage.setItem('university_token', userData.token);
+      localStorage.setItem('university_refresh_token', userData.refreshToken);
       localStorage.setItem('university_user', JSON.stringify(userData));
       
       return response.data;
@@ -94,11 +96,12 @@ export const authService = {
 
   async logout(): Promise<void> {
     try {
-      await authApi.post('/auth/logout');
+      await authApi.post('/auth/logout', { refreshToken: localStorage.getItem('university_refresh_token') });
     } catch (error) {
       // Continue with logout even if API call fails
     } finally {
       localStorage.removeItem('university_token');
+      localStorage.removeItem('university_refresh_token');
       localStorage.removeItem('university_user');
     }
   },
@@ -120,6 +123,7 @@ export const authService = {
       return userData;
     } catch (error) {
       localStorage.removeItem('university_token');
+      localStorage.removeItem('university_refresh_token');
       localStorage.removeItem('university_user');
       return null;
     }
@@ -133,6 +137,7 @@ export const authService = {
       const userData = JSON.parse(storedUser);
       if (userData.role !== 'university') {
         localStorage.removeItem('university_token');
+        localStorage.removeItem('university_refresh_token');
         localStorage.removeItem('university_user');
         return null;
       }
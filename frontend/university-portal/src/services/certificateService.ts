@@ -1,5 +1,6 @@
 import axios, { AxiosResponse } from 'axios';
 import { Certificate, CertificateIssueRequest, CertificateUpdateRequest, CertificateRevocationRequest, FileUploadResponse } from '../types';
+import { clearSession, retryWithFreshToken } from './tokenRefresh';
 
 // Create certificate service API instance
 const CERTIFICATE_API_BASE_URL = process.env.REACT_APP_CERTIFICATE_API_BASE_URL || 'http://localhost:3003';
@@ -29,7 +30,7 @@ certificateApi.interceptors.request.use(
 // Handle auth errors
 certificateApi.interceptors.response.use(
   (response) => response,
-  (error) => {
+  async (error) => {
     console.error('Certificate API Error:', error);
     
     // Handle network errors
@@ -38,8 +39,11 @@ certificateApi.interceptors.response.use(
     } else if (error.code === 'ECONNABORTED') {
       error.message = 'Request timeout. Please try again.';
     } else if (error.response?.status === 401) {
-      localStorage.removeItem('university_token');
-      localStorage.removeItem('university_user');
+      const retried = await retryWithFreshToken(error, certificateApi);
+      if (retried) {
+        return retried;
+      }
+      clearSession();
       window.location.href = '/login';
     } else if (error.response?.status === 500) {
       console.error('Server Error Details:', error.response.data);
@@ -0,0 +1,210 @@
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.net.URLDecoder;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Stand-in for certificate-service when load testing verification-service.
+ * <p>
+ * Serves synthetic certificates STUB00000000..STUB{count-1} with no database, with
+ * log-normally distributed latency and a configurable error rate. Numbers outside
+ * the range return 404. Also serves the change feed, so the verify-by-code index loads.
+ * <p>
+ * Run with: java CertificateServiceStub.java --port 3003 --count 100000 --latency-median-ms 15
+ *           --latency-sigma 0.6 --error-rate 0.01 --revoked-rate 0.05
+ */
+public class CertificateServiceStub {
+
+    static final String PREFIX = "STUB";
+    static final LocalDateTime ISSUED_FROM = LocalDateTime.of(2024, 1, 1, 0, 0);
+
+    private final int count;
+    private final double latencyMedianMs;
+    private final double latencySigma;
+    private final double errorRate;
+    private final double revokedRate;
+
+    private final AtomicLong served = new AtomicLong();
+    private final AtomicLong failed = new AtomicLong();
+
+    CertificateServiceStub(Map<String, String> options) {
+        this.count = Integer.parseInt(options.getOrDefault("count", "100000"));
+        this.latencyMedianMs = Double.parseDouble(options.getOrDefault("latency-median-ms", "15"));
+        this.latencySigma = Double.parseDouble(options.getOrDefault("latency-sigma", "0.5"));
+        this.errorRate = Double.parseDouble(options.getOrDefault("error-rate", "0"));
+        this.revokedRate = Double.parseDouble(options.getOrDefault("revoked-rate", "0.05"));
+    }
+
+    public static void main(String[] args) throws IOException {
+        Map<String, String> options = parse(args);
+        int port = Integer.parseInt(options.getOrDefault("port", "3003"));
+        int threads = Integer.parseInt(options.getOrDefault("threads", "1000"));
+        CertificateServiceStub stub = new CertificateServiceStub(options);
+
+        HttpServer server = HttpServer.create(new InetSocketAddress(port), 4096);
+        // Latency is simulated with sleeps, so in-flight requests each hold a thread
+        server.setExecutor(Executors.newFixedThreadPool(threads));
+        server.createContext("/api/certificates", stub::handle);
+        server.createContext("/health", exchange -> stub.respond(exchange, 200, "{\"status\":\"UP\"}"));
+        server.start();
+
+        System.out.printf("Certificate Service stub on :%d, %d certificates, median latency %.1f ms (sigma %.2f), "
+                        + "error rate %.3f%n", port, stub.count, stub.latencyMedianMs, stub.latencySigma, stub.errorRate);
+
+        Executors.newSingleThreadScheduledExecutor(r -> {
+            Thread thread = new Thread(r, "stub-stats");
+            thread.setDaemon(true);
+            return thread;
+        }).scheduleAtFixedRate(() -> System.out.printf("served=%d failed=%d%n", stub.served.get(), stub.failed.get()),
+                10, 10, TimeUnit.SECONDS);
+    }
+
+    private void handle(HttpExchange exchange) throws IOException {
+        try {
+            String path = exchange.getRequestURI().getPath();
+            String tail = path.substring("/api/certificates".length());
+
+            if (tail.equals("/changes")) {
+                Map<String, String> query = query(exchange.getRequestURI().getRawQuery());
+                respond(exchange, 200, changes(query.get("since"), Integer.parseInt(query.getOrDefault("limit", "500"))));
+                return;
+            }
+
+            sleep();
+            if (errorRate > 0 && ThreadLocalRandom.current().nextDouble() < errorRate) {
+                failed.incrementAndGet();
+                respond(exchange, 500, "{\"success\":false,\"message\":\"Injected failure\"}");
+                return;
+            }
+
+            int index = index(tail.startsWith("/") ? tail.substring(1) : tail);
+            if (index < 0) {
+                respond(exchange, 404, "{\"success\":false,\"message\":\"Certificate not found\"}");
+                return;
+            }
+            served.incrementAndGet();
+            respond(exchange, 200, certificate(index));
+        } catch (RuntimeException e) {
+            respond(exchange, 500, "{\"success\":false,\"message\":\"" + e.getClass().getSimpleName() + "\"}");
+        }
+    }
+
+    private void sleep() {
+        if (latencyMedianMs <= 0) {
+            return;
+        }
+        double millis = latencyMedianMs * Math.exp(latencySigma * ThreadLocalRandom.current().nextGaussian());
+        try {
+            TimeUnit.MICROSECONDS.sleep((long) (millis * 1000));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private int index(String certificateNumber) {
+        if (!certificateNumber.startsWith(PREFIX)) {
+            return -1;
+        }
+        try {
+            int index = Integer.parseInt(certificateNumber.substring(PREFIX.length()));
+            return index < count ? index : -1;
+        } catch (NumberFormatException e) {
+            return -1;
+        }
+    }
+
+    private String changes(String since, int limit) {
+        // Certificate i was last updated at ISSUED_FROM + i ms, so the feed is a contiguous range
+        long from = since == null ? 0 : Math.max(0, ChronoUnit.MILLIS.between(ISSUED_FROM, LocalDateTime.parse(since)));
+        StringBuilder json = new StringBuilder("[");
+        for (long i = from; i < count && i < from + limit; i++) {
+            if (i > from) {
+                json.append(',');
+            }
+            json.append(change((int) i));
+        }
+        return json.append(']').toString();
+    }
+
+    private String change(int i) {
+        return String.format("{\"certificateNumber\":\"%s\",\"verificationCode\":\"%s\",\"universityId\":\"%s\","
+                        + "\"studentName\":\"Student %d\",\"courseName\":\"Computer Science\",\"issueDate\":\"2024-06-01\","
+                        + "\"status\":\"%s\",\"updatedAt\":\"%s\"}",
+                number(i), code(i), university(i), i, status(i), ISSUED_FROM.plus(i, ChronoUnit.MILLIS));
+    }
+
+    private String certificate(int i) {
+        return String.format("{\"certificateId\":\"00000000-0000-0000-0000-%012d\",\"certificateNumber\":\"%s\","
+                        + "\"studentId\":\"STU-2024-%06d\",\"universityId\":\"%s\",\"studentName\":\"Student %d\","
+                        + "\"studentEmail\":\"student%d@example.com\",\"courseName\":\"Computer Science\","
+                        + "\"specialization\":\"AI\",\"grade\":\"A\",\"cgpa\":9.1,\"issueDate\":\"2024-06-01\","
+                        + "\"completionDate\":\"2024-05-15\",\"certificateHash\":\"%032x\",\"digitalSignature\":\"stub\","
+                        + "\"verificationCode\":\"%s\",\"status\":\"%s\"%s,\"createdAt\":\"%s\",\"updatedAt\":\"%s\"}",
+                i, number(i), i, university(i), i, i, (long) i * 2654435761L, code(i), status(i),
+                "REVOKED".equals(status(i)) ? ",\"revocationReason\":\"Synthetic revocation\"" : "",
+                ISSUED_FROM, ISSUED_FROM.plus(i, ChronoUnit.MILLIS));
+    }
+
+    static String number(int i) {
+        return String.format("%s%08d", PREFIX, i);
+    }
+
+    /**
+     * Deterministic verification code, mirrored by VerificationLoadDriver
+     */
+    static String code(int i) {
+        return String.format("%06x", (i * 2654435761L) & 0xffffff);
+    }
+
+    private String university(int i) {
+        return String.format("UNI-2024-%03d", i % 50);
+    }
+
+    private String status(int i) {
+        // Spread revocations evenly instead of randomly, so every run sees the same data
+        return (i % 1000) < revokedRate * 1000 ? "REVOKED" : "ACTIVE";
+    }
+
+    private void respond(HttpExchange exchange, int status, String body) throws IOException {
+        byte[] bytes = body.getBytes(StandardCharsets.UTF_8);
+        exchange.getResponseHeaders().set("Content-Type", "application/json");
+        exchange.sendResponseHeaders(status, bytes.length);
+        try (OutputStream out = exchange.getResponseBody()) {
+            out.write(bytes);
+        }
+    }
+
+    private static Map<String, String> query(String rawQuery) {
+        Map<String, String> params = new HashMap<>();
+        if (rawQuery == null) {
+            return params;
+        }
+        for (String pair : rawQuery.split("&")) {
+            int eq = pair.indexOf('=');
+            if (eq > 0) {
+                params.put(pair.substring(0, eq), URLDecoder.decode(pair.substring(eq + 1), StandardCharsets.UTF_8));
+            }
+        }
+        return params;
+    }
+
+    static Map<String, String> parse(String[] args) {
+        Map<String, String> options = new HashMap<>();
+        for (int i = 0; i + 1 < args.length; i += 2) {
+            options.put(args[i].replaceFirst("^--", ""), args[i + 1]);
+        }
+        return options;
+    }
+}
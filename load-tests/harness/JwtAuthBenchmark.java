@@ -0,0 +1,114 @@
+import com.studentcert.auth.model.SigningKey;
+import com.studentcert.auth.model.User;
+import com.studentcert.auth.model.UserRole;
+import com.studentcert.auth.repository.SigningKeyRepository;
+import com.studentcert.auth.security.SigningKeyService;
+import com.studentcert.auth.service.JwtService;
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.Jwts;
+
+import java.lang.management.ManagementFactory;
+import java.lang.reflect.Proxy;
+import java.security.Key;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Token verification cost per authenticated request: ns/op and bytes allocated/op for
+ * <ul>
+ *     <li>rebuild-x3: key and parser rebuilt on every call, token parsed three times
+ *     (username, role, userId), as JwtUtil did before</li>
+ *     <li>parse-once: pre-built parser, one RS256 check per request, claims cache disabled</li>
+ *     <li>cached: repeated token served from the verified-claims cache</li>
+ * </ul>
+ * Runs against auth-service's compiled classes, with signing keys held in memory
+ * instead of the database; see run-jwt-benchmark.sh.
+ */
+public class JwtAuthBenchmark {
+
+    private static final String SECRET = "mySecretKey123456789012345678901234567890";
+    private static final int WARMUP = 100_000;
+    private static final int ITERATIONS = 500_000;
+
+    private static volatile Object sink;
+    private static Key publicKey;
+
+    public static void main(String[] args) {
+        SigningKeyService signingKeys = new SigningKeyService(inMemoryKeyRepository(), 604_800_000L, 900_000L, 86_400_000L);
+        signingKeys.init();
+        publicKey = signingKeys.signingKey().publicKey();
+
+        JwtService uncached = new JwtService(signingKeys, SECRET, true, 86_400_000L, 604_800_000L, 0, 0);
+        JwtService cached = new JwtService(signingKeys, SECRET, true, 86_400_000L, 604_800_000L, 10_000, 60_000);
+
+        User user = User.builder()
+                .id(42L)
+                .email("registrar@example.edu")
+                .fullName("Example University")
+                .role(UserRole.UNIVERSITY)
+                .isActive(true)
+                .isVerified(true)
+                .build();
+        String token = uncached.generateToken(user);
+
+        System.out.printf("%-11s %12s %14s%n", "case", "ns/op", "bytes alloc/op");
+        measure("rebuild-x3", i -> {
+            String email = rebuildAndParse(token).getSubject();
+            String role = rebuildAndParse(token).get("role", String.class);
+            Object userId = rebuildAndParse(token).get("userId");
+            return email.length() + role.length() + userId.hashCode();
+        });
+        measure("parse-once", i -> uncached.parse(token));
+        measure("cached", i -> cached.parse(token));
+    }
+
+    private static Claims rebuildAndParse(String token) {
+        return Jwts.parserBuilder()
+                .setSigningKey(publicKey)
+                .build()
+                .parseClaimsJws(token)
+                .getBody();
+    }
+
+    /**
+     * Just enough of SigningKeyRepository for SigningKeyService: keys are saved to and listed from a list
+     */
+    private static SigningKeyRepository inMemoryKeyRepository() {
+        List<SigningKey> keys = new ArrayList<>();
+        return (SigningKeyRepository) Proxy.newProxyInstance(
+                SigningKeyRepository.class.getClassLoader(),
+                new Class<?>[]{SigningKeyRepository.class},
+                (proxy, method, args) -> switch (method.getName()) {
+                    case "save" -> {
+                        keys.add(0, (SigningKey) args[0]);
+                        yield args[0];
+                    }
+                    case "findAllByOrderByActivatesAtDesc" -> new ArrayList<>(keys);
+                    case "delete" -> keys.remove(args[0]);
+                    default -> throw new UnsupportedOperationException(method.getName());
+                });
+    }
+
+    private static void measure(String name, Op op) {
+        com.sun.management.ThreadMXBean threads = (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        long thread = Thread.currentThread().getId();
+
+        for (int i = 0; i < WARMUP; i++) {
+            sink = op.run(i);
+        }
+        long allocatedBefore = threads.getThreadAllocatedBytes(thread);
+        long start = System.nanoTime();
+        for (int i = 0; i < ITERATIONS; i++) {
+            sink = op.run(i);
+        }
+        long elapsed = System.nanoTime() - start;
+        long allocated = threads.getThreadAllocatedBytes(thread) - allocatedBefore;
+
+        System.out.printf("%-11s %12.1f %14d%n", name, (double) elapsed / ITERATIONS, allocated / ITERATIONS);
+    }
+
+    @FunctionalInterface
+    private interface Op {
+        Object run(int i);
+    }
+}
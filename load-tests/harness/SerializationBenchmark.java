@@ -0,0 +1,119 @@
+import com.certverify.verification.dto.VerificationResponse;
+import com.certverify.verification.model.Certificate;
+import com.certverify.verification.model.VerificationOutcome;
+import com.certverify.verification.model.VerificationResult;
+import com.certverify.verification.service.VerificationResponseCache;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+import java.lang.management.ManagementFactory;
+import java.time.LocalDateTime;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Serialization cost per verification response, before and after the lean,
+ * pre-serialized responses: ns/op, bytes allocated/op and payload size for
+ * <ul>
+ *     <li>full: Jackson over VerificationResponse with the whole Certificate (previous behaviour)</li>
+ *     <li>lean-miss: projection built and serialized (first hit, or non-cacheable outcome)</li>
+ *     <li>lean-hit: projection built and compared, cached bytes reused (steady state)</li>
+ * </ul>
+ * Runs against the service's compiled classes; see run-serialization-benchmark.sh.
+ */
+public class SerializationBenchmark {
+
+    private static final int WARMUP = 200_000;
+    private static final int ITERATIONS = 1_000_000;
+
+    private static volatile Object sink;
+
+    public static void main(String[] args) throws Exception {
+        ObjectMapper objectMapper = new ObjectMapper();
+        objectMapper.registerModule(new JavaTimeModule());
+
+        VerificationResponseCache cache = new VerificationResponseCache(objectMapper, new SimpleMeterRegistry(), 1000);
+
+        // Distinct certificate numbers defeat the cache, giving the miss path
+        VerificationResponseCache uncached = new VerificationResponseCache(objectMapper, new SimpleMeterRegistry(), 0);
+        VerificationResult[] distinct = new VerificationResult[1024];
+        for (int i = 0; i < distinct.length; i++) {
+            distinct[i] = result(String.format("A%07d", i));
+        }
+        VerificationResult hot = result("A1B2C3D4");
+
+        System.out.printf("%-10s %12s %14s %12s%n", "case", "ns/op", "bytes alloc/op", "payload B");
+        measure("full", objectMapper.writeValueAsBytes(full(hot)).length, i -> {
+            try {
+                return objectMapper.writeValueAsBytes(full(hot));
+            } catch (Exception e) {
+                throw new IllegalStateException(e);
+            }
+        });
+        measure("lean-miss", cache.render(hot).body().length, i -> uncached.render(distinct[i & 1023]).body());
+        measure("lean-hit", cache.render(hot).body().length, i -> cache.render(hot).body());
+    }
+
+    private static VerificationResponse full(VerificationResult result) {
+        return VerificationResponse.builder()
+                .success(true)
+                .data(result)
+                .message("Certificate verified successfully")
+                .build();
+    }
+
+    private static VerificationResult result(String certificateNumber) {
+        Certificate certificate = new Certificate();
+        certificate.setCertificateId("550e8400-e29b-41d4-a716-446655440000");
+        certificate.setCertificateNumber(certificateNumber);
+        certificate.setStudentId("STU-2024-000123");
+        certificate.setUniversityId("UNI-2024-001");
+        certificate.setStudentName("Alice Example");
+        certificate.setStudentEmail("alice@example.com");
+        certificate.setCourseName("Computer Science");
+        certificate.setSpecialization("Artificial Intelligence");
+        certificate.setGrade("A");
+        certificate.setCgpa(9.2);
+        certificate.setIssueDate("2024-06-01");
+        certificate.setCompletionDate("2024-05-15");
+        certificate.setCertificateHash("9f86d081884c7d659a2feaa0c55ad015a3bf4f1b2b0b822cd15d6c15b0f00a08");
+        certificate.setDigitalSignature("MEUCIQDx7Yh6nC3b1lY0k1bq3J9S0g2x4n0m6p9r8s7t6u5v4wIgY2xX9p0q1r2s3t4u5v6w7x8y9z0a1b2c3d4e5f6g7h8i9j0");
+        certificate.setVerificationCode("9f3c2e");
+        certificate.setPdfPath("/var/certificates/pdf/" + certificateNumber + ".pdf");
+        certificate.setStatus("ACTIVE");
+        certificate.setCreatedAt("2024-06-01T10:15:30");
+        certificate.setUpdatedAt("2024-06-01T10:15:30");
+        return VerificationResult.builder()
+                .valid(true)
+                .certificate(certificate)
+                .verificationMethod("certificateNumber")
+                .timestamp(LocalDateTime.now())
+                .reason("Certificate is valid and active")
+                .outcome(VerificationOutcome.VALID)
+                .build();
+    }
+
+    private static void measure(String name, int payloadBytes, Op op) {
+        com.sun.management.ThreadMXBean threads = (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        long thread = Thread.currentThread().getId();
+
+        for (int i = 0; i < WARMUP; i++) {
+            sink = op.run(i);
+        }
+        long allocatedBefore = threads.getThreadAllocatedBytes(thread);
+        long start = System.nanoTime();
+        for (int i = 0; i < ITERATIONS; i++) {
+            sink = op.run(i);
+        }
+        long elapsed = System.nanoTime() - start;
+        long allocated = threads.getThreadAllocatedBytes(thread) - allocatedBefore;
+
+        System.out.printf("%-10s %12.1f %14d %12d%n", name, (double) elapsed / ITERATIONS,
+                allocated / ITERATIONS, payloadBytes);
+    }
+
+    @FunctionalInterface
+    private interface Op {
+        Object run(int i);
+    }
+}
@@ -0,0 +1,139 @@
+import com.studentcert.auth.model.UserRole;
+import com.studentcert.auth.service.UidBlockAllocator;
+import com.studentcert.auth.service.UidGenerationService;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * UID allocations per second under concurrency, for
+ * <ul>
+ *     <li>legacy: synchronized generateUid with a LIKE count plus an existsByUid check per UID,
+ *     as UidGenerationService did before</li>
+ *     <li>block: hi/lo allocation from blocks reserved in uid_sequences, with two instances
+ *     sharing one sequence to show their UIDs never collide</li>
+ * </ul>
+ * Database round trips are simulated with a fixed sleep (--db-latency-ms), so the numbers show
+ * how much of the registration path is serialized, not Postgres throughput.
+ * Runs against auth-service's compiled classes; see run-uid-benchmark.sh.
+ */
+public class UidAllocationBenchmark {
+
+    private static final int[] THREADS = {1, 8, 32};
+
+    public static void main(String[] args) throws Exception {
+        long dbLatencyMicros = (long) (Double.parseDouble(arg(args, "--db-latency-ms", "1")) * 1000);
+        int durationSeconds = Integer.parseInt(arg(args, "--duration", "5"));
+        int blockSize = Integer.parseInt(arg(args, "--block-size", "50"));
+
+        System.out.printf("%-7s %8s %14s %12s%n", "case", "threads", "uids/sec", "duplicates");
+        for (int threads : THREADS) {
+            LegacyGenerator legacy = new LegacyGenerator(dbLatencyMicros);
+            run("legacy", threads, durationSeconds, i -> legacy.generateUid(UserRole.STUDENT));
+        }
+        for (int threads : THREADS) {
+            SimulatedAllocator allocator = new SimulatedAllocator(dbLatencyMicros);
+            UidGenerationService[] instances = {
+                    new UidGenerationService(allocator, blockSize),
+                    new UidGenerationService(allocator, blockSize)
+            };
+            run("block", threads, durationSeconds, i -> instances[i % 2].generateUid(UserRole.STUDENT));
+        }
+    }
+
+    private static void run(String name, int threads, int durationSeconds, Generator generator) throws InterruptedException {
+        Set<String> issued = ConcurrentHashMap.newKeySet();
+        LongAdder generated = new LongAdder();
+        LongAdder duplicates = new LongAdder();
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(durationSeconds);
+        CountDownLatch done = new CountDownLatch(threads);
+
+        List<Thread> workers = new ArrayList<>();
+        for (int t = 0; t < threads; t++) {
+            int worker = t;
+            workers.add(new Thread(() -> {
+                while (System.nanoTime() < deadline) {
+                    if (!issued.add(generator.next(worker))) {
+                        duplicates.increment();
+                    }
+                    generated.increment();
+                }
+                done.countDown();
+            }));
+        }
+        long start = System.nanoTime();
+        workers.forEach(Thread::start);
+        done.await();
+        double seconds = (System.nanoTime() - start) / 1e9;
+
+        System.out.printf("%-7s %8d %14.0f %12d%n", name, threads, generated.sum() / seconds, duplicates.sum());
+    }
+
+    private static void simulateRoundTrip(long micros) {
+        if (micros > 0) {
+            try {
+                TimeUnit.MICROSECONDS.sleep(micros);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+
+    private static String arg(String[] args, String name, String fallback) {
+        for (int i = 0; i < args.length - 1; i++) {
+            if (args[i].equals(name)) {
+                return args[i + 1];
+            }
+        }
+        return fallback;
+    }
+
+    /**
+     * The uid_sequences row, shared by every instance, with one simulated round trip per block
+     */
+    private static final class SimulatedAllocator extends UidBlockAllocator {
+        private final ConcurrentHashMap<String, AtomicLong> sequences = new ConcurrentHashMap<>();
+        private final long latencyMicros;
+
+        SimulatedAllocator(long latencyMicros) {
+            this.latencyMicros = latencyMicros;
+        }
+
+        @Override
+        public long allocate(String sequence, int blockSize) {
+            simulateRoundTrip(latencyMicros);
+            return sequences.computeIfAbsent(sequence, s -> new AtomicLong(1)).getAndAdd(blockSize);
+        }
+    }
+
+    /**
+     * The previous algorithm: under one lock, count matching UIDs, then check the result is unused
+     */
+    private static final class LegacyGenerator {
+        private final Set<String> table = ConcurrentHashMap.newKeySet();
+        private final long latencyMicros;
+
+        LegacyGenerator(long latencyMicros) {
+            this.latencyMicros = latencyMicros;
+        }
+
+        synchronized String generateUid(UserRole role) {
+            simulateRoundTrip(latencyMicros); // countByUidStartingWith
+            String uid = String.format("STU-%d-%03d", 2025, table.size() + 1);
+            simulateRoundTrip(latencyMicros); // existsByUid
+            table.add(uid);
+            return uid;
+        }
+    }
+
+    @FunctionalInterface
+    private interface Generator {
+        String next(int worker);
+    }
+}
@@ -0,0 +1,227 @@
+import org.HdrHistogram.Histogram;
+import org.HdrHistogram.Recorder;
+
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.PrintStream;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Open-loop load driver for verification-service.
+ * <p>
+ * Sends requests at a fixed target rate regardless of how fast responses come back,
+ * and measures latency from each request's intended send time, so queueing delay is
+ * not hidden (no coordinated omission). Latencies are recorded in an HdrHistogram.
+ * <p>
+ * Scenarios: verify (GET /api/verify/{n}), verify-post, bulk (POST /api/verify/bulk),
+ * code (GET /api/verify/code/{n}/{code}) and mixed. Certificate numbers match
+ * CertificateServiceStub; --miss-rate sends unknown numbers.
+ * <p>
+ * Run with: java -cp HdrHistogram.jar VerificationLoadDriver.java --target http://localhost:3004
+ *           --scenario mixed --rps 500 --duration 60 --warmup 10 --max-p99-ms 50
+ */
+public class VerificationLoadDriver {
+
+    private final HttpClient client;
+    private final String target;
+    private final String scenario;
+    private final int certificateCount;
+    private final int bulkSize;
+    private final double missRate;
+    private final int maxInFlight;
+
+    private final Recorder recorder = new Recorder(TimeUnit.MINUTES.toMicros(1), 3);
+    private final AtomicInteger inFlight = new AtomicInteger();
+    private final LongAdder completed = new LongAdder();
+    private final LongAdder errors = new LongAdder();
+    private final LongAdder dropped = new LongAdder();
+    private final Map<Integer, LongAdder> statuses = new ConcurrentHashMap<>();
+
+    VerificationLoadDriver(Map<String, String> options) {
+        this.target = options.getOrDefault("target", "http://localhost:3004");
+        this.scenario = options.getOrDefault("scenario", "mixed");
+        this.certificateCount = Integer.parseInt(options.getOrDefault("count", "100000"));
+        this.bulkSize = Integer.parseInt(options.getOrDefault("bulk-size", "50"));
+        this.missRate = Double.parseDouble(options.getOrDefault("miss-rate", "0.01"));
+        this.maxInFlight = Integer.parseInt(options.getOrDefault("max-in-flight", "20000"));
+        this.client = HttpClient.newBuilder()
+                .connectTimeout(Duration.ofSeconds(2))
+                .executor(Executors.newFixedThreadPool(Integer.parseInt(options.getOrDefault("threads", "16"))))
+                .build();
+    }
+
+    public static void main(String[] args) throws Exception {
+        Map<String, String> options = parse(args);
+        int rps = Integer.parseInt(options.getOrDefault("rps", "200"));
+        int duration = Integer.parseInt(options.getOrDefault("duration", "60"));
+        int warmup = Integer.parseInt(options.getOrDefault("warmup", "10"));
+        double maxP99Ms = Double.parseDouble(options.getOrDefault("max-p99-ms", "0"));
+        String histogramFile = options.get("hgrm");
+
+        VerificationLoadDriver driver = new VerificationLoadDriver(options);
+        System.out.printf("Driving %s at %d req/s: %ds warm-up, %ds measured%n", driver.scenario, rps, warmup, duration);
+
+        Histogram histogram = driver.run(rps, warmup, duration);
+        boolean passed = driver.report(histogram, duration, maxP99Ms);
+
+        if (histogramFile != null) {
+            try (PrintStream out = new PrintStream(new FileOutputStream(histogramFile))) {
+                histogram.outputPercentileDistribution(out, 1000.0);
+            }
+        }
+        System.exit(passed ? 0 : 1);
+    }
+
+    private Histogram run(int rps, int warmupSeconds, int durationSeconds) throws InterruptedException {
+        long periodNanos = TimeUnit.SECONDS.toNanos(1) / rps;
+        long start = System.nanoTime();
+        long measureFrom = start + TimeUnit.SECONDS.toNanos(warmupSeconds);
+        long end = measureFrom + TimeUnit.SECONDS.toNanos(durationSeconds);
+        AtomicLong sequence = new AtomicLong();
+
+        ScheduledExecutorService ticker = Executors.newSingleThreadScheduledExecutor();
+        ticker.scheduleAtFixedRate(() -> {
+            // Catch up on every send that was due, even if the ticker itself was delayed
+            long now = System.nanoTime();
+            long due = (now - start) / periodNanos;
+            for (long n = sequence.get(); n <= due; n = sequence.incrementAndGet()) {
+                long intended = start + n * periodNanos;
+                if (intended >= end) {
+                    return;
+                }
+                send(intended, intended >= measureFrom);
+            }
+        }, 0, Math.max(periodNanos, TimeUnit.MILLISECONDS.toNanos(1)), TimeUnit.NANOSECONDS);
+
+        TimeUnit.NANOSECONDS.sleep(end - System.nanoTime());
+        ticker.shutdownNow();
+        // Give stragglers a moment so they are counted rather than silently lost
+        long drainUntil = System.nanoTime() + TimeUnit.SECONDS.toNanos(10);
+        while (inFlight.get() > 0 && System.nanoTime() < drainUntil) {
+            TimeUnit.MILLISECONDS.sleep(50);
+        }
+        return recorder.getIntervalHistogram();
+    }
+
+    private void send(long intendedNanos, boolean measured) {
+        if (inFlight.get() >= maxInFlight) {
+            if (measured) {
+                dropped.increment();
+            }
+            return;
+        }
+        inFlight.incrementAndGet();
+        client.sendAsync(request(), HttpResponse.BodyHandlers.discarding())
+                .whenComplete((response, failure) -> {
+                    inFlight.decrementAndGet();
+                    if (!measured) {
+                        return;
+                    }
+                    long micros = TimeUnit.NANOSECONDS.toMicros(System.nanoTime() - intendedNanos);
+                    recorder.recordValue(Math.min(micros, TimeUnit.MINUTES.toMicros(1)));
+                    completed.increment();
+                    if (failure != null) {
+                        errors.increment();
+                    } else {
+                        statuses.computeIfAbsent(response.statusCode(), s -> new LongAdder()).increment();
+                        if (response.statusCode() >= 500) {
+                            errors.increment();
+                        }
+                    }
+                });
+    }
+
+    private HttpRequest request() {
+        String kind = scenario;
+        if ("mixed".equals(kind)) {
+            int roll = ThreadLocalRandom.current().nextInt(100);
+            kind = roll < 50 ? "verify" : roll < 75 ? "code" : roll < 95 ? "verify-post" : "bulk";
+        }
+        HttpRequest.Builder builder = HttpRequest.newBuilder().timeout(Duration.ofSeconds(30))
+                .header("X-Client-Id", "load-driver");
+        int i = randomIndex();
+        return switch (kind) {
+            case "verify" -> builder.uri(URI.create(target + "/api/verify/" + number(i))).GET().build();
+            case "code" -> builder.uri(URI.create(target + "/api/verify/code/" + number(i) + "/" + code(i))).GET().build();
+            case "verify-post" -> builder.uri(URI.create(target + "/api/verify"))
+                    .header("Content-Type", "application/json")
+                    .POST(HttpRequest.BodyPublishers.ofString("{\"certificateNumber\":\"" + number(i) + "\"}"))
+                    .build();
+            case "bulk" -> builder.uri(URI.create(target + "/api/verify/bulk"))
+                    .header("Content-Type", "application/json")
+                    .POST(HttpRequest.BodyPublishers.ofString(bulkBody()))
+                    .build();
+            default -> throw new IllegalArgumentException("Unknown scenario: " + kind);
+        };
+    }
+
+    private String bulkBody() {
+        StringBuilder json = new StringBuilder("{\"certificates\":[");
+        for (int k = 0; k < bulkSize; k++) {
+            if (k > 0) {
+                json.append(',');
+            }
+            json.append("{\"certificateNumber\":\"").append(number(randomIndex())).append("\"}");
+        }
+        return json.append("]}").toString();
+    }
+
+    private int randomIndex() {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        // Indexes past the stub's range are unknown certificates
+        return random.nextDouble() < missRate ? certificateCount + random.nextInt(1_000_000) : random.nextInt(certificateCount);
+    }
+
+    private boolean report(Histogram histogram, int durationSeconds, double maxP99Ms) {
+        System.out.println();
+        System.out.printf("requests     %d (%.1f req/s), errors %d, dropped (max in-flight) %d%n",
+                completed.sum(), completed.sum() / (double) durationSeconds, errors.sum(), dropped.sum());
+        System.out.printf("status codes %s%n", statuses);
+        System.out.printf("latency ms   p50=%.2f p90=%.2f p99=%.2f p99.9=%.2f max=%.2f%n",
+                ms(histogram, 50), ms(histogram, 90), ms(histogram, 99), ms(histogram, 99.9),
+                histogram.getMaxValue() / 1000.0);
+
+        if (maxP99Ms > 0 && ms(histogram, 99) > maxP99Ms) {
+            System.out.printf("FAIL: p99 %.2f ms exceeds budget of %.2f ms%n", ms(histogram, 99), maxP99Ms);
+            return false;
+        }
+        return true;
+    }
+
+    private static double ms(Histogram histogram, double percentile) {
+        return histogram.getValueAtPercentile(percentile) / 1000.0;
+    }
+
+    private static String number(int i) {
+        return String.format("STUB%08d", i);
+    }
+
+    /**
+     * Same derivation as CertificateServiceStub.code
+     */
+    private static String code(int i) {
+        return String.format("%06x", (i * 2654435761L) & 0xffffff);
+    }
+
+    private static Map<String, String> parse(String[] args) {
+        Map<String, String> options = new HashMap<>();
+        for (int i = 0; i + 1 < args.length; i += 2) {
+            options.put(args[i].replaceFirst("^--", ""), args[i + 1]);
+        }
+        return options;
+    }
+}
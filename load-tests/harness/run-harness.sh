@@ -0,0 +1,57 @@
+#!/usr/bin/env bash
+# Load-test verification-service on one box without certificate-service or Postgres.
+#
+# 1. Starts CertificateServiceStub (synthetic certificates, configurable latency/errors)
+# 2. Starts verification-service pointed at the stub, with Eureka disabled
+# 3. Runs VerificationLoadDriver at a fixed rate and prints HdrHistogram percentiles
+#
+# Exits non-zero if p99 exceeds MAX_P99_MS, so it can gate a deploy.
+#
+# Usage: RPS=500 SCENARIO=mixed ./run-harness.sh
+#        STUB_LATENCY_MS=30 STUB_ERROR_RATE=0.05 ./run-harness.sh   # degraded dependency
+# Requires: JDK 17+, Maven (to fetch HdrHistogram), curl, a built verification-service jar.
+
+set -euo pipefail
+
+cd "$(dirname "$0")"
+
+JAR=${JAR:-../../backend/verification-service/target/verification-service-1.0.0.jar}
+STUB_PORT=${STUB_PORT:-3903}
+SERVICE_PORT=${SERVICE_PORT:-3904}
+COUNT=${COUNT:-100000}
+RPS=${RPS:-200}
+DURATION=${DURATION:-60}
+WARMUP=${WARMUP:-15}
+SCENARIO=${SCENARIO:-mixed}
+MAX_P99_MS=${MAX_P99_MS:-0}
+OUT=${OUT:-./results}
+HDR_VERSION=2.1.12
+HDR_JAR=$HOME/.m2/repository/org/hdrhistogram/HdrHistogram/$HDR_VERSION/HdrHistogram-$HDR_VERSION.jar
+
+mkdir -p "$OUT"
+if [ ! -f "$HDR_JAR" ]; then
+  mvn -q dependency:get -Dartifact=org.hdrhistogram:HdrHistogram:$HDR_VERSION
+fi
+
+pids=()
+cleanup() { kill "${pids[@]}" 2>/dev/null || true; }
+trap cleanup EXIT
+
+java CertificateServiceStub.java --port "$STUB_PORT" --count "$COUNT" \
+  --latency-median-ms "${STUB_LATENCY_MS:-15}" --latency-sigma "${STUB_LATENCY_SIGMA:-0.5}" \
+  --error-rate "${STUB_ERROR_RATE:-0}" --revoked-rate "${STUB_REVOKED_RATE:-0.05}" > "$OUT/stub.log" 2>&1 &
+pids+=($!)
+
+CERTIFICATE_SERVICE_URL=http://localhost:$STUB_PORT \
+AUDIT_LOG_DIR="$OUT/audit-log" \
+STATS_ROLLUP_FILE="$OUT/stats/daily-rollups.json" \
+java ${JAVA_OPTS:-} -jar "$JAR" --server.port="$SERVICE_PORT" --eureka.client.enabled=false \
+  --logging.level.com.certverify=INFO > "$OUT/verification-service.log" 2>&1 &
+pids+=($!)
+
+until curl -sf "http://localhost:$SERVICE_PORT/actuator/health" > /dev/null; do sleep 1; done
+
+java -cp "$HDR_JAR" VerificationLoadDriver.java --target "http://localhost:$SERVICE_PORT" \
+  --scenario "$SCENARIO" --rps "$RPS" --duration "$DURATION" --warmup "$WARMUP" --count "$COUNT" \
+  --bulk-size "${BULK_SIZE:-50}" --miss-rate "${MISS_RATE:-0.01}" --max-p99-ms "$MAX_P99_MS" \
+  --hgrm "$OUT/$SCENARIO-$RPS.hgrm"
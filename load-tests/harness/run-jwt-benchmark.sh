@@ -0,0 +1,18 @@
+#!/usr/bin/env bash
+# Token verification microbenchmark for auth-service (rebuilt parser vs pre-built vs cached claims).
+# Compiles auth-service and runs JwtAuthBenchmark on its classpath.
+#
+# Usage: ./run-jwt-benchmark.sh
+# Requires: JDK 17+, Maven.
+
+set -euo pipefail
+
+cd "$(dirname "$0")"
+
+SERVICE=../../backend/auth-service
+CLASSPATH_FILE=$(mktemp)
+trap 'rm -f "$CLASSPATH_FILE"' EXIT
+
+mvn -q -f "$SERVICE/pom.xml" compile dependency:build-classpath -Dmdep.outputFile="$CLASSPATH_FILE"
+
+java -Xms1g -Xmx1g -XX:+UseParallelGC -cp "$SERVICE/target/classes:$(cat "$CLASSPATH_FILE")" JwtAuthBenchmark.java
@@ -0,0 +1,18 @@
+#!/usr/bin/env bash
+# Serialization microbenchmark for verification responses (full vs lean vs cached bytes).
+# Compiles verification-service and runs SerializationBenchmark on its classpath.
+#
+# Usage: ./run-serialization-benchmark.sh
+# Requires: JDK 17+, Maven.
+
+set -euo pipefail
+
+cd "$(dirname "$0")"
+
+SERVICE=../../backend/verification-service
+CLASSPATH_FILE=$(mktemp)
+trap 'rm -f "$CLASSPATH_FILE"' EXIT
+
+mvn -q -f "$SERVICE/pom.xml" compile dependency:build-classpath -Dmdep.outputFile="$CLASSPATH_FILE"
+
+java -Xms1g -Xmx1g -XX:+UseParallelGC -cp "$SERVICE/target/classes:$(cat "$CLASSPATH_FILE")" SerializationBenchmark.java
@@ -0,0 +1,18 @@
+#!/usr/bin/env bash
+# UID allocation throughput for auth-service (synchronized count-based vs hi/lo blocks).
+# Compiles auth-service and runs UidAllocationBenchmark on its classpath.
+#
+# Usage: ./run-uid-benchmark.sh [--db-latency-ms 1] [--duration 5] [--block-size 50]
+# Requires: JDK 17+, Maven.
+
+set -euo pipefail
+
+cd "$(dirname "$0")"
+
+SERVICE=../../backend/auth-service
+CLASSPATH_FILE=$(mktemp)
+trap 'rm -f "$CLASSPATH_FILE"' EXIT
+
+mvn -q -f "$SERVICE/pom.xml" compile dependency:build-classpath -Dmdep.outputFile="$CLASSPATH_FILE"
+
+java -Xms1g -Xmx1g -XX:+UseParallelGC -cp "$SERVICE/target/classes:$(cat "$CLASSPATH_FILE")" UidAllocationBenchmark.java "$@"
@@ -0,0 +1,55 @@
+#!/usr/bin/env bash
+# A/B load test of the blocking and reactive verification modes.
+#
+# Starts verification-service once per mode against the same Certificate Service,
+# drives it with verification-load.yaml at a fixed arrival rate, and samples
+# live threads and used heap from the actuator while the load runs. Latency
+# percentiles (p50/p95/p99) come from the Artillery report.
+#
+# Usage: ARRIVAL_RATE=200 ./verification-ab.sh
+# Requires: artillery, curl, jq and a built verification-service jar.
+
+set -euo pipefail
+
+cd "$(dirname "$0")"
+
+JAR=${JAR:-../backend/verification-service/target/verification-service-1.0.0.jar}
+PORT=${PORT:-3004}
+export ARRIVAL_RATE=${ARRIVAL_RATE:-200}
+OUT=${OUT:-./results}
+mkdir -p "$OUT"
+
+metric() {
+  curl -s "http://localhost:$PORT/actuator/metrics/$1" | jq -r '.measurements[0].value'
+}
+
+run_mode() {
+  local mode=$1
+  echo "=== verification.mode=$mode, $ARRIVAL_RATE req/s ==="
+
+  VERIFICATION_MODE=$mode java -jar "$JAR" --server.port="$PORT" > "$OUT/$mode.log" 2>&1 &
+  local pid=$!
+  trap 'kill $pid 2>/dev/null || true' RETURN
+
+  until curl -sf "http://localhost:$PORT/actuator/health" > /dev/null; do sleep 1; done
+
+  artillery run --output "$OUT/$mode.json" verification-load.yaml > /dev/null &
+  local load=$!
+
+  echo "time,threads,heapBytes" > "$OUT/$mode-resources.csv"
+  while kill -0 "$load" 2>/dev/null; do
+    echo "$(date +%s),$(metric jvm.threads.live),$(metric 'jvm.memory.used?tag=area:heap')" >> "$OUT/$mode-resources.csv"
+    sleep 5
+  done
+  wait "$load"
+
+  jq -r '.aggregate.summaries["http.response_time"] | "latency ms: p50=\(.p50) p95=\(.p95) p99=\(.p99) max=\(.max)"' "$OUT/$mode.json"
+  awk -F, 'NR > 1 { if ($2 > t) t = $2; if ($3 > h) h = $3 } END { printf "peak threads=%d peak heap=%.0f MB\n", t, h / 1048576 }' \
+    "$OUT/$mode-resources.csv"
+
+  kill "$pid"
+  wait "$pid" 2>/dev/null || true
+}
+
+run_mode blocking
+run_mode reactive